@@ -9,16 +9,42 @@ import org.slf4j.LoggerFactory;
 import obviouslymisfit.cursed.config.ConfigManager;
 import obviouslymisfit.cursed.config.DebugConfig;
 
+import net.fabricmc.fabric.api.entity.event.v1.ServerLivingEntityEvents;
+import net.fabricmc.fabric.api.entity.event.v1.ServerPlayerEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.player.PlayerBlockBreakEvents;
+import net.fabricmc.fabric.api.event.player.UseBlockCallback;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.InteractionResult;
 
+import obviouslymisfit.cursed.state.persistence.CurseStateFileIO;
+import obviouslymisfit.cursed.state.persistence.ScoreLedgerFileIO;
 import obviouslymisfit.cursed.state.persistence.StateStorage;
 import obviouslymisfit.cursed.state.GameState;
 import obviouslymisfit.cursed.state.RunLifecycleState;
 
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
 
+import obviouslymisfit.cursed.curses.data.CurseDataLoader;
+import obviouslymisfit.cursed.curses.engine.CurseBlockCandidates;
+import obviouslymisfit.cursed.curses.engine.CurseContactEvents;
+import obviouslymisfit.cursed.curses.engine.CurseRotationScheduler;
+import obviouslymisfit.cursed.curses.engine.CurseTickLoop;
+import obviouslymisfit.cursed.hud.EpisodeTimer;
+import obviouslymisfit.cursed.lifecycle.LifecycleTickRegistry;
+import obviouslymisfit.cursed.hud.SidebarService;
+import obviouslymisfit.cursed.message.TeamNotifier;
 import obviouslymisfit.cursed.objectives.data.ObjectivesDataLoader;
+import obviouslymisfit.cursed.objectives.engine.ChestDeliveryTracker;
+import obviouslymisfit.cursed.objectives.engine.TeamGatherTracker;
+import obviouslymisfit.cursed.penalties.data.PenaltyDataLoader;
+import obviouslymisfit.cursed.penalties.engine.PenaltyService;
+import obviouslymisfit.cursed.platform.PlatformTeleporter;
+import obviouslymisfit.cursed.scoring.data.ScoreRulesLoader;
+import obviouslymisfit.cursed.teams.TeamRosters;
 
 
 
@@ -33,6 +59,9 @@ public class Cursed implements ModInitializer {
 	@Override
 	public void onInitialize() {
 		ObjectivesDataLoader.loadAndValidate();
+		CurseDataLoader.loadAndValidate();
+		ScoreRulesLoader.loadAndValidate();
+		PenaltyDataLoader.loadAndValidate();
 		ConfigManager.loadAll();
 
 		DebugConfig debug = ConfigManager.debug();
@@ -44,8 +73,90 @@ public class Cursed implements ModInitializer {
 		}
 
 		ServerLifecycleEvents.SERVER_STARTED.register(this::onServerStarted);
+		// The run clock advances every RUNNING tick but is only saved with other changes: persist it on shutdown.
+		ServerLifecycleEvents.SERVER_STOPPING.register(server -> {
+			GameState state = StateStorage.get(server);
+			if (state.runId != null) StateStorage.save(server, state);
+		});
+		ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+			LifecycleTickRegistry.clear();
+			TeamRosters.clear();
+			TeamGatherTracker.clear();
+			ChestDeliveryTracker.clear();
+			CurseTickLoop.clear();
+			PenaltyService.clear();
+			TeamNotifier.clear();
+			PlatformTeleporter.clear();
+			EpisodeTimer.clear();
+			SidebarService.clear();
+			CurseBlockCandidates.invalidate();
+			CurseStateFileIO.reset();
+			ScoreLedgerFileIO.reset();
+		});
+		// Block tags may change with datapacks: re-expand curse pools on next use.
+		ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resourceManager, success) -> CurseBlockCandidates.invalidate());
 		CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> CursedCommands.register(dispatcher));
 
+		// Keep the online team rosters (reverse team index) in sync with connections and respawns (new entity).
+		ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> TeamRosters.onJoin(server, handler.getPlayer()));
+		ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> TeamRosters.onLeave(handler.getPlayer()));
+		ServerPlayerEvents.AFTER_RESPAWN.register((oldPlayer, newPlayer, alive) -> TeamRosters.onRespawn(oldPlayer, newPlayer));
+
+		// TEAM_GATHER triggers (M3 section 5). Registered after the roster listeners: evaluation reads the rosters.
+		ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> TeamGatherTracker.attach(handler.getPlayer()));
+		ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> TeamGatherTracker.onLeave(server, handler.getPlayer()));
+		ServerPlayerEvents.AFTER_RESPAWN.register((oldPlayer, newPlayer, alive) -> TeamGatherTracker.attach(newPlayer));
+		ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> CurseRotationScheduler.onJoin(server, handler.getPlayer()));
+		ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> CurseTickLoop.onLeave(handler.getPlayer()));
+
+		// Late joiners during a spawn platform gather go to the platform too.
+		ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> PlatformTeleporter.onJoin(handler.getPlayer()));
+
+		// M9 penalties: deaths and opted-in curse effects queue penalties during the tick (see the flush below).
+		ServerLivingEntityEvents.AFTER_DEATH.register((entity, damageSource) -> {
+			if (entity instanceof ServerPlayer player) {
+				PenaltyService.onPlayerDeath(player.level().getServer(), player);
+			}
+		});
+
+		// Per-tick systems, attached only in the lifecycle states they run in (a PAUSED run calls none of them).
+		// Run order is registration order. Detach hooks drop work queued earlier in the tick a run left RUNNING.
+		//  1) TEAM_GATHER flush: evaluates teams whose inventories changed this tick.
+		//  2) M5 rotation: advances the run clock and rotates due curse sets, before the detection loop so a
+		//     rotation applies from the same tick.
+		//  3) M5 standing-on detection loop.
+		//  4) M9 penalty flush: after the curse loop so its penalties land in the same tick; one batch, one save.
+		//     Then DELIVER deposits into the team chests (one allocation batch per chest; deposits pending when the
+		//     run pauses are credited on resume) and the team notifier, which sends the progress and completions
+		//     of everything above.
+		//  5) M10 episode timer (1 Hz on wallclock seconds), then the sidebar, last so it shows this tick's awards,
+		//     penalties and timer second. The sidebar also redraws once on every transition (paused, hidden on reset).
+		LifecycleTickRegistry.register("gather_flush", TeamGatherTracker::flush,
+				(server, state) -> TeamGatherTracker.flush(server), RunLifecycleState.RUNNING);
+		LifecycleTickRegistry.register("curse_rotation", CurseRotationScheduler::tick, RunLifecycleState.RUNNING);
+		LifecycleTickRegistry.register("curse_loop", CurseTickLoop::tick, RunLifecycleState.RUNNING);
+		LifecycleTickRegistry.register("penalty_flush", PenaltyService::flush,
+				(server, state) -> PenaltyService.flush(server), RunLifecycleState.RUNNING);
+		LifecycleTickRegistry.register("chest_deliveries", ChestDeliveryTracker::flush,
+				(server, state) -> ChestDeliveryTracker.pause(), RunLifecycleState.RUNNING);
+		LifecycleTickRegistry.register("team_notify", TeamNotifier::flush,
+				(server, state) -> TeamNotifier.flushAll(server), RunLifecycleState.RUNNING);
+		LifecycleTickRegistry.register("episode_timer", EpisodeTimer::tick,
+				(server, state) -> EpisodeTimer.tick(server), RunLifecycleState.RUNNING);
+		LifecycleTickRegistry.register("sidebar", SidebarService::tick, RunLifecycleState.RUNNING);
+		// Spawn platform gathers happen on run start and on reset (into IDLE): attached in every state.
+		LifecycleTickRegistry.register("platform_teleport", PlatformTeleporter::tick, RunLifecycleState.values());
+		LifecycleTickRegistry.onTransition((server, state) -> SidebarService.tick(server));
+		ServerTickEvents.END_SERVER_TICK.register(LifecycleTickRegistry::tick);
+
+		// EVENT contact mode: block changes mark positions dirty for the loop (recorded in both modes, cheap).
+		PlayerBlockBreakEvents.AFTER.register((world, player, pos, blockState, blockEntity) -> CurseContactEvents.onBlockBroken(pos));
+		UseBlockCallback.EVENT.register((player, world, hand, hitResult) -> {
+			CurseContactEvents.onBlockUsed(hitResult);
+			// DELIVER via the team chests: a click on the own team's chest anchor starts watching its menu.
+			ChestDeliveryTracker.onBlockUsed(player, world, hitResult);
+			return InteractionResult.PASS;
+		});
 
 	}
 
@@ -72,6 +183,12 @@ public class Cursed implements ModInitializer {
 			StateStorage.save(server, state);
 			LOGGER.warn("CURSED: forced PAUSED on server restart safety");
 		}
+
+		// Authoritative state may have been replaced by the file load: mirror it into the online rosters.
+		TeamRosters.rebuild(server);
+
+		// Attach the per-tick systems for the loaded (never RUNNING) lifecycle state.
+		LifecycleTickRegistry.sync(server);
 	}
 
 
@@ -4,22 +4,50 @@ import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
+import net.minecraft.commands.arguments.EntityArgument;
+import net.minecraft.commands.arguments.ResourceLocationArgument;
+import net.minecraft.commands.arguments.coordinates.BlockPosArgument;
+import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 
 import obviouslymisfit.cursed.state.GameState;
+import obviouslymisfit.cursed.state.PlayerTeamIndex;
 import obviouslymisfit.cursed.state.RunLifecycleState;
 import obviouslymisfit.cursed.state.persistence.StateStorage;
 import obviouslymisfit.cursed.message.CursedMessages;
+import obviouslymisfit.cursed.message.TeamNotifier;
 import obviouslymisfit.cursed.config.ConfigManager;
+import obviouslymisfit.cursed.Cursed;
+import obviouslymisfit.cursed.curses.engine.CurseGenerator;
+import obviouslymisfit.cursed.curses.engine.CurseRotationScheduler;
+import obviouslymisfit.cursed.curses.runtime.CurseState;
+import obviouslymisfit.cursed.debug.DebugMetrics;
+import obviouslymisfit.cursed.debug.CurseContactBenchmark;
+import obviouslymisfit.cursed.debug.ObjectiveStorageBenchmark;
+import obviouslymisfit.cursed.debug.ScoreAuditBenchmark;
+import obviouslymisfit.cursed.lifecycle.LifecycleTickRegistry;
+import obviouslymisfit.cursed.objectives.engine.ChestDeliveryTracker;
+import obviouslymisfit.cursed.objectives.engine.ObjectiveProgressEngine;
+import obviouslymisfit.cursed.objectives.engine.TeamGatherTracker;
 import obviouslymisfit.cursed.objectives.runtime.ObjectiveDefinition;
+import obviouslymisfit.cursed.objectives.runtime.ObjectiveDefinitionTable;
 import obviouslymisfit.cursed.objectives.runtime.ObjectiveSlot;
-
+import obviouslymisfit.cursed.objectives.runtime.TeamObjectiveTable;
+import obviouslymisfit.cursed.penalties.data.PenaltyDataLoader;
+import obviouslymisfit.cursed.penalties.engine.PenaltyService;
+import obviouslymisfit.cursed.penalties.runtime.PenaltyRule;
+import obviouslymisfit.cursed.platform.PlatformAnchor;
+import obviouslymisfit.cursed.platform.PlatformTeleporter;
+import obviouslymisfit.cursed.scoring.engine.ScoreAudit;
+import obviouslymisfit.cursed.scoring.engine.ScoreService;
+import obviouslymisfit.cursed.scoring.runtime.ScoreLedger;
+import obviouslymisfit.cursed.teams.TeamRosters;
+
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.Map;
 
 public final class CursedCommands {
@@ -48,11 +76,30 @@ public final class CursedCommands {
                     state.lifecycleState = RunLifecycleState.RUNNING;
                     state.phase = 1;
                     state.episodeNumber = 1;
+                    state.runTicks = 0;
+
+                    // M6: a new run starts with an empty ledger sized to the configured teams.
+                    state.scores.clear();
+                    state.scores.resizeTeams(state.teamCount);
+                    // Chest deliveries: no watch or taken-out pool survives into a new run.
+                    ChestDeliveryTracker.clear();
+
+                    // M5 section 10: run start generates the initial curse sets (persisted with the same save).
+                    CurseGenerator.generateInitial(state);
+                    CurseRotationScheduler.scheduleAll(state);
 
                     StateStorage.save(server, state);
+                    LifecycleTickRegistry.sync(server);
+
+                    // Phase 1 is now unlocked: precompute the DELIVER allocation order once.
+                    ObjectiveProgressEngine.onPhaseUnlocked(state);
 
                     src.sendSuccess(() -> CursedMessages.runStarted(state.runId, state.phase, state.episodeNumber), true);
 
+                    // M11: a new run starts with everyone on the spawn platform (batched, see PlatformTeleporter).
+                    int gathering = PlatformTeleporter.begin(server, state);
+                    if (gathering > 0) src.sendSuccess(() -> CursedMessages.platformGathering(gathering), true);
+
                     return 1;
                 }));
 
@@ -72,6 +119,7 @@ public final class CursedCommands {
 
                             state.lifecycleState = RunLifecycleState.RUNNING;
                             StateStorage.save(server, state);
+                            LifecycleTickRegistry.sync(server);
 
                             src.sendSuccess(() -> CursedMessages.episodeStartedNowRunning(), true);
 
@@ -91,6 +139,7 @@ public final class CursedCommands {
 
                             state.lifecycleState = RunLifecycleState.PAUSED;
                             StateStorage.save(server, state);
+                            LifecycleTickRegistry.sync(server);
 
                             src.sendSuccess(() -> CursedMessages.episodeEndedNowPaused(), true);
 
@@ -116,11 +165,22 @@ public final class CursedCommands {
                             state.lifecycleState = RunLifecycleState.IDLE;
                             state.phase = 0;
                             state.episodeNumber = 0;
+                            state.runTicks = 0;
+                            state.curses.clear();
+                            state.curseRotations.clear();
+                            state.scores.clear();
+                            ChestDeliveryTracker.clear();
 
                             StateStorage.save(server, state);
+                            LifecycleTickRegistry.sync(server);
+                            ObjectiveProgressEngine.invalidateCaches();
 
                             src.sendSuccess(() -> CursedMessages.resetDoneBackToIdle(), true);
 
+                            // M12: the run is over; everyone returns to the spawn platform.
+                            int gathering = PlatformTeleporter.begin(server, state);
+                            if (gathering > 0) src.sendSuccess(() -> CursedMessages.platformGathering(gathering), true);
+
                             return 1;
                         }))
         );
@@ -141,7 +201,14 @@ public final class CursedCommands {
                                     state.teamCount = count;
                                     state.playerTeams.clear();
 
+                                    // Keep the dense objective table sized to the team count (existing teams keep their rows).
+                                    state.teamObjectiveStates.resizeTeams(count);
+                                    state.teamChestAnchors = Arrays.copyOf(state.teamChestAnchors, count);
+                                    state.scores.resizeTeams(count);
+
                                     StateStorage.save(server, state);
+                                    ObjectiveProgressEngine.invalidateCaches();
+                                    TeamRosters.rebuild(server);
 
                                     src.sendSuccess(
                                             () -> CursedMessages.teamsConfigured(count),
@@ -150,8 +217,133 @@ public final class CursedCommands {
 
                                     return 1;
                                 })))
+
+                // /curse teams assign <player> <team>
+                .then(Commands.literal("assign")
+                        .then(Commands.argument("player", EntityArgument.player())
+                                .then(Commands.argument("team", IntegerArgumentType.integer(0, 7))
+                                        .executes(ctx -> {
+                                            CommandSourceStack src = ctx.getSource();
+                                            MinecraftServer server = src.getServer();
+
+                                            ServerPlayer target = EntityArgument.getPlayer(ctx, "player");
+                                            int teamIdx = IntegerArgumentType.getInteger(ctx, "team");
+
+                                            GameState state = StateStorage.get(server);
+
+                                            if (!state.teamsEnabled) {
+                                                src.sendFailure(CursedMessages.teamsNotConfigured());
+                                                return 0;
+                                            }
+                                            if (teamIdx >= state.teamCount) {
+                                                src.sendFailure(CursedMessages.teamIndexOutOfRange(teamIdx, state.teamCount));
+                                                return 0;
+                                            }
+
+                                            state.playerTeams.put(target.getUUID(), teamIdx);
+                                            StateStorage.save(server, state);
+
+                                            // Mirror the assignment into the online roster (reverse index).
+                                            TeamRosters.onAssigned(server, target.getUUID(), teamIdx);
+                                            TeamGatherTracker.markDirty(target);
+
+                                            String name = target.getName().getString();
+                                            src.sendSuccess(() -> CursedMessages.playerAssigned(name, teamIdx), true);
+                                            return 1;
+                                        })
+                                )
+                        )
+                )
+
+                // /curse teams unassign <player>
+                .then(Commands.literal("unassign")
+                        .then(Commands.argument("player", EntityArgument.player())
+                                .executes(ctx -> {
+                                    CommandSourceStack src = ctx.getSource();
+                                    MinecraftServer server = src.getServer();
+
+                                    ServerPlayer target = EntityArgument.getPlayer(ctx, "player");
+                                    GameState state = StateStorage.get(server);
+                                    String name = target.getName().getString();
+
+                                    if (state.playerTeams.remove(target.getUUID()) == PlayerTeamIndex.NO_TEAM) {
+                                        src.sendFailure(CursedMessages.playerWasNotAssigned(name));
+                                        return 0;
+                                    }
+
+                                    StateStorage.save(server, state);
+                                    TeamRosters.onUnassigned(target.getUUID());
+                                    TeamGatherTracker.markDirty(target);
+
+                                    src.sendSuccess(() -> CursedMessages.playerUnassigned(name), true);
+                                    return 1;
+                                })
+                        )
+                )
         );
 
+        // /curse platform chest <team> <pos>
+        // Sets a team's delivery chest anchor (DELIVERY_CHEST cohesion) in the executor's dimension.
+        //
+        // /curse platform spawn <pos>
+        // Sets the spawn platform (where players are gathered on run start and reset) in the executor's dimension.
+        root.then(Commands.literal("platform")
+                .then(Commands.literal("spawn")
+                        .then(Commands.argument("pos", BlockPosArgument.blockPos())
+                                .executes(ctx -> {
+                                    CommandSourceStack src = ctx.getSource();
+                                    MinecraftServer server = src.getServer();
+
+                                    BlockPos pos = BlockPosArgument.getBlockPos(ctx, "pos");
+                                    GameState state = StateStorage.get(server);
+
+                                    PlatformAnchor anchor = new PlatformAnchor(
+                                            src.getLevel().dimension().location().toString(),
+                                            pos.getX(), pos.getY(), pos.getZ()
+                                    );
+                                    state.spawnPlatform = anchor;
+                                    StateStorage.save(server, state);
+
+                                    src.sendSuccess(() -> CursedMessages.platformSpawnSet(anchor), true);
+                                    return 1;
+                                })
+                        )
+                )
+                .then(Commands.literal("chest")
+                        .then(Commands.argument("team", IntegerArgumentType.integer(0, 7))
+                                .then(Commands.argument("pos", BlockPosArgument.blockPos())
+                                        .executes(ctx -> {
+                                            CommandSourceStack src = ctx.getSource();
+                                            MinecraftServer server = src.getServer();
+
+                                            int teamIdx = IntegerArgumentType.getInteger(ctx, "team");
+                                            BlockPos pos = BlockPosArgument.getBlockPos(ctx, "pos");
+
+                                            GameState state = StateStorage.get(server);
+
+                                            if (!state.teamsEnabled) {
+                                                src.sendFailure(CursedMessages.teamsNotConfigured());
+                                                return 0;
+                                            }
+                                            if (teamIdx >= state.teamCount) {
+                                                src.sendFailure(CursedMessages.teamIndexOutOfRange(teamIdx, state.teamCount));
+                                                return 0;
+                                            }
+
+                                            PlatformAnchor anchor = new PlatformAnchor(
+                                                    src.getLevel().dimension().location().toString(),
+                                                    pos.getX(), pos.getY(), pos.getZ()
+                                            );
+                                            state.teamChestAnchors[teamIdx] = anchor;
+                                            StateStorage.save(server, state);
+
+                                            src.sendSuccess(() -> CursedMessages.platformChestSet(teamIdx, anchor), true);
+                                            return 1;
+                                        })
+                                )
+                        )
+                )
+        );
 
         // /curse status
         root.then(Commands.literal("status")
@@ -166,8 +358,8 @@ public final class CursedCommands {
                     if (state.teamsEnabled) {
                         computedTeamText = "unassigned";
                         if (src.getEntity() instanceof ServerPlayer player) {
-                            Integer teamIdx = state.playerTeams.get(player.getUUID());
-                            if (teamIdx != null) {
+                            int teamIdx = state.playerTeams.get(player.getUUID());
+                            if (teamIdx != PlayerTeamIndex.NO_TEAM) {
                                 computedTeamText = "team " + teamIdx;
                             }
                         }
@@ -230,12 +422,369 @@ public final class CursedCommands {
                                 )
                         )
                 )
+
+                // /curse debug submit <item_id> <count>
+                // /curse debug submit all
+                //
+                // M3 testing-only DELIVER path. "all" submits every matching stack in one pass.
+                .then(Commands.literal("submit")
+                        .then(Commands.literal("all")
+                                .executes(ctx -> executeSubmit(ctx.getSource(), null, Integer.MAX_VALUE))
+                        )
+                        .then(Commands.argument("item_id", ResourceLocationArgument.id())
+                                .then(Commands.argument("count", IntegerArgumentType.integer(1))
+                                        .executes(ctx -> {
+                                            String itemId = ResourceLocationArgument.getId(ctx, "item_id").toString();
+                                            int count = IntegerArgumentType.getInteger(ctx, "count");
+                                            return executeSubmit(ctx.getSource(), itemId, count);
+                                        })
+                                )
+                        )
+                )
+
+                // /curse debug curses [regenerate]
+                //
+                // M5 section 11: inspect active curse sets per owner; regenerate all sets (advances rotation indices).
+                .then(Commands.literal("curses")
+                        .executes(ctx -> executeCursesList(ctx.getSource()))
+                        .then(Commands.literal("regenerate")
+                                .executes(ctx -> {
+                                    CommandSourceStack src = ctx.getSource();
+                                    if (!ConfigManager.debug().enabled) {
+                                        src.sendFailure(CursedMessages.debugDisabled());
+                                        return 0;
+                                    }
+
+                                    MinecraftServer server = src.getServer();
+                                    GameState state = StateStorage.get(server);
+                                    if (state.runId == null) {
+                                        src.sendFailure(CursedMessages.cursesRequireRun());
+                                        return 0;
+                                    }
+
+                                    CurseGenerator.regenerateAll(state);
+                                    CurseRotationScheduler.scheduleAll(state);
+                                    StateStorage.save(server, state);
+                                    Cursed.LOGGER.info("CURSED: curse sets regenerated by {}", src.getTextName());
+
+                                    src.sendSuccess(() -> CursedMessages.cursesRegenerated(state.curses.size()), true);
+                                    return 1;
+                                })
+                        )
+                )
+
+                // /curse debug score [verify|audit]
+                //
+                // M6 section 7: every team's total + breakdown from the ledger's running totals (O(1) per team).
+                // verify: replays the ledger (from the last checkpoint and from entry 0) and diffs against the live totals.
+                // audit: full rebuild from completion flags and from the ledger, per team by category and phase,
+                //        computed off the server thread (ScoreAudit); the report arrives when it is done.
+                .then(Commands.literal("score")
+                        .executes(ctx -> executeScoreList(ctx.getSource()))
+                        .then(Commands.literal("verify")
+                                .executes(ctx -> {
+                                    CommandSourceStack src = ctx.getSource();
+                                    if (!ConfigManager.debug().enabled) {
+                                        src.sendFailure(CursedMessages.debugDisabled());
+                                        return 0;
+                                    }
+
+                                    GameState state = StateStorage.get(src.getServer());
+                                    List<String> mismatches = ScoreService.verify(state);
+                                    if (mismatches.isEmpty()) {
+                                        src.sendSuccess(() -> CursedMessages.scoreVerifyOk(
+                                                state.scores.size(), state.scores.checkpointCount()), false);
+                                        return 1;
+                                    }
+
+                                    src.sendFailure(CursedMessages.scoreVerifyMismatches(mismatches.size()));
+                                    for (String line : mismatches) {
+                                        src.sendFailure(Component.literal("- " + line));
+                                    }
+                                    return 0;
+                                })
+                        )
+                        .then(Commands.literal("audit")
+                                .executes(ctx -> {
+                                    CommandSourceStack src = ctx.getSource();
+                                    if (!ConfigManager.debug().enabled) {
+                                        src.sendFailure(CursedMessages.debugDisabled());
+                                        return 0;
+                                    }
+
+                                    MinecraftServer server = src.getServer();
+                                    boolean started = ScoreAudit.runAsync(server, StateStorage.get(server), lines -> {
+                                        for (String line : lines) {
+                                            src.sendSuccess(() -> Component.literal(line), false);
+                                        }
+                                    });
+                                    if (!started) {
+                                        src.sendFailure(CursedMessages.scoreAuditBusy());
+                                        return 0;
+                                    }
+
+                                    src.sendSuccess(CursedMessages::scoreAuditStarted, false);
+                                    return 1;
+                                })
+                        )
+                )
+
+                // /curse debug penalties
+                // /curse debug penalties force <death|curse> <team> [count]
+                //
+                // M9 section 7: show the loaded penalty rules; force penalties through PenaltyService (same RUNNING,
+                // team, idempotency and cooldown checks as real triggers). count > 1 queues that many penalties in
+                // this tick, simulating a mass death; they are resolved together at the end of the tick.
+                .then(Commands.literal("penalties")
+                        .executes(ctx -> executePenaltiesList(ctx.getSource()))
+                        .then(Commands.literal("force")
+                                .then(Commands.literal("death")
+                                        .then(Commands.argument("team", IntegerArgumentType.integer(0))
+                                                .executes(ctx -> executeForcePenalty(ctx.getSource(), PenaltyDataLoader.death(),
+                                                        IntegerArgumentType.getInteger(ctx, "team"), 1))
+                                                .then(Commands.argument("count", IntegerArgumentType.integer(1, 1000))
+                                                        .executes(ctx -> executeForcePenalty(ctx.getSource(), PenaltyDataLoader.death(),
+                                                                IntegerArgumentType.getInteger(ctx, "team"),
+                                                                IntegerArgumentType.getInteger(ctx, "count")))
+                                                )
+                                        )
+                                )
+                                .then(Commands.literal("curse")
+                                        .then(Commands.argument("team", IntegerArgumentType.integer(0))
+                                                .executes(ctx -> executeForcePenalty(ctx.getSource(), PenaltyDataLoader.curse(),
+                                                        IntegerArgumentType.getInteger(ctx, "team"), 1))
+                                                .then(Commands.argument("count", IntegerArgumentType.integer(1, 1000))
+                                                        .executes(ctx -> executeForcePenalty(ctx.getSource(), PenaltyDataLoader.curse(),
+                                                                IntegerArgumentType.getInteger(ctx, "team"),
+                                                                IntegerArgumentType.getInteger(ctx, "count")))
+                                                )
+                                        )
+                                )
+                        )
+                )
+
+                // /curse debug ticks
+                //
+                // Per-tick systems of the lifecycle tick registry: attached or not in the current state, with timings.
+                .then(Commands.literal("ticks")
+                        .executes(ctx -> {
+                            CommandSourceStack src = ctx.getSource();
+                            if (!ConfigManager.debug().enabled) {
+                                src.sendFailure(CursedMessages.debugDisabled());
+                                return 0;
+                            }
+
+                            List<String> lines = LifecycleTickRegistry.lines();
+                            src.sendSuccess(() -> CursedMessages.tickSystemsHeader(LifecycleTickRegistry.activeState(), lines.size()), false);
+                            for (String line : lines) {
+                                src.sendSuccess(() -> Component.literal("- " + line), false);
+                            }
+                            return 1;
+                        })
+                )
+
+                // /curse debug metrics [reset]
+                //
+                // Runtime counters (e.g. TEAM_GATHER evaluations skipped by inventory fingerprints).
+                .then(Commands.literal("metrics")
+                        .executes(ctx -> {
+                            CommandSourceStack src = ctx.getSource();
+                            if (!ConfigManager.debug().enabled) {
+                                src.sendFailure(CursedMessages.debugDisabled());
+                                return 0;
+                            }
+
+                            List<String> lines = DebugMetrics.lines();
+                            src.sendSuccess(() -> CursedMessages.debugMetricsHeader(lines.size()), false);
+                            for (String line : lines) {
+                                src.sendSuccess(() -> Component.literal("- " + line), false);
+                            }
+                            return 1;
+                        })
+                        .then(Commands.literal("reset")
+                                .executes(ctx -> {
+                                    CommandSourceStack src = ctx.getSource();
+                                    if (!ConfigManager.debug().enabled) {
+                                        src.sendFailure(CursedMessages.debugDisabled());
+                                        return 0;
+                                    }
+
+                                    DebugMetrics.reset();
+                                    src.sendSuccess(CursedMessages::debugMetricsReset, false);
+                                    return 1;
+                                })
+                        )
+                )
+
+                // /curse debug bench objectives <teams>
+                // /curse debug bench curses <players> <ticks> [silentPercent]
+                // /curse debug bench scores <teams> <events>
+                //
+                // objectives: dense objective table vs the former nested-map layout.
+                // curses: POLLED vs EVENT curse contact modes (synthetic replay + live per-mode totals). Read-only.
+                //         silentPercent: share of synthetic block changes that raise no event (sweep-only in EVENT).
+                // scores: ScoreAudit sequential vs fork-join on a synthetic ledger. Read-only.
+                .then(Commands.literal("bench")
+                        .then(Commands.literal("objectives")
+                                .then(Commands.argument("teams", IntegerArgumentType.integer(1, 64))
+                                        .executes(ctx -> {
+                                            CommandSourceStack src = ctx.getSource();
+                                            if (!ConfigManager.debug().enabled) {
+                                                src.sendFailure(CursedMessages.debugDisabled());
+                                                return 0;
+                                            }
+
+                                            int teams = IntegerArgumentType.getInteger(ctx, "teams");
+                                            for (String line : ObjectiveStorageBenchmark.run(teams)) {
+                                                src.sendSuccess(() -> Component.literal(line), false);
+                                            }
+                                            return 1;
+                                        })
+                                )
+                        )
+                        .then(Commands.literal("curses")
+                                .then(Commands.argument("players", IntegerArgumentType.integer(1, 1000))
+                                        .then(Commands.argument("ticks", IntegerArgumentType.integer(20, 6000))
+                                                .executes(ctx -> executeCurseBench(ctx.getSource(),
+                                                        IntegerArgumentType.getInteger(ctx, "players"),
+                                                        IntegerArgumentType.getInteger(ctx, "ticks"),
+                                                        CurseContactBenchmark.DEFAULT_SILENT_PERCENT))
+                                                .then(Commands.argument("silentPercent", IntegerArgumentType.integer(0, 100))
+                                                        .executes(ctx -> executeCurseBench(ctx.getSource(),
+                                                                IntegerArgumentType.getInteger(ctx, "players"),
+                                                                IntegerArgumentType.getInteger(ctx, "ticks"),
+                                                                IntegerArgumentType.getInteger(ctx, "silentPercent")))
+                                                )
+                                        )
+                                )
+                        )
+                        .then(Commands.literal("scores")
+                                .then(Commands.argument("teams", IntegerArgumentType.integer(1, 64))
+                                        .then(Commands.argument("events", IntegerArgumentType.integer(1, 1_000_000))
+                                                .executes(ctx -> {
+                                                    CommandSourceStack src = ctx.getSource();
+                                                    if (!ConfigManager.debug().enabled) {
+                                                        src.sendFailure(CursedMessages.debugDisabled());
+                                                        return 0;
+                                                    }
+
+                                                    int teams = IntegerArgumentType.getInteger(ctx, "teams");
+                                                    int events = IntegerArgumentType.getInteger(ctx, "events");
+                                                    for (String line : ScoreAuditBenchmark.run(teams, events)) {
+                                                        src.sendSuccess(() -> Component.literal(line), false);
+                                                    }
+                                                    return 1;
+                                                })
+                                        )
+                                )
+                        )
+                )
         );
 
 
         dispatcher.register(root);
     }
 
+    /**
+     * Debug-gated curse contact benchmark: POLLED vs EVENT on a synthetic replay. Read-only.
+     */
+    private static int executeCurseBench(CommandSourceStack src, int players, int ticks, int silentPercent) {
+        if (!ConfigManager.debug().enabled) {
+            src.sendFailure(CursedMessages.debugDisabled());
+            return 0;
+        }
+
+        for (String line : CurseContactBenchmark.run(players, ticks, silentPercent)) {
+            src.sendSuccess(() -> Component.literal(line), false);
+        }
+        return 1;
+    }
+
+    /**
+     * Debug-gated, read-only penalty overview: loaded rules and penalties queued in the current tick.
+     */
+    private static int executePenaltiesList(CommandSourceStack src) {
+        if (!ConfigManager.debug().enabled) {
+            src.sendFailure(CursedMessages.debugDisabled());
+            return 0;
+        }
+
+        List<PenaltyRule> rules = PenaltyDataLoader.all();
+        src.sendSuccess(() -> CursedMessages.penaltiesHeader(rules.size(), PenaltyService.pendingCount()), false);
+        for (PenaltyRule rule : rules) {
+            src.sendSuccess(() -> CursedMessages.penaltyRuleLine(rule), false);
+        }
+        return 1;
+    }
+
+    /**
+     * Debug-gated: queues {@code count} penalties of {@code rule} against one team, each with its own owner
+     * context (so none is deduplicated or on cooldown from the others). Resolved at the end of this tick.
+     */
+    private static int executeForcePenalty(CommandSourceStack src, PenaltyRule rule, int teamIdx, int count) {
+        if (!ConfigManager.debug().enabled) {
+            src.sendFailure(CursedMessages.debugDisabled());
+            return 0;
+        }
+
+        GameState state = StateStorage.get(src.getServer());
+        if (state.lifecycleState != RunLifecycleState.RUNNING) {
+            src.sendFailure(CursedMessages.penaltiesRequireRunning());
+            return 0;
+        }
+        if (teamIdx >= state.teamCount) {
+            src.sendFailure(CursedMessages.teamIndexOutOfRange(teamIdx, state.teamCount));
+            return 0;
+        }
+
+        int queued = 0;
+        for (int i = 0; i < count; i++) {
+            String context = "debug:" + src.getTextName() + ":" + state.runTicks + ":" + i;
+            if (PenaltyService.applyPenalty(state, rule, teamIdx, state.phase, context)) queued++;
+        }
+
+        int done = queued;
+        src.sendSuccess(() -> CursedMessages.penaltiesForced(done, rule.getId(), teamIdx), true);
+        return done > 0 ? 1 : 0;
+    }
+
+    /**
+     * Debug-gated, read-only score overview: one line per team (total + breakdown), in standings order.
+     */
+    private static int executeScoreList(CommandSourceStack src) {
+        if (!ConfigManager.debug().enabled) {
+            src.sendFailure(CursedMessages.debugDisabled());
+            return 0;
+        }
+
+        GameState state = StateStorage.get(src.getServer());
+        ScoreLedger ledger = state.scores;
+        src.sendSuccess(() -> CursedMessages.scoreHeader(ledger.teamCount(), ledger.size(), ledger.standings().version()), false);
+        for (int rank = 0; rank < ledger.teamCount(); rank++) {
+            final int r = rank;
+            src.sendSuccess(() -> CursedMessages.scoreTeamLine(ledger, r), false);
+        }
+        return 1;
+    }
+
+    /**
+     * Debug-gated, read-only listing of every owner's active curse set (stable generation order).
+     */
+    private static int executeCursesList(CommandSourceStack src) {
+        if (!ConfigManager.debug().enabled) {
+            src.sendFailure(CursedMessages.debugDisabled());
+            return 0;
+        }
+
+        GameState state = StateStorage.get(src.getServer());
+        src.sendSuccess(() -> CursedMessages.cursesHeader(state.curses.size(), state.runTicks), false);
+        state.curses.forEach(set -> {
+            long nextRotation = state.curseRotations.dueOf(CurseState.keyOf(set.getCategory(), set.getOwner()));
+            src.sendSuccess(() -> CursedMessages.curseSetLine(set, nextRotation), false);
+        });
+        return 1;
+    }
+
     /**
      * Debug-gated introspection command that prints resolved ObjectiveDefinitions.
      *
@@ -253,33 +802,27 @@ public final class CursedCommands {
         MinecraftServer server = src.getServer();
         GameState state = StateStorage.get(server);
 
-        Map<Integer, Map<ObjectiveSlot, ObjectiveDefinition>> defsByPhase = state.objectiveDefinitions;
+        ObjectiveDefinitionTable defs = state.objectiveDefinitions;
 
-        if (defsByPhase.isEmpty()) {
+        if (defs.isEmpty()) {
             src.sendSuccess(() -> Component.literal("ObjectiveDefinitions: 0 (none)"), false);
             return 1;
         }
 
-        // Sort phases deterministically (ascending).
-        List<Integer> phases = new ArrayList<>(defsByPhase.keySet());
-        phases.sort(Integer::compareTo);
-
         int total = 0;
 
-        for (int phase : phases) {
+        // The dense table is already in stable order: phase ascending, then PRIMARY, SECONDARY_n, TASK_n.
+        for (int phase = 1; phase <= TeamObjectiveTable.PHASE_COUNT; phase++) {
             if (phaseFilterOrNull != null && phase != phaseFilterOrNull) continue;
 
-            Map<ObjectiveSlot, ObjectiveDefinition> defsInPhase = defsByPhase.get(phase);
-            if (defsInPhase == null || defsInPhase.isEmpty()) continue;
-
-            // Stable slot order: PRIMARY first, then SECONDARY_n, then TASK_n.
-            List<ObjectiveSlot> slots = new ArrayList<>(defsInPhase.keySet());
-            slots.sort(Comparator.comparingInt(CursedCommands::slotSortKey));
+            int inPhase = defs.sizeOfPhase(phase);
+            if (inPhase == 0) continue;
 
-            src.sendSuccess(() -> Component.literal("Phase " + phase + " (" + defsInPhase.size() + "):"), false);
+            final int phaseFinal = phase;
+            src.sendSuccess(() -> Component.literal("Phase " + phaseFinal + " (" + inPhase + "):"), false);
 
-            for (ObjectiveSlot slot : slots) {
-                ObjectiveDefinition def = defsInPhase.get(slot);
+            for (ObjectiveSlot slot : ObjectiveSlot.ordered()) {
+                ObjectiveDefinition def = defs.get(phase, slot);
                 if (def == null) continue;
 
                 total++;
@@ -311,31 +854,60 @@ public final class CursedCommands {
     }
 
     /**
-     * Deterministic ordering for ObjectiveSlot output.
-     * This avoids random iteration order in maps and makes debug output diff-friendly.
+     * Debug-gated DELIVER submission (M3 section 7).
+     *
+     * Single item: removes up to <count> of <item_id>, capped by what DELIVER requirements can still accept.
+     * Batch ("all", itemIdOrNull == null): removes every matching stack in one inventory pass.
+     *
+     * Either way the taken items are allocated by the progress engine as one mutation with one save.
+     * Preconditions fail before any inventory or state change.
      */
-    private static int slotSortKey(ObjectiveSlot slot) {
-        String name = slot.name();
-        if (name.equals("PRIMARY")) return 0;
+    private static int executeSubmit(CommandSourceStack src, String itemIdOrNull, int count) {
+        if (!ConfigManager.debug().enabled) {
+            src.sendFailure(CursedMessages.debugDisabled());
+            return 0;
+        }
+
+        MinecraftServer server = src.getServer();
+        GameState state = StateStorage.get(server);
 
-        if (name.startsWith("SECONDARY_")) {
-            return 100 + parseTrailingInt(name, "SECONDARY_");
+        if (state.lifecycleState != RunLifecycleState.RUNNING) {
+            src.sendFailure(CursedMessages.submitRequiresRunning());
+            return 0;
         }
 
-        if (name.startsWith("TASK_")) {
-            return 200 + parseTrailingInt(name, "TASK_");
+        if (!(src.getEntity() instanceof ServerPlayer player)) {
+            src.sendFailure(CursedMessages.submitRequiresPlayer());
+            return 0;
         }
 
-        // Fallback: keep unknown slots last but stable.
-        return 1000;
-    }
+        int teamIdx = state.playerTeams.get(player.getUUID());
+        if (teamIdx == PlayerTeamIndex.NO_TEAM) {
+            src.sendFailure(CursedMessages.submitNoTeam());
+            return 0;
+        }
 
-    private static int parseTrailingInt(String text, String prefix) {
-        try {
-            return Integer.parseInt(text.substring(prefix.length()));
-        } catch (Exception ignored) {
-            return 999;
+        // Only take what the team can actually use, so irrelevant items and overflow stay in the inventory.
+        Map<String, Integer> demand = ObjectiveProgressEngine.remainingDeliverDemand(state, teamIdx);
+        if (itemIdOrNull != null) {
+            int wanted = Math.min(count, demand.getOrDefault(itemIdOrNull, 0));
+            demand = (wanted > 0) ? Map.of(itemIdOrNull, wanted) : Map.of();
         }
+
+        Map<String, Integer> taken = ObjectiveProgressEngine.takeFromInventory(player, demand);
+
+        // Even with nothing taken, the call retries requirements held back by a failed cohesion check.
+        ObjectiveProgressEngine.DeliveryResult result = ObjectiveProgressEngine.applyDeliveries(server, state, teamIdx, taken);
+        if (taken.isEmpty() && result.isEmpty()) {
+            src.sendFailure(CursedMessages.submitNothingAccepted());
+            return 0;
+        }
+
+        src.sendSuccess(() -> CursedMessages.submitResult(taken, result.getChanges()), false);
+        // The rest of the team hears about it too (completions at once, progress rate-limited); the submitter
+        // already has the summary above.
+        TeamNotifier.changes(server, result.getChanges(), player.getUUID());
+        return 1;
     }
 
 }
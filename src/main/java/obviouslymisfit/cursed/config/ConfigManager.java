@@ -16,13 +16,16 @@ import java.nio.file.Path;
  * v1 rule:
  * - debug.json exists, but defaults to enabled=false.
  * - If file doesn't exist, we create it with defaults.
+ * - performance.json holds server tuning knobs (always active, not debug-gated).
  */
 public final class ConfigManager {
     private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
 
     private static final String DEBUG_FILE_NAME = "cursed.debug.json";
+    private static final String PERFORMANCE_FILE_NAME = "cursed.performance.json";
 
     private static DebugConfig debug = new DebugConfig();
+    private static PerformanceConfig performance = new PerformanceConfig();
 
     private ConfigManager() {}
 
@@ -30,8 +33,13 @@ public final class ConfigManager {
         return debug;
     }
 
+    public static PerformanceConfig performance() {
+        return performance;
+    }
+
     public static void loadAll() {
         debug = loadOrCreate(DEBUG_FILE_NAME, DebugConfig.class, new DebugConfig());
+        performance = loadOrCreate(PERFORMANCE_FILE_NAME, PerformanceConfig.class, new PerformanceConfig());
     }
 
     private static <T> T loadOrCreate(String fileName, Class<T> type, T defaults) {
@@ -0,0 +1,27 @@
+package obviouslymisfit.cursed.config;
+
+/**
+ * Server performance tuning (config/cursed.performance.json).
+ * Defaults are safe for small servers; only large player counts should need changes.
+ */
+public final class PerformanceConfig {
+
+    /** Curse contact detection: "POLLED" (round-robin shards) or "EVENT" (block events + slow safety sweep). */
+    public String curseContactMode = "POLLED";
+
+    /** Curse contact loop: at most this many stationary players are fully re-evaluated per tick (sets the minimum shard count). */
+    public int curseEvaluationsPerTick = 64;
+
+    /** Curse contact loop: shard count bounds. 1 = every player every tick. */
+    public int curseMinShards = 1;
+    public int curseMaxShards = 20;
+
+    /** Average server tick time (ms) above which the curse loop adds shards, and below which it removes them. */
+    public int curseTickTimeHighMs = 40;
+    public int curseTickTimeLowMs = 25;
+
+    /** Spawn platform mass teleport: at most this many players are moved per tick; the rest follow on later ticks. */
+    public int platformTeleportsPerTick = 8;
+
+    public PerformanceConfig() {}
+}
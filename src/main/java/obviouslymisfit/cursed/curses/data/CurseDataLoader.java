@@ -0,0 +1,283 @@
+package obviouslymisfit.cursed.curses.data;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import obviouslymisfit.cursed.Cursed;
+import obviouslymisfit.cursed.curses.data.model.BlockPoolFile;
+import obviouslymisfit.cursed.curses.data.model.CurseGeneratorRuleFile;
+import obviouslymisfit.cursed.curses.data.model.EffectProfileFile;
+import obviouslymisfit.cursed.curses.runtime.EffectMode;
+import obviouslymisfit.cursed.curses.runtime.EffectProfile;
+import obviouslymisfit.cursed.curses.runtime.EffectStacking;
+
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Loads and validates curse content (M5 sections 8 and 9) from:
+ *   data/cursed/curses/
+ *
+ * Layout mirrors the objectives data:
+ *  - block_pools/       eligible block ids and tags
+ *  - effect_profiles/   what a cursed block does
+ *  - generator_rules/   per-phase counts, pools, profiles and rotation timing (phase1..phase5)
+ *
+ * Fails fast on startup if anything is invalid. Block ids and tags are checked for shape only here;
+ * whether they exist is a registry question answered at selection time (datapacks may add tags).
+ *
+ * Loaded content is immutable and shared; run state only ever references it by id.
+ */
+public final class CurseDataLoader {
+
+    private static final String ROOT_PATH = "data/cursed/curses";
+    private static final int PHASE_COUNT = 5;
+
+    private static final Gson GSON = new GsonBuilder().create();
+
+    private static Map<String, BlockPoolFile> pools = Collections.emptyMap();
+    private static Map<String, EffectProfile> profiles = Collections.emptyMap();
+    private static CurseGeneratorRuleFile[] rulesByPhase = new CurseGeneratorRuleFile[PHASE_COUNT + 1];
+
+    private CurseDataLoader() {
+        // utility class
+    }
+
+    public static void loadAndValidate() {
+        Map<String, BlockPoolFile> loadedPools = loadFolder("block_pools", BlockPoolFile.class, p -> p.id);
+        loadedPools.values().forEach(CurseDataLoader::validatePool);
+
+        Map<String, EffectProfileFile> profileFiles = loadFolder("effect_profiles", EffectProfileFile.class, p -> p.id);
+        Map<String, EffectProfile> loadedProfiles = new TreeMap<>();
+        profileFiles.forEach((id, file) -> loadedProfiles.put(id, toProfile(file)));
+
+        Map<String, CurseGeneratorRuleFile> ruleFiles =
+                loadFolder("generator_rules", CurseGeneratorRuleFile.class, r -> "phase" + r.phase);
+        CurseGeneratorRuleFile[] loadedRules = new CurseGeneratorRuleFile[PHASE_COUNT + 1];
+        for (int phase = 1; phase <= PHASE_COUNT; phase++) {
+            CurseGeneratorRuleFile rule = ruleFiles.get("phase" + phase);
+            if (rule == null) {
+                throw new IllegalStateException("CURSED: missing curse generator rule for phase " + phase);
+            }
+            validateRule(rule, loadedPools, loadedProfiles);
+            loadedRules[phase] = rule;
+        }
+
+        pools = Collections.unmodifiableMap(loadedPools);
+        profiles = Collections.unmodifiableMap(loadedProfiles);
+        rulesByPhase = loadedRules;
+
+        Cursed.LOGGER.info("CURSED: loaded {} block pools, {} effect profiles, {} curse generator rules",
+                pools.size(), profiles.size(), PHASE_COUNT);
+    }
+
+    public static BlockPoolFile pool(String id) {
+        return pools.get(id);
+    }
+
+    public static EffectProfile profile(String id) {
+        return profiles.get(id);
+    }
+
+    public static Map<String, EffectProfile> profiles() {
+        return profiles;
+    }
+
+    /**
+     * Generator rule for a phase (1..5). Phases above 5 use the phase 5 rule.
+     */
+    public static CurseGeneratorRuleFile rule(int phase) {
+        int p = Math.max(1, Math.min(PHASE_COUNT, phase));
+        CurseGeneratorRuleFile rule = rulesByPhase[p];
+        if (rule == null) {
+            throw new IllegalStateException("CURSED: curse data not loaded");
+        }
+        return rule;
+    }
+
+    /**
+     * Reads every *.json under ROOT_PATH/sub. The id (from idOf) must match the file name.
+     */
+    private static <T> Map<String, T> loadFolder(String sub, Class<T> type, Function<T, String> idOf) {
+        URL url = CurseDataLoader.class.getClassLoader().getResource(ROOT_PATH + "/" + sub);
+        if (url == null) {
+            throw new IllegalStateException("CURSED: missing " + sub + " folder under " + ROOT_PATH);
+        }
+
+        Path dir;
+        try {
+            dir = Path.of(url.toURI());
+        } catch (Exception e) {
+            throw new RuntimeException("CURSED: failed to resolve " + sub + " path", e);
+        }
+
+        Map<String, T> byId = new TreeMap<>();
+
+        try (var stream = Files.list(dir)) {
+            var files = stream
+                    .filter(p -> Files.isRegularFile(p) && p.getFileName().toString().endsWith(".json"))
+                    .toList();
+
+            if (files.isEmpty()) {
+                throw new IllegalStateException("CURSED: no .json files found in " + dir);
+            }
+
+            for (Path file : files) {
+                String filename = file.getFileName().toString();
+                String expectedId = filename.substring(0, filename.length() - ".json".length());
+
+                try (var in = Files.newInputStream(file);
+                     var reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+
+                    T parsed = GSON.fromJson(reader, type);
+                    if (parsed == null) {
+                        throw new IllegalStateException("File parsed as null: " + filename);
+                    }
+
+                    String id = idOf.apply(parsed);
+                    if (!expectedId.equals(id)) {
+                        throw new IllegalStateException(
+                                "id mismatch in " + filename + " (expected '" + expectedId + "', got '" + id + "')"
+                        );
+                    }
+
+                    byId.put(id, parsed);
+                } catch (Exception e) {
+                    throw new RuntimeException("CURSED: failed parsing " + sub + " file: " + filename, e);
+                }
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("CURSED: failed while reading " + sub + " files from " + dir, e);
+        }
+
+        return byId;
+    }
+
+    private static void validatePool(BlockPoolFile pool) {
+        if (pool.blocks == null || pool.blocks.isEmpty()) {
+            throw new IllegalStateException("Block pool has no entries: " + pool.id);
+        }
+        if (pool.phases == null || pool.phases.min < 1 || pool.phases.max > PHASE_COUNT || pool.phases.min > pool.phases.max) {
+            throw new IllegalStateException("Block pool has invalid phases range: " + pool.id);
+        }
+        for (String entry : pool.blocks) {
+            if (entry == null || entry.isBlank() || entry.contains(" ")) {
+                throw new IllegalStateException("Invalid entry in block pool " + pool.id + ": '" + entry + "'");
+            }
+            // Tags are allowed here (M5 section 9.1): "#namespace:path".
+            String id = entry.startsWith("#") ? entry.substring(1) : entry;
+            int colon = id.indexOf(':');
+            if (colon <= 0 || colon == id.length() - 1 || id.contains("#")) {
+                throw new IllegalStateException("Block entry must be 'namespace:id' or '#namespace:tag' in pool " + pool.id + ": " + entry);
+            }
+        }
+    }
+
+    private static EffectProfile toProfile(EffectProfileFile file) {
+        EffectMode mode;
+        EffectStacking stacking;
+        try {
+            mode = EffectMode.valueOf(file.mode);
+            stacking = EffectStacking.valueOf(file.stacking);
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Effect profile " + file.id + " has invalid mode/stacking", e);
+        }
+
+        if (file.cooldown_ticks < 0) {
+            throw new IllegalStateException("Effect profile " + file.id + " has negative cooldown");
+        }
+        if (mode == EffectMode.TICK && file.cooldown_ticks == 0) {
+            // A zero-cooldown TICK profile would fire every server tick.
+            throw new IllegalStateException("TICK effect profile " + file.id + " needs cooldown_ticks > 0");
+        }
+        if (file.effects == null) {
+            throw new IllegalStateException("Effect profile " + file.id + " has no effects");
+        }
+
+        EffectProfileFile.Effects fx = file.effects;
+        if (fx.damage < 0 || fx.exhaustion < 0) {
+            throw new IllegalStateException("Effect profile " + file.id + " has negative damage/exhaustion");
+        }
+
+        List<EffectProfile.PotionSpec> potions = new ArrayList<>();
+        if (fx.potions != null) {
+            for (EffectProfileFile.Potion potion : fx.potions) {
+                if (potion == null || potion.effect == null || potion.effect.indexOf(':') <= 0) {
+                    throw new IllegalStateException("Effect profile " + file.id + " has an invalid potion effect id");
+                }
+                if (potion.duration_ticks <= 0 || potion.amplifier < 0 || potion.amplifier > 255) {
+                    throw new IllegalStateException("Effect profile " + file.id + " has invalid potion duration/amplifier");
+                }
+                potions.add(new EffectProfile.PotionSpec(potion.effect, potion.duration_ticks, potion.amplifier));
+            }
+        }
+
+        boolean hasFeedback = fx.feedback != null && !fx.feedback.isBlank();
+        if (fx.damage == 0 && fx.exhaustion == 0 && potions.isEmpty() && !hasFeedback) {
+            throw new IllegalStateException("Effect profile " + file.id + " does nothing");
+        }
+
+        return new EffectProfile(file.id, mode, file.cooldown_ticks, stacking,
+                fx.damage, fx.exhaustion, potions, hasFeedback ? fx.feedback : null, file.penalty);
+    }
+
+    private static void validateRule(CurseGeneratorRuleFile rule, Map<String, BlockPoolFile> pools, Map<String, EffectProfile> profiles) {
+        String where = "curse generator rule phase" + rule.phase;
+
+        validateCategory(where + " player", rule.phase, rule.player, pools, profiles);
+        validateCategory(where + " team", rule.phase, rule.team, pools, profiles);
+        validateCategory(where + " global", rule.phase, rule.global, pools, profiles);
+
+        if (rule.rotation == null || rule.rotation.interval_ticks <= 0) {
+            throw new IllegalStateException(where + ": rotation.interval_ticks must be > 0");
+        }
+        if (rule.rotation.jitter_ticks < 0 || rule.rotation.jitter_ticks >= rule.rotation.interval_ticks) {
+            throw new IllegalStateException(where + ": rotation.jitter_ticks must be in [0, interval_ticks)");
+        }
+        if (rule.generation == null || rule.generation.retry_budget <= 0) {
+            throw new IllegalStateException(where + ": generation.retry_budget must be > 0");
+        }
+    }
+
+    private static void validateCategory(String where, int phase, CurseGeneratorRuleFile.Category category,
+                                         Map<String, BlockPoolFile> pools, Map<String, EffectProfile> profiles) {
+        if (category == null) {
+            throw new IllegalStateException(where + ": missing category block");
+        }
+        if (category.count < 0) {
+            throw new IllegalStateException(where + ": count must be >= 0");
+        }
+        if (category.count == 0) return;
+
+        if (category.eligible_block_pools == null || category.eligible_block_pools.isEmpty()) {
+            throw new IllegalStateException(where + ": no eligible_block_pools");
+        }
+        for (String poolId : category.eligible_block_pools) {
+            BlockPoolFile pool = pools.get(poolId);
+            if (pool == null) {
+                throw new IllegalStateException(where + " references missing block pool: " + poolId);
+            }
+            if (phase < pool.phases.min || phase > pool.phases.max) {
+                throw new IllegalStateException(where + " uses block pool " + poolId + " outside its phases range");
+            }
+        }
+
+        if (category.effect_profiles == null || category.effect_profiles.isEmpty()) {
+            throw new IllegalStateException(where + ": no effect_profiles");
+        }
+        for (String profileId : category.effect_profiles) {
+            if (!profiles.containsKey(profileId)) {
+                throw new IllegalStateException(where + " references missing effect profile: " + profileId);
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package obviouslymisfit.cursed.curses.data.model;
+
+import java.util.List;
+
+/**
+ * Represents a single eligible block pool file under:
+ *   data/cursed/curses/block_pools/*.json
+ *
+ * Entries are exact block IDs ("minecraft:grass_block") or block tags ("#minecraft:logs").
+ * Tags are expanded against the server's block registry at selection time (M5 section 9.1).
+ */
+public final class BlockPoolFile {
+
+    public String id;
+
+    public Phases phases;
+
+    public List<String> blocks;
+
+    public static final class Phases {
+        public int min;
+        public int max;
+    }
+}
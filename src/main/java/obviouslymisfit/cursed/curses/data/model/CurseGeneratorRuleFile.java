@@ -0,0 +1,36 @@
+package obviouslymisfit.cursed.curses.data.model;
+
+import java.util.List;
+
+/**
+ * Represents a per-phase curse generator file under:
+ *   data/cursed/curses/generator_rules/phaseN.json
+ *
+ * Mirrors the objectives generator rules: per-category counts and eligible pools, plus rotation timing.
+ */
+public final class CurseGeneratorRuleFile {
+
+    public int phase;
+
+    public Category player;
+    public Category team;
+    public Category global;
+
+    public Rotation rotation;
+    public Generation generation;
+
+    public static final class Category {
+        public int count;
+        public List<String> eligible_block_pools;
+        public List<String> effect_profiles;
+    }
+
+    public static final class Rotation {
+        public int interval_ticks;
+        public int jitter_ticks;
+    }
+
+    public static final class Generation {
+        public int retry_budget;
+    }
+}
@@ -0,0 +1,41 @@
+package obviouslymisfit.cursed.curses.data.model;
+
+import java.util.List;
+
+/**
+ * Represents a single curse effect profile file under:
+ *   data/cursed/curses/effect_profiles/*.json
+ *
+ * Defines what happens when a player stands on a cursed block (M5 section 8).
+ * Validated on load; see CurseDataLoader.
+ */
+public final class EffectProfileFile {
+
+    public String id;
+
+    /** EVENT (once per contact) or TICK (repeats every cooldown while standing). */
+    public String mode;
+
+    public int cooldown_ticks;
+
+    /** REFRESH, EXTEND or KEEP (how potion effects combine with an already active instance). */
+    public String stacking;
+
+    public Effects effects;
+
+    /** M9 section 3.2 opt-in: every time this profile fires, the curse penalty rule is applied to the curse's owner. */
+    public boolean penalty;
+
+    public static final class Effects {
+        public float damage;
+        public float exhaustion;
+        public List<Potion> potions;
+        public String feedback;
+    }
+
+    public static final class Potion {
+        public String effect;
+        public int duration_ticks;
+        public int amplifier;
+    }
+}
@@ -0,0 +1,93 @@
+package obviouslymisfit.cursed.curses.engine;
+
+import net.minecraft.ChatFormatting;
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.effect.MobEffect;
+
+import obviouslymisfit.cursed.Cursed;
+import obviouslymisfit.cursed.curses.runtime.EffectMode;
+import obviouslymisfit.cursed.curses.runtime.EffectProfile;
+import obviouslymisfit.cursed.curses.runtime.EffectStacking;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Executable form of an EffectProfile (M5 section 8), compiled once per loaded profile set.
+ *
+ * Everything that does not depend on the target player is resolved up front:
+ *  - potion effect ids -> registry holders (unknown ids are dropped with one warning, not one per trigger)
+ *  - durations/amplifiers -> parallel primitive arrays
+ *  - feedback text -> a styled Component, reused for every send
+ *  - index -> dense position used by CurseEffects' primitive cooldown table
+ * so CurseEffects.apply is a straight sequence of calls with no lookups.
+ *
+ * MobEffectInstance is still created per application: the entity keeps and mutates the instance it is given.
+ *
+ * Immutable; fields are package-private for the engine's hot path.
+ */
+final class CompiledEffect {
+
+    final int index;
+    final String id;
+    final EffectMode mode;
+    final int cooldownTicks;
+    final EffectStacking stacking;
+
+    final float damage;
+    final float exhaustion;
+
+    final Holder<MobEffect>[] effects;
+    final int[] durations;
+    final int[] amplifiers;
+
+    final Component feedback; // nullable
+
+    final boolean penalty; // M9: firing also queues a curse penalty
+
+    private CompiledEffect(int index, EffectProfile profile, Holder<MobEffect>[] effects, int[] durations, int[] amplifiers) {
+        this.index = index;
+        this.id = profile.getId();
+        this.mode = profile.getMode();
+        this.cooldownTicks = profile.getCooldownTicks();
+        this.stacking = profile.getStacking();
+        this.damage = profile.getDamage();
+        this.exhaustion = profile.getExhaustion();
+        this.effects = effects;
+        this.durations = durations;
+        this.amplifiers = amplifiers;
+        this.feedback = (profile.getFeedback() == null)
+                ? null
+                : Component.literal(profile.getFeedback()).withStyle(ChatFormatting.DARK_PURPLE);
+        this.penalty = profile.triggersPenalty();
+    }
+
+    @SuppressWarnings("unchecked")
+    static CompiledEffect compile(int index, EffectProfile profile) {
+        List<Holder<MobEffect>> holders = new ArrayList<>();
+        List<EffectProfile.PotionSpec> kept = new ArrayList<>();
+
+        for (EffectProfile.PotionSpec potion : profile.getPotions()) {
+            ResourceLocation id = ResourceLocation.tryParse(potion.getEffectId());
+            Holder<MobEffect> holder = (id == null) ? null : BuiltInRegistries.MOB_EFFECT.get(id).orElse(null);
+            if (holder == null) {
+                Cursed.LOGGER.warn("CURSED: effect profile {} references unknown effect {}", profile.getId(), potion.getEffectId());
+                continue;
+            }
+            holders.add(holder);
+            kept.add(potion);
+        }
+
+        int[] durations = new int[kept.size()];
+        int[] amplifiers = new int[kept.size()];
+        for (int i = 0; i < kept.size(); i++) {
+            durations[i] = kept.get(i).getDurationTicks();
+            amplifiers[i] = kept.get(i).getAmplifier();
+        }
+
+        return new CompiledEffect(index, profile, holders.toArray(new Holder[0]), durations, amplifiers);
+    }
+}
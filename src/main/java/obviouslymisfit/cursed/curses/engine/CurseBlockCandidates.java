@@ -0,0 +1,176 @@
+package obviouslymisfit.cursed.curses.engine;
+
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.EndGatewayBlock;
+import net.minecraft.world.level.block.EndPortalBlock;
+import net.minecraft.world.level.block.LiquidBlock;
+import net.minecraft.world.level.block.NetherPortalBlock;
+
+import obviouslymisfit.cursed.Cursed;
+import obviouslymisfit.cursed.curses.data.CurseDataLoader;
+import obviouslymisfit.cursed.curses.data.model.BlockPoolFile;
+import obviouslymisfit.cursed.debug.DebugMetrics;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves eligible block pools into concrete, valid block ids (M5 sections 5 and 9.1).
+ *
+ * - Tag entries ("#minecraft:logs") are expanded through the server's block registry.
+ * - Unknown ids are skipped (logged): content may reference blocks a datapack removed.
+ * - Invalid curse targets are excluded: air, liquids, portals and admin-only blocks.
+ * - A tag that resolves to zero valid blocks is logged explicitly; the pool simply contributes nothing from it.
+ *
+ * Expansion cache:
+ * Tag contents only change when datapacks (re)load, but selection runs on every rotation of every owner.
+ * Each pool is therefore expanded once into a sorted int[] of block registry ids with exclusions already
+ * applied, and each distinct pool list (one per generator rule category) is merged once into its union.
+ * The cache is built lazily on first use after invalidate(), which runs on datapack reload and server stop
+ * (tags are only bound once the server has loaded its data).
+ *
+ * Output is sorted and distinct, so selection with a seeded RNG is deterministic.
+ *
+ * Counters: curses.candidate_pool_expansions.
+ */
+public final class CurseBlockCandidates {
+
+    public static final String METRIC_EXPANSIONS = "curses.candidate_pool_expansions";
+
+    private static final int[] NONE = new int[0];
+
+    // Blocks players cannot normally reach or stand on in survival.
+    private static final Set<String> ADMIN_BLOCKS = Set.of(
+            "minecraft:command_block",
+            "minecraft:chain_command_block",
+            "minecraft:repeating_command_block",
+            "minecraft:structure_block",
+            "minecraft:structure_void",
+            "minecraft:jigsaw",
+            "minecraft:barrier",
+            "minecraft:light",
+            "minecraft:bedrock",
+            "minecraft:test_block",
+            "minecraft:test_instance_block"
+    );
+
+    // pool id -> sorted valid block registry ids
+    private static final Map<String, int[]> byPool = new HashMap<>();
+    // pool id list -> sorted union of its pools
+    private static final Map<List<String>, int[]> byPoolList = new HashMap<>();
+
+    private CurseBlockCandidates() {}
+
+    /**
+     * Sorted, distinct, valid block registry ids from all listed pools. Callers must not mutate the returned array.
+     */
+    public static int[] resolve(List<String> poolIds) {
+        int[] cached = byPoolList.get(poolIds);
+        if (cached != null) return cached;
+
+        BitSet union = new BitSet();
+        for (String poolId : poolIds) {
+            for (int id : pool(poolId)) union.set(id);
+        }
+
+        int[] out = union.stream().toArray();
+        byPoolList.put(List.copyOf(poolIds), out);
+        return out;
+    }
+
+    /**
+     * Registry id of a block id string, or -1 if unknown.
+     */
+    public static int blockIndex(String blockId) {
+        ResourceLocation location = ResourceLocation.tryParse(blockId);
+        if (location == null || !BuiltInRegistries.BLOCK.containsKey(location)) return -1;
+        return BuiltInRegistries.BLOCK.getId(BuiltInRegistries.BLOCK.getValue(location));
+    }
+
+    /**
+     * Block id string of a registry id (as stored in CurseRule).
+     */
+    public static String blockId(int blockIndex) {
+        return BuiltInRegistries.BLOCK.getKey(BuiltInRegistries.BLOCK.byId(blockIndex)).toString();
+    }
+
+    /**
+     * Drops every expansion (datapack reload, server stop). The next resolve re-expands from the current tags.
+     */
+    public static void invalidate() {
+        byPool.clear();
+        byPoolList.clear();
+    }
+
+    private static int[] pool(String poolId) {
+        int[] cached = byPool.get(poolId);
+        if (cached != null) return cached;
+
+        BlockPoolFile pool = CurseDataLoader.pool(poolId);
+        if (pool == null) return NONE; // validated on load; defensive only
+
+        BitSet out = new BitSet();
+        for (String entry : pool.blocks) {
+            if (entry.startsWith("#")) {
+                int before = out.cardinality();
+                expandTag(entry.substring(1), out);
+                if (out.cardinality() == before) {
+                    Cursed.LOGGER.warn("CURSED: block tag {} in pool {} resolved to no valid blocks", entry, poolId);
+                }
+            } else {
+                addIfValid(entry, out, poolId);
+            }
+        }
+
+        int[] ids = out.stream().toArray();
+        byPool.put(poolId, ids);
+        DebugMetrics.increment(METRIC_EXPANSIONS);
+        return ids;
+    }
+
+    private static void expandTag(String tagId, BitSet out) {
+        ResourceLocation location = ResourceLocation.tryParse(tagId);
+        if (location == null) return;
+
+        TagKey<Block> tag = TagKey.create(Registries.BLOCK, location);
+        for (Holder<Block> holder : BuiltInRegistries.BLOCK.getTagOrEmpty(tag)) {
+            Block block = holder.value();
+            if (isValidTarget(block)) {
+                out.set(BuiltInRegistries.BLOCK.getId(block));
+            }
+        }
+    }
+
+    private static void addIfValid(String blockId, BitSet out, String poolId) {
+        ResourceLocation location = ResourceLocation.tryParse(blockId);
+        if (location == null || !BuiltInRegistries.BLOCK.containsKey(location)) {
+            Cursed.LOGGER.warn("CURSED: unknown block {} in pool {} (skipped)", blockId, poolId);
+            return;
+        }
+
+        Block block = BuiltInRegistries.BLOCK.getValue(location);
+        if (isValidTarget(block)) {
+            out.set(BuiltInRegistries.BLOCK.getId(block));
+        } else {
+            Cursed.LOGGER.warn("CURSED: block {} in pool {} is not a valid curse target (skipped)", blockId, poolId);
+        }
+    }
+
+    /**
+     * Air, liquids, portals and admin blocks can never be cursed.
+     */
+    public static boolean isValidTarget(Block block) {
+        if (block.defaultBlockState().isAir()) return false;
+        if (block instanceof LiquidBlock) return false;
+        if (block instanceof NetherPortalBlock || block instanceof EndPortalBlock || block instanceof EndGatewayBlock) return false;
+        return !ADMIN_BLOCKS.contains(BuiltInRegistries.BLOCK.getKey(block).toString());
+    }
+}
@@ -0,0 +1,76 @@
+package obviouslymisfit.cursed.curses.engine;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.phys.BlockHitResult;
+
+import obviouslymisfit.cursed.debug.DebugMetrics;
+
+/**
+ * Block-change notifications for the EVENT curse contact mode (see CurseContactMode).
+ *
+ * Fabric hooks (no mixins) report player block breaks and block use (placement). Each marks the affected
+ * positions dirty for the current tick; at the end of the tick CurseTickLoop re-reads any stationary player
+ * standing on a dirty position, then clears the set.
+ *
+ * Dirty positions are few per tick, so they are kept in a small long[] with a linear contains. If a tick
+ * sees more than MAX_DIRTY changes the set degrades to "everything dirty" for that tick.
+ * Positions are not qualified by dimension: a collision only costs one extra re-read.
+ *
+ * Counters: curses.block_events.
+ */
+public final class CurseContactEvents {
+
+    public static final String METRIC_BLOCK_EVENTS = "curses.block_events";
+
+    private static final int MAX_DIRTY = 64;
+
+    private static final long[] dirty = new long[MAX_DIRTY];
+    private static int dirtyCount = 0;
+    private static boolean overflow = false;
+
+    private CurseContactEvents() {}
+
+    /**
+     * PlayerBlockBreakEvents.AFTER: the block at pos was removed.
+     */
+    public static void onBlockBroken(BlockPos pos) {
+        mark(pos.asLong());
+    }
+
+    /**
+     * UseBlockCallback: a placement, if any, lands on the clicked block (replaceable) or next to it.
+     */
+    public static void onBlockUsed(BlockHitResult hit) {
+        mark(hit.getBlockPos().asLong());
+        mark(hit.getBlockPos().relative(hit.getDirection()).asLong());
+    }
+
+    static boolean isDirty(long pos) {
+        if (overflow) return true;
+        for (int i = 0; i < dirtyCount; i++) {
+            if (dirty[i] == pos) return true;
+        }
+        return false;
+    }
+
+    static boolean hasDirty() {
+        return overflow || dirtyCount > 0;
+    }
+
+    /**
+     * End of tick: every dirty position has been consumed.
+     */
+    static void clearDirty() {
+        dirtyCount = 0;
+        overflow = false;
+    }
+
+    private static void mark(long pos) {
+        DebugMetrics.increment(METRIC_BLOCK_EVENTS);
+        if (dirtyCount == MAX_DIRTY) {
+            overflow = true;
+            return;
+        }
+        dirty[dirtyCount++] = pos;
+    }
+}
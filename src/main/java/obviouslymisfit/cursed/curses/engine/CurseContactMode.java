@@ -0,0 +1,29 @@
+package obviouslymisfit.cursed.curses.engine;
+
+import java.util.Locale;
+
+/**
+ * How the curse loop notices that the block under a stationary player changed (config: curseContactMode).
+ *
+ * - POLLED  stationary players are re-read round-robin, one shard per tick (bounded latency, steady cost)
+ * - EVENT   stationary players are re-read only when a block event touches their position, plus a slow
+ *           safety sweep for changes no event reports (pistons, explosions, fluids, non-player edits)
+ *
+ * Moving players, rotations and team changes are handled identically in both modes.
+ */
+public enum CurseContactMode {
+    POLLED,
+    EVENT;
+
+    /**
+     * Config value -> mode. Unknown or missing values fall back to POLLED.
+     */
+    public static CurseContactMode parse(String value) {
+        if (value == null) return POLLED;
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return POLLED;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package obviouslymisfit.cursed.curses.engine;
+
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.effect.MobEffectInstance;
+
+import obviouslymisfit.cursed.curses.data.CurseDataLoader;
+import obviouslymisfit.cursed.curses.runtime.EffectProfile;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Applies compiled effect profiles to players and enforces per-player cooldowns (M5 sections 6 and 8).
+ *
+ * Cooldowns are keyed by (player, profile): two different cursed blocks sharing a profile share its cooldown,
+ * which is what keeps a player walking across several cursed block types from stacking the same effect.
+ * Cooldowns are runtime-only (measured in server ticks) and reset on restart; that is safe because
+ * a restart always lands in PAUSED and the longest cooldown is a few seconds of play.
+ *
+ * Layout: each tracked player holds a small int slot (recycled on disconnect); cooldowns are one long[]
+ * indexed by slot * profileCount + CompiledEffect.index. Callers resolve the slot once (slotOf) and keep it,
+ * so a cooldown check is an array read.
+ *
+ * Profiles are compiled on first use and recompiled if CurseDataLoader's profile set is replaced;
+ * recompiling drops all cooldowns (indices may have moved).
+ */
+public final class CurseEffects {
+
+    private static final int MIN_SLOTS = 16;
+
+    private static Map<String, EffectProfile> compiledFrom = null;
+    private static Map<String, CompiledEffect> compiled = new HashMap<>();
+    private static int profileCount = 0;
+
+    private static final Map<UUID, Integer> slots = new HashMap<>();
+    private static int[] freeSlots = new int[0];
+    private static int freeCount = 0;
+    private static int slotCapacity = 0;
+
+    // slot * profileCount + profile index -> server tick at which the profile may fire again (0 = ready)
+    private static long[] readyAt = new long[0];
+
+    private CurseEffects() {}
+
+    /**
+     * Compiled profile for an id, or null if unknown.
+     */
+    static CompiledEffect compiled(String profileId) {
+        Map<String, EffectProfile> current = CurseDataLoader.profiles();
+        if (compiledFrom != current) compileAll(current);
+        return compiled.get(profileId);
+    }
+
+    /**
+     * Cooldown slot of the player, allocating one if needed. Stable until forget(player).
+     */
+    static int slotOf(UUID player) {
+        Integer slot = slots.get(player);
+        if (slot != null) return slot;
+
+        int next;
+        if (freeCount > 0) {
+            next = freeSlots[--freeCount];
+        } else {
+            next = slots.size();
+            if (next >= slotCapacity) grow(Math.max(MIN_SLOTS, slotCapacity * 2));
+        }
+        slots.put(player, next);
+        return next;
+    }
+
+    /**
+     * Server tick at which this profile can next fire for the slot (0 if never fired).
+     */
+    static long readyAt(int slot, CompiledEffect effect) {
+        return readyAt[slot * profileCount + effect.index];
+    }
+
+    /**
+     * Applies the profile if its cooldown has elapsed. Returns true if it fired.
+     */
+    static boolean fireIfReady(ServerPlayer player, int slot, CompiledEffect effect, long nowTick) {
+        int cell = slot * profileCount + effect.index;
+        if (nowTick < readyAt[cell]) return false;
+
+        readyAt[cell] = nowTick + effect.cooldownTicks;
+        apply(player, effect);
+        return true;
+    }
+
+    /**
+     * Unconditional application (no cooldown), e.g. debug triggers.
+     */
+    static void apply(ServerPlayer player, CompiledEffect effect) {
+        if (effect.damage > 0) {
+            player.hurtServer(player.level(), player.damageSources().magic(), effect.damage);
+        }
+
+        if (effect.exhaustion > 0) {
+            player.causeFoodExhaustion(effect.exhaustion);
+        }
+
+        for (int i = 0; i < effect.effects.length; i++) {
+            int duration = effect.durations[i];
+
+            switch (effect.stacking) {
+                case KEEP -> {
+                    if (player.getEffect(effect.effects[i]) != null) continue;
+                }
+                case EXTEND -> {
+                    MobEffectInstance active = player.getEffect(effect.effects[i]);
+                    if (active != null) duration += active.getDuration();
+                }
+                case REFRESH -> {
+                    // Vanilla addEffect keeps the stronger/longer instance.
+                }
+            }
+
+            player.addEffect(new MobEffectInstance(effect.effects[i], duration, effect.amplifiers[i]));
+        }
+
+        if (effect.feedback != null) {
+            player.displayClientMessage(effect.feedback, true);
+        }
+    }
+
+    /**
+     * Releases the player's slot (disconnect). Its cooldowns are cleared for the next occupant.
+     */
+    public static void forget(UUID player) {
+        Integer slot = slots.remove(player);
+        if (slot == null) return;
+
+        Arrays.fill(readyAt, slot * profileCount, (slot + 1) * profileCount, 0L);
+        if (freeCount == freeSlots.length) freeSlots = Arrays.copyOf(freeSlots, Math.max(MIN_SLOTS, freeCount * 2));
+        freeSlots[freeCount++] = slot;
+    }
+
+    public static void clear() {
+        slots.clear();
+        freeCount = 0;
+        Arrays.fill(readyAt, 0L);
+    }
+
+    private static void compileAll(Map<String, EffectProfile> profiles) {
+        Map<String, CompiledEffect> next = new HashMap<>();
+        int index = 0;
+        for (EffectProfile profile : profiles.values()) {
+            next.put(profile.getId(), CompiledEffect.compile(index++, profile));
+        }
+
+        compiledFrom = profiles;
+        compiled = next;
+        profileCount = index;
+        readyAt = new long[slotCapacity * profileCount];
+    }
+
+    private static void grow(int capacity) {
+        readyAt = Arrays.copyOf(readyAt, capacity * profileCount);
+        slotCapacity = capacity;
+    }
+}
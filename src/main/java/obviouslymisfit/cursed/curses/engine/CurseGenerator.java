@@ -0,0 +1,228 @@
+package obviouslymisfit.cursed.curses.engine;
+
+import obviouslymisfit.cursed.Cursed;
+import obviouslymisfit.cursed.curses.data.CurseDataLoader;
+import obviouslymisfit.cursed.curses.data.model.CurseGeneratorRuleFile;
+import obviouslymisfit.cursed.curses.runtime.CurseCategory;
+import obviouslymisfit.cursed.curses.runtime.CurseRule;
+import obviouslymisfit.cursed.curses.runtime.CurseState;
+import obviouslymisfit.cursed.curses.runtime.OwnerCurseSet;
+import obviouslymisfit.cursed.state.GameState;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Deterministic curse set selection (M5 sections 4, 5 and 9).
+ *
+ * Per owner, the generator picks `count` distinct block ids from the phase rule's eligible pools and assigns
+ * each an effect profile from the rule's profile list. Constraints:
+ *  - no duplicates within a set
+ *  - no cross-category overlap for any player: GLOBAL vs every TEAM/PLAYER set, TEAM vs its members' PLAYER sets
+ *  - repeat avoidance: the owner's previous set is avoided if enough other candidates remain
+ *  - invalid blocks are never candidates (see CurseBlockCandidates)
+ * Every fallback (repeat avoidance relaxed, too few candidates) is deterministic and logged.
+ *
+ * Determinism: the RNG for one owner is a counter-based stream keyed on (runId, owner key, rotation index)
+ * (see CurseRandom), so the same run regenerates the same sets regardless of the order owners are processed in,
+ * and the draws for rotation k never depend on having generated rotations 0..k-1.
+ *
+ * Mutates GameState.curses only; callers persist.
+ */
+public final class CurseGenerator {
+
+    // Below this many owners in a category, fork-join overhead outweighs the work.
+    private static final int PARALLEL_THRESHOLD = 16;
+
+    private CurseGenerator() {}
+
+    /**
+     * Run start (M5 section 10): generates the initial set of every owner for the current phase.
+     * Owners: the global owner, every configured team, and every assigned player (online or not).
+     */
+    public static void generateInitial(GameState state) {
+        state.curses.clear();
+        regenerateAll(state);
+    }
+
+    /**
+     * Regenerates every owner's set in category order (GLOBAL, TEAM, PLAYER), advancing each rotation index.
+     *
+     * Parallelism: an owner's selection only reads sets of OTHER categories (same-category sets never share an
+     * audience, see overlaps), and each owner draws from its own CurseRandom stream. So within one category
+     * every owner can be computed concurrently against a fixed snapshot of the earlier categories, then
+     * committed in owner order on the calling (server) thread before the next category starts.
+     * The result is identical to the sequential order for any thread count.
+     */
+    public static void regenerateAll(GameState state) {
+        regenerate(state, state.curses.getOrCreate(CurseCategory.GLOBAL, null));
+
+        List<OwnerCurseSet> teams = new ArrayList<>();
+        for (int teamIdx = 0; teamIdx < state.teamCount; teamIdx++) {
+            teams.add(state.curses.getOrCreate(CurseCategory.TEAM, Integer.toString(teamIdx)));
+        }
+        regenerateCategory(state, teams);
+
+        List<UUID> players = new ArrayList<>();
+        state.playerTeams.forEach((uuid, teamIdx) -> players.add(uuid));
+        players.sort(null); // stable commit order for logs; results do not depend on it
+        List<OwnerCurseSet> playerSets = new ArrayList<>(players.size());
+        for (UUID player : players) {
+            playerSets.add(state.curses.getOrCreate(CurseCategory.PLAYER, player.toString()));
+        }
+        regenerateCategory(state, playerSets);
+    }
+
+    /**
+     * Computes all sets of one category (fork-join when large enough), then commits them in list order.
+     */
+    private static void regenerateCategory(GameState state, List<OwnerCurseSet> sets) {
+        if (sets.isEmpty()) return;
+
+        // Warm the candidate cache on this thread: it is not thread-safe, the computations only read it.
+        CurseBlockCandidates.resolve(categoryRule(CurseDataLoader.rule(state.phase), sets.get(0).getCategory()).eligible_block_pools);
+
+        Stream<OwnerCurseSet> stream = (sets.size() >= PARALLEL_THRESHOLD) ? sets.parallelStream() : sets.stream();
+        List<List<CurseRule>> results = stream.map(set -> select(state, set, nextRotationIndex(set, 1))).toList();
+
+        for (int i = 0; i < sets.size(); i++) {
+            commit(state, sets.get(i), results.get(i), nextRotationIndex(sets.get(i), 1));
+        }
+    }
+
+    /**
+     * Regenerates one owner's set for the current phase. A set that already has rules advances its rotation index.
+     */
+    public static void regenerate(GameState state, OwnerCurseSet set) {
+        regenerate(state, set, 1);
+    }
+
+    /**
+     * Regenerates one owner's set directly at rotation index (current + advance), skipping the intermediate sets.
+     *
+     * Used to catch up rotations missed while an owner was offline: the result is a single generation with the
+     * target index's RNG stream. Repeat avoidance is against the set the owner last had in force.
+     */
+    public static void regenerate(GameState state, OwnerCurseSet set, int advance) {
+        int rotationIndex = nextRotationIndex(set, advance);
+        commit(state, set, select(state, set, rotationIndex), rotationIndex);
+    }
+
+    private static int nextRotationIndex(OwnerCurseSet set, int advance) {
+        return set.getActive().isEmpty() && set.getPreviousBlockIds().isEmpty()
+                ? set.getRotationIndex()
+                : set.getRotationIndex() + Math.max(1, advance);
+    }
+
+    /**
+     * Selects the owner's next rules without mutating anything (safe to run off-thread once the candidate
+     * cache is warm and no set is being committed).
+     */
+    private static List<CurseRule> select(GameState state, OwnerCurseSet set, int rotationIndex) {
+        CurseGeneratorRuleFile rule = CurseDataLoader.rule(state.phase);
+        CurseGeneratorRuleFile.Category category = categoryRule(rule, set.getCategory());
+
+        List<CurseRule> next = new ArrayList<>();
+        if (category.count > 0) {
+            CurseRandom rng = CurseRandom.forRotation(state.runId, CurseState.keyOf(set.getCategory(), set.getOwner()), rotationIndex, 0L);
+
+            // Cached, sorted registry ids with invalid targets already excluded (see CurseBlockCandidates).
+            int[] candidates = CurseBlockCandidates.resolve(category.eligible_block_pools);
+            BitSet excluded = overlapExclusions(state, set);
+            BitSet previous = blockBits(set.getPreviousBlockIds());
+
+            // One pass splits the allowed candidates into "all" and "fresh" (not in the previous set).
+            int[] all = new int[candidates.length];
+            int[] fresh = new int[candidates.length];
+            int allCount = 0;
+            int freshCount = 0;
+            for (int id : candidates) {
+                if (excluded.get(id)) continue;
+                all[allCount++] = id;
+                if (!previous.get(id)) fresh[freshCount++] = id;
+            }
+
+            int[] source = fresh;
+            int sourceCount = freshCount;
+            if (freshCount < category.count) {
+                Cursed.LOGGER.info("CURSED: curse repeat avoidance relaxed for {} (fresh={}, needed={})",
+                        CurseState.keyOf(set.getCategory(), set.getOwner()), freshCount, category.count);
+                source = all;
+                sourceCount = allCount;
+            }
+            if (sourceCount < category.count) {
+                Cursed.LOGGER.warn("CURSED: only {} curse candidates for {} (needed {})",
+                        sourceCount, CurseState.keyOf(set.getCategory(), set.getOwner()), category.count);
+            }
+
+            int picks = Math.min(category.count, sourceCount);
+            for (int i = 0; i < picks; i++) {
+                // Partial Fisher-Yates: each pick is uniform over the remaining candidates, never a duplicate.
+                int j = i + rng.nextInt(sourceCount - i);
+                int picked = source[j];
+                source[j] = source[i];
+                source[i] = picked;
+                String blockId = CurseBlockCandidates.blockId(picked);
+
+                String profileId = category.effect_profiles.get(rng.nextInt(category.effect_profiles.size()));
+                next.add(new CurseRule(blockId, set.getCategory(), state.phase, profileId, set.getOwner()));
+            }
+        }
+        return next;
+    }
+
+    private static void commit(GameState state, OwnerCurseSet set, List<CurseRule> next, int rotationIndex) {
+        set.replaceActive(next);
+        set.setRotationIndex(rotationIndex);
+        set.setMissedRotations(0); // the set is current again
+        state.curses.put(set);
+    }
+
+    private static CurseGeneratorRuleFile.Category categoryRule(CurseGeneratorRuleFile rule, CurseCategory category) {
+        return switch (category) {
+            case GLOBAL -> rule.global;
+            case TEAM -> rule.team;
+            case PLAYER -> rule.player;
+        };
+    }
+
+    /**
+     * Registry ids of blocks active in any set whose audience overlaps this owner's audience.
+     */
+    private static BitSet overlapExclusions(GameState state, OwnerCurseSet target) {
+        BitSet excluded = new BitSet();
+
+        state.curses.forEach(other -> {
+            if (other == target || !overlaps(state, target, other)) return;
+            for (CurseRule rule : other.getActive()) {
+                int id = CurseBlockCandidates.blockIndex(rule.getBlockId());
+                if (id >= 0) excluded.set(id);
+            }
+        });
+
+        return excluded;
+    }
+
+    private static BitSet blockBits(List<String> blockIds) {
+        BitSet bits = new BitSet();
+        for (String blockId : blockIds) {
+            int id = CurseBlockCandidates.blockIndex(blockId);
+            if (id >= 0) bits.set(id);
+        }
+        return bits;
+    }
+
+    private static boolean overlaps(GameState state, OwnerCurseSet a, OwnerCurseSet b) {
+        if (a.getCategory() == b.getCategory()) return false; // same category never shares an audience
+        if (a.getCategory() == CurseCategory.GLOBAL || b.getCategory() == CurseCategory.GLOBAL) return true;
+
+        // TEAM vs PLAYER: overlap only if the player belongs to that team.
+        OwnerCurseSet team = (a.getCategory() == CurseCategory.TEAM) ? a : b;
+        OwnerCurseSet player = (team == a) ? b : a;
+        int playerTeam = state.playerTeams.get(UUID.fromString(player.getOwner()));
+        return Integer.toString(playerTeam).equals(team.getOwner());
+    }
+}
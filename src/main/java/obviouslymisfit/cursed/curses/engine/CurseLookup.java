@@ -0,0 +1,121 @@
+package obviouslymisfit.cursed.curses.engine;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+
+import obviouslymisfit.cursed.curses.runtime.CurseRule;
+import obviouslymisfit.cursed.curses.runtime.CurseState;
+import obviouslymisfit.cursed.state.PlayerTeamIndex;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Compiled, runtime-only form of CurseState.
+ *
+ * Two views per owner key:
+ *  - a bitmap (long[]) over block STATE registry ids (Block.BLOCK_STATE_REGISTRY): bit i is set if the
+ *    block of state i is cursed for that owner. Every state of a cursed block type is set, so the hot path
+ *    can test the state id it already read without resolving the block or its id string.
+ *  - Block -> rule, consulted only after a bitmap hit to find which effect profile applies.
+ *
+ * A player is covered by three owners (PLAYER, TEAM, GLOBAL); effectiveMask(...) ORs their bitmaps into
+ * one, so "is this block cursed for this player?" is a single bit test. Callers cache the effective mask
+ * per player and rebuild it only when this lookup is rebuilt (rotation/regeneration) or the player's team changes.
+ *
+ * Rebuilt whenever CurseState.version() changes. Never persisted.
+ */
+public final class CurseLookup {
+
+    private static final long[] EMPTY_MASK = new long[0];
+
+    private final CurseState source;
+    private final int version;
+    private final int words;
+    private final Map<String, Map<Block, CurseRule>> byOwner = new HashMap<>();
+    private final Map<String, long[]> masksByOwner = new HashMap<>();
+
+    private CurseLookup(CurseState source) {
+        this.source = source;
+        this.version = source.version();
+        this.words = (Block.BLOCK_STATE_REGISTRY.size() + 63) >>> 6;
+
+        source.forEach(set -> {
+            Map<Block, CurseRule> rules = new HashMap<>();
+            long[] mask = new long[words];
+
+            for (CurseRule rule : set.getActive()) {
+                ResourceLocation id = ResourceLocation.tryParse(rule.getBlockId());
+                if (id == null || !BuiltInRegistries.BLOCK.containsKey(id)) continue;
+
+                Block block = BuiltInRegistries.BLOCK.getValue(id);
+                rules.put(block, rule);
+                for (BlockState state : block.getStateDefinition().getPossibleStates()) {
+                    int stateId = Block.getId(state);
+                    mask[stateId >>> 6] |= 1L << stateId;
+                }
+            }
+
+            if (!rules.isEmpty()) {
+                String key = CurseState.keyOf(set.getCategory(), set.getOwner());
+                byOwner.put(key, rules);
+                masksByOwner.put(key, mask);
+            }
+        });
+    }
+
+    public static CurseLookup build(CurseState state) {
+        return new CurseLookup(state);
+    }
+
+    public boolean isCurrentFor(CurseState state) {
+        return source == state && version == state.version();
+    }
+
+    /**
+     * OR of the player's PLAYER, TEAM and GLOBAL owner bitmaps. Returns a shared empty mask if none apply.
+     * The returned array may be shared; callers must not mutate it.
+     */
+    public long[] effectiveMask(UUID player, int teamIdx) {
+        long[] own = masksByOwner.get(CurseState.playerKey(player));
+        long[] team = (teamIdx == PlayerTeamIndex.NO_TEAM) ? null : masksByOwner.get(CurseState.teamKey(teamIdx));
+        long[] global = masksByOwner.get(CurseState.globalKey());
+
+        int present = (own != null ? 1 : 0) + (team != null ? 1 : 0) + (global != null ? 1 : 0);
+        if (present == 0) return EMPTY_MASK;
+        if (present == 1) return (own != null) ? own : (team != null) ? team : global;
+
+        long[] out = new long[words];
+        for (int i = 0; i < words; i++) {
+            out[i] = (own != null ? own[i] : 0L) | (team != null ? team[i] : 0L) | (global != null ? global[i] : 0L);
+        }
+        return out;
+    }
+
+    /**
+     * Hot-path bit test: is the block state with this registry id cursed under the given mask?
+     */
+    public static boolean test(long[] mask, int stateId) {
+        int word = stateId >>> 6;
+        return word < mask.length && (mask[word] & (1L << stateId)) != 0;
+    }
+
+    /**
+     * The rule that curses this block for this player, or null.
+     * Cross-category overlap is excluded at generation, so at most one category can match; PLAYER is checked first.
+     */
+    public CurseRule match(UUID player, int teamIdx, Block block) {
+        CurseRule rule = find(CurseState.playerKey(player), block);
+        if (rule == null && teamIdx != PlayerTeamIndex.NO_TEAM) rule = find(CurseState.teamKey(teamIdx), block);
+        if (rule == null) rule = find(CurseState.globalKey(), block);
+        return rule;
+    }
+
+    private CurseRule find(String ownerKey, Block block) {
+        Map<Block, CurseRule> rules = byOwner.get(ownerKey);
+        return (rules == null) ? null : rules.get(block);
+    }
+}
@@ -0,0 +1,68 @@
+package obviouslymisfit.cursed.curses.engine;
+
+import java.util.UUID;
+
+/**
+ * Counter-based random stream for curse generation (M5 section 9 determinism).
+ *
+ * Why not java.util.Random:
+ * - Random is a sequential LCG: draw n depends on draws 0..n-1. The curse streams are already keyed per
+ *   (runId, owner key, rotation index), but anything derived from "the n-th draw" had to replay the prefix.
+ * - Here draw n is a pure function mix(key + n * GAMMA) (SplitMix64), so any stream position, and any
+ *   rotation index's stream, is reachable in O(1). Catching up k missed rotations costs one generation
+ *   with index k, not k generations.
+ *
+ * Not thread-safe (the counter is plain state); create one per generation.
+ */
+public final class CurseRandom {
+
+    private static final long GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long key;
+    private long counter;
+
+    private CurseRandom(long key) {
+        this.key = key;
+    }
+
+    /**
+     * Stream for one owner's rotation k. Distinct salts give independent streams from the same triple.
+     */
+    public static CurseRandom forRotation(UUID runId, String ownerKey, int rotationIndex, long salt) {
+        long h = (runId == null) ? 0 : mix(runId.getMostSignificantBits()) ^ runId.getLeastSignificantBits();
+        h = mix(h ^ ownerKey.hashCode());
+        h = mix(h + rotationIndex);
+        return new CurseRandom(h ^ salt);
+    }
+
+    /**
+     * Draw n of the stream with this key, without touching any counter.
+     */
+    public static long at(long key, long n) {
+        return mix(key + (n + 1) * GAMMA);
+    }
+
+    public long nextLong() {
+        return at(key, counter++);
+    }
+
+    /**
+     * Uniform int in [0, bound). Uses the high bits with rejection, so there is no modulo bias.
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) throw new IllegalArgumentException("bound must be positive: " + bound);
+
+        long limit = (1L << 31) - ((1L << 31) % bound);
+        while (true) {
+            long bits = nextLong() >>> 33;
+            if (bits < limit) return (int) (bits % bound);
+        }
+    }
+
+    // SplitMix64 finalizer.
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,134 @@
+package obviouslymisfit.cursed.curses.engine;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+
+import obviouslymisfit.cursed.Cursed;
+import obviouslymisfit.cursed.curses.data.CurseDataLoader;
+import obviouslymisfit.cursed.curses.data.model.CurseGeneratorRuleFile;
+import obviouslymisfit.cursed.curses.runtime.CurseCategory;
+import obviouslymisfit.cursed.curses.runtime.CurseState;
+import obviouslymisfit.cursed.curses.runtime.OwnerCurseSet;
+import obviouslymisfit.cursed.debug.DebugMetrics;
+import obviouslymisfit.cursed.state.GameState;
+import obviouslymisfit.cursed.state.RunLifecycleState;
+import obviouslymisfit.cursed.state.persistence.StateStorage;
+
+import java.util.UUID;
+
+/**
+ * Curse set rotation (M5 section 7): each owner regenerates its set on its own jittered interval.
+ *
+ * Clock: GameState.runTicks counts ticks spent RUNNING. It is advanced here, once per server tick while
+ * RUNNING, and does not move while PAUSED, so every pending rotation is frozen with it.
+ *
+ * Offline players keep rotating on schedule, but lazily: when an offline player's rotation comes due it is only
+ * counted (OwnerCurseSet.missedRotations) and rescheduled. On join, all missed rotations are applied as ONE
+ * generation at the target rotation index, which CurseRandom makes directly computable, instead of replaying
+ * each missed rotation with its constraint checks. Teams and the global owner are never offline and rotate eagerly.
+ *
+ * Pending rotations live in GameState.curseRotations (a min-heap keyed on due run tick, persisted),
+ * so each tick is one peek unless something is due. A restart resumes from the persisted due ticks.
+ *
+ * Delay of the next rotation = phase rule interval_ticks + [0, jitter_ticks], drawn from the CurseRandom
+ * stream of (runId, owner key, rotation index) so a replayed run schedules identically.
+ *
+ * Counters: curses.rotations, curses.rotations_deferred, curses.rotations_skipped_ahead.
+ */
+public final class CurseRotationScheduler {
+
+    public static final String METRIC_ROTATIONS = "curses.rotations";
+    public static final String METRIC_DEFERRED = "curses.rotations_deferred";
+    public static final String METRIC_SKIPPED_AHEAD = "curses.rotations_skipped_ahead";
+
+    // Separates the jitter stream from the selection stream that uses the same (runId, owner, rotation) seed.
+    private static final long JITTER_SALT = 0x5DEECE66DL;
+
+    private CurseRotationScheduler() {}
+
+    /**
+     * Server tick: advances the run clock and performs every rotation that is due. Idle unless RUNNING.
+     */
+    public static void tick(MinecraftServer server) {
+        GameState state = StateStorage.get(server);
+        if (state.lifecycleState != RunLifecycleState.RUNNING) return;
+
+        long now = ++state.runTicks;
+        if (state.curseRotations.peekDue() > now) return;
+
+        int rotated = 0;
+        int deferred = 0;
+        while (state.curseRotations.peekDue() <= now) {
+            String ownerKey = state.curseRotations.poll();
+            OwnerCurseSet set = state.curses.get(ownerKey);
+            if (set == null) continue; // owner dropped since it was scheduled
+
+            if (isOfflinePlayer(server, set)) {
+                set.setMissedRotations(set.getMissedRotations() + 1);
+                state.curses.markDirty(ownerKey);
+                deferred++;
+            } else {
+                CurseGenerator.regenerate(state, set);
+                rotated++;
+            }
+            schedule(state, set, now);
+        }
+
+        if (rotated > 0) DebugMetrics.add(METRIC_ROTATIONS, rotated);
+        if (deferred > 0) DebugMetrics.add(METRIC_DEFERRED, deferred);
+        if (rotated + deferred > 0) {
+            StateStorage.save(server, state);
+            Cursed.LOGGER.debug("CURSED: rotated {} curse sets, deferred {} offline at run tick {}", rotated, deferred, now);
+        }
+    }
+
+    /**
+     * Connection JOIN: applies every rotation the player missed while offline as a single skip-ahead generation.
+     * Runs regardless of lifecycle state; nothing is due while PAUSED, so only already-counted misses apply.
+     */
+    public static void onJoin(MinecraftServer server, ServerPlayer player) {
+        GameState state = StateStorage.get(server);
+        if (state.runId == null) return;
+
+        OwnerCurseSet set = state.curses.get(CurseState.playerKey(player.getUUID()));
+        if (set == null || set.getMissedRotations() == 0) return;
+
+        int missed = set.getMissedRotations();
+        CurseGenerator.regenerate(state, set, missed);
+
+        DebugMetrics.increment(METRIC_ROTATIONS);
+        DebugMetrics.add(METRIC_SKIPPED_AHEAD, missed - 1);
+        StateStorage.save(server, state);
+        Cursed.LOGGER.debug("CURSED: caught up {} missed rotations for {} in one generation", missed, player.getUUID());
+    }
+
+    /**
+     * Replaces the whole schedule: every owner's next rotation counted from the current run tick.
+     * Used after run start and after a full regeneration.
+     */
+    public static void scheduleAll(GameState state) {
+        state.curseRotations.clear();
+        state.curses.forEach(set -> schedule(state, set, state.runTicks));
+    }
+
+    private static void schedule(GameState state, OwnerCurseSet set, long from) {
+        CurseGeneratorRuleFile.Rotation rotation = CurseDataLoader.rule(state.phase).rotation;
+        if (rotation == null || rotation.interval_ticks <= 0) return; // rotation disabled for this phase
+
+        String ownerKey = CurseState.keyOf(set.getCategory(), set.getOwner());
+        long delay = rotation.interval_ticks;
+        if (rotation.jitter_ticks > 0) {
+            // Keyed on the logical index (including missed rotations) so deferral does not change the timing.
+            int logicalIndex = set.getRotationIndex() + set.getMissedRotations();
+            delay += CurseRandom.forRotation(state.runId, ownerKey, logicalIndex, JITTER_SALT).nextInt(rotation.jitter_ticks + 1);
+        }
+
+        state.curseRotations.schedule(ownerKey, from + delay);
+        state.curses.markDirty(ownerKey);
+    }
+
+    private static boolean isOfflinePlayer(MinecraftServer server, OwnerCurseSet set) {
+        if (set.getCategory() != CurseCategory.PLAYER) return false;
+        return server.getPlayerList().getPlayer(UUID.fromString(set.getOwner())) == null;
+    }
+}
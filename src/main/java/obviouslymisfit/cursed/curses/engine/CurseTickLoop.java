@@ -0,0 +1,289 @@
+package obviouslymisfit.cursed.curses.engine;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+
+import obviouslymisfit.cursed.config.ConfigManager;
+import obviouslymisfit.cursed.config.PerformanceConfig;
+import obviouslymisfit.cursed.curses.runtime.CurseRule;
+import obviouslymisfit.cursed.curses.runtime.EffectMode;
+import obviouslymisfit.cursed.debug.DebugMetrics;
+import obviouslymisfit.cursed.penalties.engine.PenaltyService;
+import obviouslymisfit.cursed.state.GameState;
+import obviouslymisfit.cursed.state.RunLifecycleState;
+import obviouslymisfit.cursed.state.persistence.StateStorage;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Server-side standing-on detection loop (M5 section 6). Runs at the end of every server tick while RUNNING.
+ *
+ * Change gating:
+ * Most players stand still or keep walking on the same block for many ticks. Each player therefore keeps a
+ * Contact: last dimension, BlockPos (as long) and block state id under their feet, plus the matched rule.
+ * The owner-set match and effect dispatch only run when one of those changes, or when the curse sets change.
+ * Otherwise the tick is "avoided", except when the matched profile is TICK mode and its cooldown has
+ * expired, in which case it fires again without re-matching.
+ *
+ * Re-reading the block state is still required to notice a block changing under a stationary player
+ * (e.g. placed or broken); that is a single chunk section lookup, done on the player's shard tick (below).
+ *
+ * Matching: each Contact holds the player's effective cursed-state bitmap (see CurseLookup), so deciding whether
+ * the block under the player is cursed is one bit test on its state id; owner rules are consulted only on a hit.
+ *
+ * Sharding (large servers): stationary players are split into N shards by a per-contact slot and re-read
+ * round-robin, one shard per tick. Players who moved (position or dimension) or whose curse sets changed are
+ * fast-tracked and evaluated on the current tick regardless of shard. N is sized from the per-tick budget in
+ * config/cursed.performance.json and raised while the server's average tick time is high; the resulting
+ * worst-case latency (N - 1 ticks for a block changing under a stationary player) is reported as a gauge.
+ * Due TICK effects of out-of-shard players fire from their last evaluated contact.
+ *
+ * EVENT mode (CurseContactMode): instead of the round-robin re-read, a stationary player is re-read when a
+ * block event (CurseContactEvents) touched their position this tick, plus a safety sweep spread over
+ * EVENT_SWEEP_TICKS for changes Fabric reports no event for. TICK effects are only timed for players whose
+ * last contact matched a TICK profile, as in POLLED mode.
+ *
+ * Counters: curses.contact_evaluations, curses.evaluations_avoided, curses.effects_fired, curses.mask_rebuilds,
+ * curses.loop_nanos (also per mode: .polled/.event, with loop_ticks and loop_player_ticks).
+ * Gauges: curses.shards, curses.max_latency_ticks.
+ * Contacts are runtime-only and dropped on disconnect, pause does not clear them (nothing moves while paused).
+ */
+public final class CurseTickLoop {
+
+    public static final String METRIC_EVALUATIONS = "curses.contact_evaluations";
+    public static final String METRIC_AVOIDED = "curses.evaluations_avoided";
+    public static final String METRIC_FIRED = "curses.effects_fired";
+    public static final String METRIC_MASK_REBUILDS = "curses.mask_rebuilds";
+    public static final String METRIC_LOOP_NANOS = "curses.loop_nanos";
+    public static final String METRIC_SHARDS = "curses.shards";
+    public static final String METRIC_MAX_LATENCY = "curses.max_latency_ticks";
+
+    public static final String METRIC_LOOP_TICKS = "curses.loop_ticks";
+    public static final String METRIC_PLAYER_TICKS = "curses.loop_player_ticks";
+
+    private static final int ADAPT_INTERVAL_TICKS = 20;
+    private static final int EVENT_SWEEP_TICKS = 100;
+
+    // Sentinel for "not standing on a block" (airborne, swimming, flying).
+    private static final long NO_POS = Long.MIN_VALUE;
+    private static final int NO_STATE = -1;
+
+    private static final Map<UUID, Contact> contacts = new HashMap<>();
+    private static CurseLookup lookup = null;
+
+    private static int nextSlot = 0;       // round-robin shard slot handed to each new Contact
+    private static int adaptiveShards = 1; // tick-time driven floor on the shard count
+
+    private CurseTickLoop() {}
+
+    public static void tick(MinecraftServer server) {
+        GameState state = StateStorage.get(server);
+        if (state.lifecycleState != RunLifecycleState.RUNNING || state.curses.isEmpty()) return;
+
+        long startNanos = System.nanoTime();
+
+        CurseLookup current = lookup;
+        if (current == null || !current.isCurrentFor(state.curses)) {
+            current = CurseLookup.build(state.curses);
+            lookup = current;
+        }
+
+        long now = server.getTickCount();
+        List<ServerPlayer> players = server.getPlayerList().getPlayers();
+        CurseContactMode mode = CurseContactMode.parse(ConfigManager.performance().curseContactMode);
+
+        // EVENT mode: stationary players are re-read when a block event touches them; the "shards" only
+        // spread the safety sweep for unreported changes over EVENT_SWEEP_TICKS.
+        int shards = (mode == CurseContactMode.EVENT) ? EVENT_SWEEP_TICKS : updateShardCount(server, players.size(), now);
+        int shard = (int) (now % shards);
+        boolean checkEvents = mode == CurseContactMode.EVENT && CurseContactEvents.hasDirty();
+
+        long avoided = 0;
+
+        for (ServerPlayer player : players) {
+            UUID id = player.getUUID();
+
+            // Curses apply to players in survival play only.
+            if (player.isSpectator() || player.isCreative() || !player.isAlive()) {
+                contacts.remove(id);
+                continue;
+            }
+
+            Contact contact = contacts.computeIfAbsent(id, k -> new Contact(nextSlot++, CurseEffects.slotOf(k)));
+
+            ResourceKey<Level> dimension = player.level().dimension();
+            BlockPos onPos = player.onGround() ? player.getOnPos() : null;
+            long pos = (onPos == null) ? NO_POS : onPos.asLong();
+
+            // Effective mask (PLAYER | TEAM | GLOBAL) is rebuilt only on rotation/regeneration or a team change.
+            boolean maskStale = contact.lookup != current || contact.teamsModCount != state.playerTeams.modCount();
+            if (maskStale) {
+                contact.mask = current.effectiveMask(id, state.playerTeams.get(id));
+                contact.lookup = current;
+                contact.teamsModCount = state.playerTeams.modCount();
+                DebugMetrics.increment(METRIC_MASK_REBUILDS);
+            }
+
+            // Fast track: moved, changed dimension or curse sets changed -> evaluate this tick.
+            // Otherwise a stationary player is only re-read on their shard's tick.
+            boolean moved = maskStale || contact.dimension != dimension || contact.pos != pos
+                    || (checkEvents && CurseContactEvents.isDirty(pos));
+            if (!moved && contact.slot % shards != shard) {
+                tickUnchanged(state, player, contact, now);
+                avoided++;
+                continue;
+            }
+
+            BlockState blockState = null;
+            int stateId = NO_STATE;
+            if (onPos != null) {
+                blockState = player.level().getBlockState(onPos);
+                stateId = Block.getId(blockState);
+            }
+
+            if (!moved && contact.stateId == stateId) {
+                // Same block as last evaluation: only a due TICK profile needs work.
+                if (!tickUnchanged(state, player, contact, now)) avoided++;
+                continue;
+            }
+
+            DebugMetrics.increment(METRIC_EVALUATIONS);
+
+            CurseRule previousRule = contact.rule;
+            contact.dimension = dimension;
+            contact.pos = pos;
+            contact.stateId = stateId;
+
+            // Single bit test on the state id; the rule itself is only resolved on a hit.
+            CurseRule rule = (blockState == null || !CurseLookup.test(contact.mask, stateId))
+                    ? null
+                    : current.match(id, state.playerTeams.get(id), blockState.getBlock());
+            CompiledEffect profile = (rule == null) ? null : CurseEffects.compiled(rule.getEffectProfileId());
+
+            contact.rule = (profile == null) ? null : rule;
+            contact.profile = profile;
+            if (profile == null) continue;
+
+            // EVENT fires when contact with a curse begins; TICK fires whenever its cooldown allows.
+            boolean newContact = previousRule != rule;
+            if (profile.mode == EffectMode.TICK || newContact) {
+                fire(state, player, contact, now);
+            } else {
+                contact.nextDue = CurseEffects.readyAt(contact.effectSlot, profile);
+            }
+        }
+
+        if (avoided > 0) DebugMetrics.add(METRIC_AVOIDED, avoided);
+        CurseContactEvents.clearDirty();
+
+        // Per-mode totals: compare cost per player-tick between modes (see /curse debug bench curses).
+        long elapsed = System.nanoTime() - startNanos;
+        String suffix = (mode == CurseContactMode.EVENT) ? ".event" : ".polled";
+        DebugMetrics.add(METRIC_LOOP_NANOS, elapsed);
+        DebugMetrics.add(METRIC_LOOP_NANOS + suffix, elapsed);
+        DebugMetrics.add(METRIC_LOOP_TICKS + suffix, 1);
+        DebugMetrics.add(METRIC_PLAYER_TICKS + suffix, players.size());
+        if (mode == CurseContactMode.EVENT) {
+            DebugMetrics.set(METRIC_SHARDS, 1);
+            DebugMetrics.set(METRIC_MAX_LATENCY, EVENT_SWEEP_TICKS - 1); // unreported changes only
+        }
+    }
+
+    /**
+     * Contact assumed unchanged: fires a due TICK profile from the last evaluation. Returns true if it fired.
+     */
+    private static boolean tickUnchanged(GameState state, ServerPlayer player, Contact contact, long now) {
+        if (contact.profile != null && contact.profile.mode == EffectMode.TICK && now >= contact.nextDue) {
+            fire(state, player, contact, now);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Shard count for this tick: enough shards that one shard fits curseEvaluationsPerTick, raised further
+     * while the server's average tick time is above curseTickTimeHighMs and lowered again once it is below
+     * curseTickTimeLowMs (re-evaluated once per second), within [curseMinShards, curseMaxShards].
+     *
+     * A stationary player is re-read at least once every `shards` ticks, so the worst-case added latency for
+     * noticing a block change under them is shards - 1 ticks. Moving players are never delayed.
+     */
+    private static int updateShardCount(MinecraftServer server, int online, long now) {
+        PerformanceConfig config = ConfigManager.performance();
+        int min = Math.max(1, config.curseMinShards);
+        int max = Math.max(min, config.curseMaxShards);
+
+        if (now % ADAPT_INTERVAL_TICKS == 0) {
+            long tickMs = server.getAverageTickTimeNanos() / 1_000_000L;
+            if (tickMs > config.curseTickTimeHighMs) {
+                adaptiveShards = Math.min(max, adaptiveShards * 2);
+            } else if (tickMs < config.curseTickTimeLowMs) {
+                adaptiveShards = Math.max(min, adaptiveShards - 1);
+            }
+        }
+
+        int budget = Math.max(1, config.curseEvaluationsPerTick);
+        int forBudget = (online + budget - 1) / budget;
+        int shards = Math.max(min, Math.min(max, Math.max(forBudget, adaptiveShards)));
+
+        DebugMetrics.set(METRIC_SHARDS, shards);
+        DebugMetrics.set(METRIC_MAX_LATENCY, shards - 1);
+        return shards;
+    }
+
+    private static void fire(GameState state, ServerPlayer player, Contact contact, long now) {
+        if (CurseEffects.fireIfReady(player, contact.effectSlot, contact.profile, now)) {
+            DebugMetrics.increment(METRIC_FIRED);
+            // M9 section 3.2: opted-in profiles penalize the curse's owner (queued, resolved at end of tick).
+            if (contact.profile.penalty) {
+                PenaltyService.onCurseEffect(state, player, contact.rule);
+            }
+        }
+        contact.nextDue = CurseEffects.readyAt(contact.effectSlot, contact.profile);
+    }
+
+    public static void onLeave(ServerPlayer player) {
+        contacts.remove(player.getUUID());
+        CurseEffects.forget(player.getUUID());
+    }
+
+    public static void clear() {
+        contacts.clear();
+        lookup = null;
+        nextSlot = 0;
+        adaptiveShards = 1;
+        CurseEffects.clear();
+    }
+
+    /**
+     * Last observed ground contact of one player.
+     */
+    private static final class Contact {
+        final int slot;       // shard membership: slot % shards
+        final int effectSlot; // CurseEffects cooldown slot
+
+        ResourceKey<Level> dimension;
+        long pos = NO_POS;
+        int stateId = NO_STATE;
+        CurseLookup lookup; // identity: a rebuilt lookup (sets changed or state replaced) forces re-matching
+        int teamsModCount;
+        long[] mask;        // effective cursed-state bitmap for this player
+
+        CurseRule rule;
+        CompiledEffect profile;
+        long nextDue; // server tick at which a TICK profile may fire again
+
+        Contact(int slot, int effectSlot) {
+            this.slot = slot;
+            this.effectSlot = effectSlot;
+        }
+    }
+}
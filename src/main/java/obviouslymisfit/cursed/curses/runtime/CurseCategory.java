@@ -0,0 +1,13 @@
+package obviouslymisfit.cursed.curses.runtime;
+
+/**
+ * Curse ownership category (M5 section 3). Nothing is shared between owners.
+ *
+ * Declaration order is the generation order: GLOBAL sets are chosen first, then TEAM sets avoid them,
+ * then PLAYER sets avoid both (no cross-category overlap for any player).
+ */
+public enum CurseCategory {
+    GLOBAL,
+    TEAM,
+    PLAYER
+}
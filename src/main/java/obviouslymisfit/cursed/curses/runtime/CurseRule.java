@@ -0,0 +1,51 @@
+package obviouslymisfit.cursed.curses.runtime;
+
+import java.util.Objects;
+
+/**
+ * One active cursed block rule (M5 section 2). Persisted as part of its owner's curse set.
+ *
+ * A rule is attached to a block TYPE, never a world position: standing on any block of that type triggers
+ * the rule's effect profile, but only for players the owner covers (see CurseCategory).
+ *
+ * owner:
+ *  - PLAYER -> player UUID string
+ *  - TEAM   -> team index as string
+ *  - GLOBAL -> null
+ */
+public final class CurseRule {
+
+    private final String blockId;
+    private final CurseCategory category;
+    private final int phaseAssigned;
+    private final String effectProfileId;
+    private final String owner;
+
+    public CurseRule(String blockId, CurseCategory category, int phaseAssigned, String effectProfileId, String owner) {
+        this.blockId = Objects.requireNonNull(blockId, "blockId");
+        this.category = Objects.requireNonNull(category, "category");
+        this.phaseAssigned = phaseAssigned;
+        this.effectProfileId = Objects.requireNonNull(effectProfileId, "effectProfileId");
+        this.owner = owner;
+    }
+
+    public String getBlockId() {
+        return blockId;
+    }
+
+    public CurseCategory getCategory() {
+        return category;
+    }
+
+    public int getPhaseAssigned() {
+        return phaseAssigned;
+    }
+
+    public String getEffectProfileId() {
+        return effectProfileId;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+}
@@ -0,0 +1,131 @@
+package obviouslymisfit.cursed.curses.runtime;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * All per-owner curse sets of the run (persisted run data, M5 section 12).
+ *
+ * Sets are keyed by owner key:
+ *  - "global"
+ *  - "team:<index>"
+ *  - "player:<uuid>"
+ * Insertion order is generation order (GLOBAL, TEAM, PLAYER), so iteration and debug output are stable.
+ *
+ * version is a runtime-only change counter: every mutation bumps it so evaluators holding derived
+ * lookups (e.g. per-player contact caches) know to rebuild. It is not persisted.
+ *
+ * Dirty tracking (runtime only): owners whose persisted record changed since the last save, so
+ * CurseStateFileIO can append just those. clear() marks everything dirty (the file must be rewritten).
+ */
+public final class CurseState {
+
+    private final Map<String, OwnerCurseSet> sets = new LinkedHashMap<>();
+
+    private transient int version;
+
+    private final transient Set<String> dirtyOwners = new LinkedHashSet<>();
+    private transient boolean dirtyAll = true; // a fresh state has never been written
+
+    public static String globalKey() {
+        return "global";
+    }
+
+    public static String teamKey(int teamIdx) {
+        return "team:" + teamIdx;
+    }
+
+    public static String playerKey(UUID player) {
+        return "player:" + player;
+    }
+
+    public static String keyOf(CurseCategory category, String owner) {
+        return switch (category) {
+            case GLOBAL -> globalKey();
+            case TEAM -> "team:" + owner;
+            case PLAYER -> "player:" + owner;
+        };
+    }
+
+    public OwnerCurseSet get(String ownerKey) {
+        return sets.get(ownerKey);
+    }
+
+    /**
+     * Returns the owner's set, creating an empty one if needed.
+     */
+    public OwnerCurseSet getOrCreate(CurseCategory category, String owner) {
+        return sets.computeIfAbsent(keyOf(category, owner), k -> new OwnerCurseSet(category, owner));
+    }
+
+    public void put(OwnerCurseSet set) {
+        String key = keyOf(set.getCategory(), set.getOwner());
+        sets.put(key, set);
+        dirtyOwners.add(key);
+        markChanged();
+    }
+
+    public void clear() {
+        sets.clear();
+        dirtyOwners.clear();
+        dirtyAll = true;
+        markChanged();
+    }
+
+    public boolean isEmpty() {
+        return sets.isEmpty();
+    }
+
+    public int size() {
+        return sets.size();
+    }
+
+    public void forEach(Consumer<OwnerCurseSet> consumer) {
+        sets.values().forEach(consumer);
+    }
+
+    /**
+     * Must be called after mutating any set's active rules in place.
+     */
+    public void markChanged() {
+        version++;
+    }
+
+    public int version() {
+        return version;
+    }
+
+    /**
+     * Marks an owner's persisted record as changed without touching its rules (e.g. schedule or missed count).
+     */
+    public void markDirty(String ownerKey) {
+        dirtyOwners.add(ownerKey);
+    }
+
+    public void markAllDirty() {
+        dirtyAll = true;
+    }
+
+    public boolean isAllDirty() {
+        return dirtyAll;
+    }
+
+    /**
+     * Owner keys changed since the last save, in change order. Callers must not mutate the returned set.
+     */
+    public Set<String> dirtyOwners() {
+        return dirtyOwners;
+    }
+
+    /**
+     * Everything in memory is now on disk.
+     */
+    public void clearDirty() {
+        dirtyOwners.clear();
+        dirtyAll = false;
+    }
+}
@@ -0,0 +1,12 @@
+package obviouslymisfit.cursed.curses.runtime;
+
+/**
+ * When an effect profile fires (M5 section 8).
+ *
+ * - EVENT: once when the player steps onto a cursed block (subject to cooldown); standing still does not repeat it.
+ * - TICK:  repeatedly while the player stands on the cursed block, once per cooldown period.
+ */
+public enum EffectMode {
+    EVENT,
+    TICK
+}
@@ -0,0 +1,100 @@
+package obviouslymisfit.cursed.curses.runtime;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Validated, immutable curse effect profile (M5 section 8). Built from EffectProfileFile by CurseDataLoader.
+ *
+ * Profiles are content, not run state: rules reference them by id and they are re-read from data on startup.
+ */
+public final class EffectProfile {
+
+    private final String id;
+    private final EffectMode mode;
+    private final int cooldownTicks;
+    private final EffectStacking stacking;
+
+    private final float damage;
+    private final float exhaustion;
+    private final List<PotionSpec> potions;
+    private final String feedback; // nullable
+    private final boolean penalty;
+
+    public EffectProfile(String id, EffectMode mode, int cooldownTicks, EffectStacking stacking,
+                         float damage, float exhaustion, List<PotionSpec> potions, String feedback, boolean penalty) {
+        this.id = Objects.requireNonNull(id, "id");
+        this.mode = Objects.requireNonNull(mode, "mode");
+        this.cooldownTicks = cooldownTicks;
+        this.stacking = Objects.requireNonNull(stacking, "stacking");
+        this.damage = damage;
+        this.exhaustion = exhaustion;
+        this.potions = List.copyOf(potions);
+        this.feedback = feedback;
+        this.penalty = penalty;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public EffectMode getMode() {
+        return mode;
+    }
+
+    public int getCooldownTicks() {
+        return cooldownTicks;
+    }
+
+    public EffectStacking getStacking() {
+        return stacking;
+    }
+
+    public float getDamage() {
+        return damage;
+    }
+
+    public float getExhaustion() {
+        return exhaustion;
+    }
+
+    public List<PotionSpec> getPotions() {
+        return potions;
+    }
+
+    public String getFeedback() {
+        return feedback;
+    }
+
+    /** True if firing this profile also triggers the M9 curse penalty. */
+    public boolean triggersPenalty() {
+        return penalty;
+    }
+
+    /**
+     * One potion effect component of a profile.
+     */
+    public static final class PotionSpec {
+        private final String effectId;
+        private final int durationTicks;
+        private final int amplifier;
+
+        public PotionSpec(String effectId, int durationTicks, int amplifier) {
+            this.effectId = Objects.requireNonNull(effectId, "effectId");
+            this.durationTicks = durationTicks;
+            this.amplifier = amplifier;
+        }
+
+        public String getEffectId() {
+            return effectId;
+        }
+
+        public int getDurationTicks() {
+            return durationTicks;
+        }
+
+        public int getAmplifier() {
+            return amplifier;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package obviouslymisfit.cursed.curses.runtime;
+
+/**
+ * How a profile's potion effects combine with an instance the player already has (M5 section 6).
+ *
+ * - REFRESH: apply as-is (vanilla keeps the stronger / longer instance)
+ * - EXTEND:  add the profile duration to the remaining duration of the active instance
+ * - KEEP:    do nothing while an instance of that effect is active
+ */
+public enum EffectStacking {
+    REFRESH,
+    EXTEND,
+    KEEP
+}
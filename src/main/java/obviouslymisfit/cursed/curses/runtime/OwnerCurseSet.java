@@ -0,0 +1,89 @@
+package obviouslymisfit.cursed.curses.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Active curse set of one owner (one player, one team, or the global owner). Persisted.
+ *
+ * - active           rules currently in force (no duplicate block ids)
+ * - history          previous sets, newest last, in a fixed-size ring (repeat avoidance uses the newest, M5 section 5)
+ * - rotationIndex    how many times this owner's set has been generated (0 = initial set)
+ * - missedRotations  rotations that came due while the (player) owner was offline; applied as one
+ *                    skip-ahead generation on their return (see CurseRotationScheduler)
+ */
+public final class OwnerCurseSet {
+
+    private final CurseCategory category;
+    private final String owner;
+
+    private final List<CurseRule> active = new ArrayList<>();
+    private final RotationHistory history = new RotationHistory();
+    private int rotationIndex;
+    private int missedRotations;
+
+    public OwnerCurseSet(CurseCategory category, String owner) {
+        this.category = Objects.requireNonNull(category, "category");
+        this.owner = owner;
+    }
+
+    public CurseCategory getCategory() {
+        return category;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public List<CurseRule> getActive() {
+        return active;
+    }
+
+    /**
+     * Block ids of the set in force before the current one (empty if none).
+     */
+    public List<String> getPreviousBlockIds() {
+        return history.latest();
+    }
+
+    public RotationHistory getHistory() {
+        return history;
+    }
+
+    public int getRotationIndex() {
+        return rotationIndex;
+    }
+
+    public void setRotationIndex(int rotationIndex) {
+        this.rotationIndex = rotationIndex;
+    }
+
+    public int getMissedRotations() {
+        return missedRotations;
+    }
+
+    public void setMissedRotations(int missedRotations) {
+        this.missedRotations = missedRotations;
+    }
+
+    /**
+     * Replaces the active rules, remembering the outgoing block ids as repeat history.
+     */
+    public void replaceActive(List<CurseRule> next) {
+        if (!active.isEmpty()) {
+            List<String> outgoing = new ArrayList<>(active.size());
+            for (CurseRule rule : active) outgoing.add(rule.getBlockId());
+            history.push(outgoing);
+        }
+        active.clear();
+        active.addAll(next);
+    }
+
+    public boolean containsBlock(String blockId) {
+        for (CurseRule rule : active) {
+            if (rule.getBlockId().equals(blockId)) return true;
+        }
+        return false;
+    }
+}
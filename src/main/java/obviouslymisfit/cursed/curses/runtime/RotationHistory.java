@@ -0,0 +1,51 @@
+package obviouslymisfit.cursed.curses.runtime;
+
+import java.util.List;
+
+/**
+ * Fixed-size ring buffer of an owner's previous curse sets (block ids only), newest last (M5 sections 5 and 12).
+ *
+ * Repeat avoidance only needs the most recent set, but a short history is kept for audits and debug
+ * ("what did this player have before?"). A fixed capacity bounds both memory and the persisted record
+ * per owner, no matter how long the run is: the oldest entry is overwritten once the ring is full.
+ */
+public final class RotationHistory {
+
+    public static final int CAPACITY = 4;
+
+    private final String[][] entries = new String[CAPACITY][];
+    private int head;  // slot the next push writes
+    private int size;
+
+    /**
+     * Records a set that just went out of force.
+     */
+    public void push(List<String> blockIds) {
+        entries[head] = blockIds.toArray(new String[0]);
+        head = (head + 1) % CAPACITY;
+        if (size < CAPACITY) size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Entry i, oldest first (0 .. size-1).
+     */
+    public List<String> get(int i) {
+        if (i < 0 || i >= size) throw new IndexOutOfBoundsException("history index " + i + " of " + size);
+        return List.of(entries[(head - size + i + CAPACITY) % CAPACITY]);
+    }
+
+    /**
+     * The set in force before the current one, or an empty list.
+     */
+    public List<String> latest() {
+        return isEmpty() ? List.of() : get(size - 1);
+    }
+}
@@ -0,0 +1,186 @@
+package obviouslymisfit.cursed.curses.runtime;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Pending curse rotations: owner key -> due run tick (persisted run data, M5 section 7).
+ *
+ * Why this exists:
+ * - Every owner (global, each team, each assigned player, online or not) rotates on its own jittered schedule.
+ *   Scanning every owner each tick to find the due ones costs O(owners) per tick for the whole run.
+ * - A binary min-heap keyed on due tick makes the per-tick check O(1) (peek), and each rotation O(log owners).
+ *
+ * Layout: parallel arrays due[] / owners[] form the heap; position maps owner key -> heap slot so an owner
+ * can be rescheduled or dropped without a search. Each owner has at most one pending rotation.
+ *
+ * Ordering is total and deterministic: due tick, then category (GLOBAL, TEAM, PLAYER), then owner key.
+ * Rotations due on the same tick therefore run in generation order, so overlap exclusions resolve
+ * the same way on every server.
+ *
+ * Due ticks are in GameState.runTicks units (ticks spent RUNNING), so the schedule is frozen while PAUSED
+ * and resumes unchanged after a restart.
+ */
+public final class RotationSchedule {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] due = new long[MIN_CAPACITY];
+    private String[] owners = new String[MIN_CAPACITY];
+    private int size;
+
+    private final Map<String, Integer> position = new HashMap<>();
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Due tick of the earliest pending rotation, or Long.MAX_VALUE if none.
+     */
+    public long peekDue() {
+        return (size == 0) ? Long.MAX_VALUE : due[0];
+    }
+
+    /**
+     * Owner key of the earliest pending rotation, or null if none.
+     */
+    public String peekOwner() {
+        return (size == 0) ? null : owners[0];
+    }
+
+    /**
+     * Due tick of the owner's pending rotation, or -1 if none is scheduled.
+     */
+    public long dueOf(String ownerKey) {
+        Integer slot = position.get(ownerKey);
+        return (slot == null) ? -1 : due[slot];
+    }
+
+    /**
+     * Schedules (or reschedules) the owner's next rotation.
+     */
+    public void schedule(String ownerKey, long dueTick) {
+        Integer slot = position.get(ownerKey);
+        if (slot != null) {
+            long previous = due[slot];
+            due[slot] = dueTick;
+            if (dueTick < previous) siftUp(slot);
+            else siftDown(slot);
+            return;
+        }
+
+        if (size == due.length) {
+            due = Arrays.copyOf(due, size * 2);
+            owners = Arrays.copyOf(owners, size * 2);
+        }
+        due[size] = dueTick;
+        owners[size] = ownerKey;
+        position.put(ownerKey, size);
+        size++;
+        siftUp(size - 1);
+    }
+
+    /**
+     * Removes and returns the earliest pending owner key, or null if none.
+     */
+    public String poll() {
+        if (size == 0) return null;
+        String head = owners[0];
+        removeAt(0);
+        return head;
+    }
+
+    public boolean remove(String ownerKey) {
+        Integer slot = position.get(ownerKey);
+        if (slot == null) return false;
+        removeAt(slot);
+        return true;
+    }
+
+    public void clear() {
+        Arrays.fill(owners, 0, size, null);
+        size = 0;
+        position.clear();
+    }
+
+    /**
+     * Visits every pending rotation (persistence, debug). Heap order, not sorted.
+     */
+    public void forEach(ObjLongConsumer<String> visitor) {
+        for (int i = 0; i < size; i++) visitor.accept(owners[i], due[i]);
+    }
+
+    private void removeAt(int slot) {
+        position.remove(owners[slot]);
+        size--;
+
+        if (slot != size) {
+            due[slot] = due[size];
+            owners[slot] = owners[size];
+            position.put(owners[slot], slot);
+            siftDown(slot);
+            siftUp(slot);
+        }
+        owners[size] = null;
+    }
+
+    private void siftUp(int slot) {
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            if (!less(slot, parent)) break;
+            swap(slot, parent);
+            slot = parent;
+        }
+    }
+
+    private void siftDown(int slot) {
+        while (true) {
+            int left = 2 * slot + 1;
+            if (left >= size) break;
+
+            int right = left + 1;
+            int smallest = (right < size && less(right, left)) ? right : left;
+            if (!less(smallest, slot)) break;
+
+            swap(slot, smallest);
+            slot = smallest;
+        }
+    }
+
+    private boolean less(int a, int b) {
+        if (due[a] != due[b]) return due[a] < due[b];
+
+        int rankA = categoryRank(owners[a]);
+        int rankB = categoryRank(owners[b]);
+        if (rankA != rankB) return rankA < rankB;
+
+        return owners[a].compareTo(owners[b]) < 0;
+    }
+
+    private void swap(int a, int b) {
+        long d = due[a];
+        due[a] = due[b];
+        due[b] = d;
+
+        String o = owners[a];
+        owners[a] = owners[b];
+        owners[b] = o;
+
+        position.put(owners[a], a);
+        position.put(owners[b], b);
+    }
+
+    // Generation order of CurseGenerator.regenerateAll: GLOBAL, TEAM, PLAYER.
+    private static int categoryRank(String ownerKey) {
+        if (ownerKey.equals(CurseState.globalKey())) return 0;
+        if (ownerKey.startsWith("team:")) return 1;
+        return 2;
+    }
+}
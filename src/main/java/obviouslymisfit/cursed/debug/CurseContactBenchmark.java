@@ -0,0 +1,214 @@
+package obviouslymisfit.cursed.debug;
+
+import obviouslymisfit.cursed.config.ConfigManager;
+import obviouslymisfit.cursed.config.PerformanceConfig;
+import obviouslymisfit.cursed.curses.engine.CurseTickLoop;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Debug-only comparison of the POLLED and EVENT curse contact modes (see CurseContactMode).
+ *
+ * Two readouts:
+ *  - synthetic: both modes' per-player decision logic replayed over the same seeded workload (players moving,
+ *    blocks changing under them) against an in-memory "world", so CPU cost and detection latency can be
+ *    compared without a populated server. Block reads are a hash lookup here, cheaper than a real chunk read,
+ *    so the synthetic gap understates the live one.
+ *    A share of the block changes (silentPercent) raises no event, as pistons, explosions, fluids and
+ *    non-player edits do live; EVENT mode only sees those through the safety sweep. Latency is reported
+ *    separately for changes that raised an event and silent ones, since the trade-off is exactly that the
+ *    former are seen at once and the latter up to SWEEP_TICKS late.
+ *  - live: per-mode loop totals recorded by CurseTickLoop since the last metrics reset. Switch modes via
+ *    config/cursed.performance.json + /curse debug reload to fill both columns.
+ *
+ * Read-only: never touches the run state.
+ */
+public final class CurseContactBenchmark {
+
+    /** Share of synthetic block changes raising no event when the command does not give one. */
+    public static final int DEFAULT_SILENT_PERCENT = 20;
+
+    private static final long SEED = 0xC0FFEE;
+    private static final int MOVE_PERCENT = 5;    // chance per player per tick to step onto a new block
+    private static final int SWEEP_TICKS = 100;   // EVENT mode safety sweep (matches CurseTickLoop)
+    private static final int WARMUP_ROUNDS = 2;
+
+    private CurseContactBenchmark() {}
+
+    /**
+     * Runs the synthetic comparison and appends the live per-mode figures.
+     */
+    public static List<String> run(int players, int ticks, int silentPercent) {
+        PerformanceConfig config = ConfigManager.performance();
+        int budget = Math.max(1, config.curseEvaluationsPerTick);
+        int shards = Math.max(Math.max(1, config.curseMinShards), (players + budget - 1) / budget);
+
+        Workload workload = new Workload(players, ticks, silentPercent);
+
+        Result polled = null;
+        Result event = null;
+        for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+            polled = simulate(workload, shards, false);
+            event = simulate(workload, SWEEP_TICKS, true);
+        }
+
+        long playerTicks = (long) players * ticks;
+        List<String> lines = new ArrayList<>();
+        lines.add("Curse contact benchmark: players=" + players + " ticks=" + ticks + " silent changes=" + silentPercent
+                + "% (synthetic, polled shards=" + shards + ")");
+        lines.add("- polled: " + polled.describe(playerTicks));
+        lines.add("- event:  " + event.describe(playerTicks));
+        lines.add("Live since metrics reset:");
+        lines.add("- polled: " + live(".polled"));
+        lines.add("- event:  " + live(".event"));
+        return lines;
+    }
+
+    private static String live(String suffix) {
+        long ticks = DebugMetrics.get(CurseTickLoop.METRIC_LOOP_TICKS + suffix);
+        if (ticks == 0) return "no samples";
+
+        long nanos = DebugMetrics.get(CurseTickLoop.METRIC_LOOP_NANOS + suffix);
+        long playerTicks = DebugMetrics.get(CurseTickLoop.METRIC_PLAYER_TICKS + suffix);
+        return ticks + " ticks, " + (nanos / ticks) + " ns/tick, "
+                + String.format("%.1f", playerTicks == 0 ? 0.0 : (double) nanos / playerTicks) + " ns/player-tick";
+    }
+
+    /**
+     * Replays the pre-generated workload, so only the mode's own decisions and reads are timed.
+     */
+    private static Result simulate(Workload w, int shards, boolean eventMode) {
+        int players = w.players;
+        Map<Long, Integer> world = new HashMap<>();
+
+        long[] pos = w.initialPos.clone();
+        int[] seenState = new int[players];
+        long[] changedAt = new long[players]; // tick a change under the player went unseen, -1 if none
+        boolean[] changedSilently = new boolean[players]; // that first unseen change raised no event
+        for (int p = 0; p < players; p++) {
+            seenState[p] = stateAt(world, pos[p]);
+            changedAt[p] = -1;
+        }
+
+        long reads = 0;
+        long hits = 0;
+        long[] detections = new long[2];   // [0] changes with an event, [1] silent changes
+        long[] latencyTicks = new long[2];
+        long[] missed = new long[2];       // player stepped off before the change was read
+
+        long start = System.nanoTime();
+        for (int tick = 0; tick < w.ticks; tick++) {
+            // One block changes under a chosen player each tick; an event is raised for it unless it is silent.
+            int changed = w.changedPlayer[tick];
+            boolean silent = w.changeSilent[tick];
+            world.put(pos[changed], w.changedState[tick]);
+            if (changedAt[changed] < 0) {
+                changedAt[changed] = tick;
+                changedSilently[changed] = silent;
+            }
+            long dirtyPos = silent ? Long.MIN_VALUE : pos[changed];
+
+            int shard = tick % shards;
+            int row = tick * players;
+            for (int p = 0; p < players; p++) {
+                boolean moved = w.moves[row + p];
+                if (moved) {
+                    if (changedAt[p] >= 0) missed[changedSilently[p] ? 1 : 0]++;
+                    pos[p] = w.initialPos[p] + row + p; // a block never stood on before
+                    changedAt[p] = -1; // a fresh contact is always read immediately
+                }
+
+                boolean read = moved || p % shards == shard || (eventMode && pos[p] == dirtyPos);
+                if (!read) continue;
+
+                int state = stateAt(world, pos[p]);
+                reads++;
+                if ((w.cursedMask[(state >>> 6) & 15] & (1L << state)) != 0) hits++;
+
+                if (state != seenState[p] && changedAt[p] >= 0) {
+                    int kind = changedSilently[p] ? 1 : 0;
+                    detections[kind]++;
+                    latencyTicks[kind] += tick - changedAt[p];
+                }
+                seenState[p] = state;
+                changedAt[p] = -1;
+            }
+        }
+        long nanos = System.nanoTime() - start;
+
+        return new Result(nanos, reads, hits, detections, latencyTicks, missed);
+    }
+
+    private static int stateAt(Map<Long, Integer> world, long pos) {
+        Integer state = world.get(pos);
+        return (state != null) ? state : (int) (pos & 1023);
+    }
+
+    /**
+     * Seeded moves and block changes shared by both modes.
+     */
+    private static final class Workload {
+        final int players;
+        final int ticks;
+        final long[] initialPos;
+        final boolean[] moves;      // [tick * players + player]
+        final int[] changedPlayer;  // per tick
+        final int[] changedState;   // per tick
+        final boolean[] changeSilent; // per tick: the change raises no block event
+        final long[] cursedMask = new long[16]; // 1024 synthetic state ids
+
+        Workload(int players, int ticks, int silentPercent) {
+            SplittableRandom rng = new SplittableRandom(SEED);
+            this.players = players;
+            this.ticks = ticks;
+            this.initialPos = new long[players];
+            this.moves = new boolean[players * ticks];
+            this.changedPlayer = new int[ticks];
+            this.changedState = new int[ticks];
+            this.changeSilent = new boolean[ticks];
+
+            for (int i = 0; i < cursedMask.length; i++) cursedMask[i] = rng.nextLong();
+            for (int p = 0; p < players; p++) initialPos[p] = (long) p << 32;
+            for (int t = 0; t < ticks; t++) {
+                changedPlayer[t] = rng.nextInt(players);
+                changedState[t] = rng.nextInt(1024);
+                changeSilent[t] = rng.nextInt(100) < silentPercent;
+            }
+            for (int i = 0; i < moves.length; i++) moves[i] = rng.nextInt(100) < MOVE_PERCENT;
+        }
+    }
+
+    private static final class Result {
+        final long nanos;
+        final long reads;
+        final long hits;
+        final long[] detections;
+        final long[] latencyTicks;
+        final long[] missed;
+
+        Result(long nanos, long reads, long hits, long[] detections, long[] latencyTicks, long[] missed) {
+            this.nanos = nanos;
+            this.reads = reads;
+            this.hits = hits;
+            this.detections = detections;
+            this.latencyTicks = latencyTicks;
+            this.missed = missed;
+        }
+
+        String describe(long playerTicks) {
+            return String.format("%.1f", (double) nanos / playerTicks) + " ns/player-tick, "
+                    + reads + " block reads, " + hits + " curse hits, change latency avg "
+                    + latency(0) + " ticks (event), " + latency(1) + " ticks (silent), never read before moving off "
+                    + missed[0] + " (event) / " + missed[1] + " (silent)";
+        }
+
+        private String latency(int kind) {
+            if (detections[kind] == 0) return "n/a";
+            return String.format("%.2f", (double) latencyTicks[kind] / detections[kind]);
+        }
+    }
+}
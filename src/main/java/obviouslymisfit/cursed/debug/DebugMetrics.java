@@ -0,0 +1,55 @@
+package obviouslymisfit.cursed.debug;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Named runtime counters for measuring optimizations in a live server (debug readout only).
+ *
+ * Counters are plain longs touched from the server thread only; they are never persisted and
+ * start from zero on every server start. Keys are dotted names owned by the subsystem that
+ * increments them (e.g. "gather.skipped_unchanged"), declared as constants next to that code.
+ *
+ * Exposed through /curse debug metrics.
+ */
+public final class DebugMetrics {
+
+    private static final Map<String, long[]> COUNTERS = new TreeMap<>();
+
+    private DebugMetrics() {}
+
+    public static void increment(String key) {
+        add(key, 1);
+    }
+
+    public static void add(String key, long delta) {
+        COUNTERS.computeIfAbsent(key, k -> new long[1])[0] += delta;
+    }
+
+    public static long get(String key) {
+        long[] cell = COUNTERS.get(key);
+        return (cell == null) ? 0 : cell[0];
+    }
+
+    /**
+     * Sets a gauge-style value (last observed), e.g. a measured latency.
+     */
+    public static void set(String key, long value) {
+        COUNTERS.computeIfAbsent(key, k -> new long[1])[0] = value;
+    }
+
+    public static void reset() {
+        COUNTERS.clear();
+    }
+
+    /**
+     * Human-readable "key = value" lines in key order.
+     */
+    public static List<String> lines() {
+        List<String> out = new ArrayList<>(COUNTERS.size());
+        COUNTERS.forEach((key, cell) -> out.add(key + " = " + cell[0]));
+        return out;
+    }
+}
@@ -0,0 +1,136 @@
+package obviouslymisfit.cursed.debug;
+
+import obviouslymisfit.cursed.objectives.runtime.ObjectiveSlot;
+import obviouslymisfit.cursed.objectives.runtime.TeamObjectiveState;
+import obviouslymisfit.cursed.objectives.runtime.TeamObjectiveTable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Debug-only micro benchmark: dense TeamObjectiveTable vs the former nested-map layout.
+ *
+ * Builds both structures fully populated for a synthetic team count (every team, phase and slot present),
+ * then times the same pseudo-random sequence of depositedCount reads against each.
+ *
+ * This is a sanity readout for operators, not a rigorous harness: it runs on the server thread,
+ * in-process, with a short warmup. Memory figures are analytic estimates (64-bit JVM, compressed oops)
+ * because heap deltas are too noisy to be useful from inside a running server.
+ *
+ * Read-only: never touches the run state.
+ */
+public final class ObjectiveStorageBenchmark {
+
+    private static final int LOOKUPS = 1_000_000;
+    private static final int WARMUP_ROUNDS = 3;
+
+    // Analytic object sizes (bytes) for the map layout.
+    private static final long HASHMAP_OBJECT = 48;
+    private static final long HASHMAP_NODE = 32;
+    private static final long ARRAY_HEADER = 16;
+    private static final long REFERENCE = 4;
+    private static final long TEAM_OBJECTIVE_STATE = 24;
+    private static final long PROGRESS = 16;
+
+    private ObjectiveStorageBenchmark() {}
+
+    /**
+     * Runs the benchmark and returns human-readable result lines.
+     */
+    public static List<String> run(int teamCount) {
+        int phases = TeamObjectiveTable.PHASE_COUNT;
+        ObjectiveSlot[] slots = ObjectiveSlot.ordered();
+
+        // --- Build both structures with identical content ---
+        Map<Integer, Map<Integer, Map<ObjectiveSlot, TeamObjectiveState>>> maps = new HashMap<>();
+        TeamObjectiveTable table = new TeamObjectiveTable(teamCount);
+
+        for (int t = 0; t < teamCount; t++) {
+            Map<Integer, Map<ObjectiveSlot, TeamObjectiveState>> byPhase = new HashMap<>();
+            for (int p = 1; p <= phases; p++) {
+                Map<ObjectiveSlot, TeamObjectiveState> bySlot = new HashMap<>();
+                for (ObjectiveSlot slot : slots) {
+                    int value = t * 1000 + p * 100 + slot.ordinal();
+                    TeamObjectiveState s = new TeamObjectiveState(null, new TeamObjectiveState.Progress(value), null);
+                    bySlot.put(slot, s);
+                    table.put(t, p, slot, s);
+                }
+                byPhase.put(p, bySlot);
+            }
+            maps.put(t, byPhase);
+        }
+
+        // --- Shared lookup sequence (fixed seed so runs are comparable) ---
+        SplittableRandom random = new SplittableRandom(0xC0FFEE);
+        int[] teams = new int[LOOKUPS];
+        int[] phaseKeys = new int[LOOKUPS];
+        ObjectiveSlot[] slotKeys = new ObjectiveSlot[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            teams[i] = random.nextInt(teamCount);
+            phaseKeys[i] = 1 + random.nextInt(phases);
+            slotKeys[i] = slots[random.nextInt(slots.length)];
+        }
+
+        long mapNanos = 0;
+        long tableNanos = 0;
+        long checksum = 0;
+
+        // Warmup rounds are timed but discarded; the final round is reported.
+        for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+            long start = System.nanoTime();
+            long sumMaps = 0;
+            for (int i = 0; i < LOOKUPS; i++) {
+                sumMaps += maps.get(teams[i]).get(phaseKeys[i]).get(slotKeys[i]).getProgress().getDepositedCount();
+            }
+            mapNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            long sumTable = 0;
+            for (int i = 0; i < LOOKUPS; i++) {
+                sumTable += table.deposited(table.row(teams[i], phaseKeys[i], slotKeys[i]));
+            }
+            tableNanos = System.nanoTime() - start;
+
+            if (sumMaps != sumTable) {
+                throw new IllegalStateException("CURSED benchmark mismatch: maps=" + sumMaps + " table=" + sumTable);
+            }
+            checksum = sumTable;
+        }
+
+        long rows = (long) teamCount * phases * slots.length;
+        long mapBytes = estimateMapBytes(teamCount, phases, slots.length);
+        long tableBytes = table.approximateBytes();
+
+        List<String> lines = new ArrayList<>();
+        lines.add("Objective storage benchmark: teams=" + teamCount + " rows=" + rows + " lookups=" + LOOKUPS);
+        lines.add("- nested maps: " + nsPerOp(mapNanos) + " ns/lookup, ~" + mapBytes + " bytes");
+        lines.add("- dense table: " + nsPerOp(tableNanos) + " ns/lookup, ~" + tableBytes + " bytes");
+        lines.add("- checksum: " + checksum);
+        return lines;
+    }
+
+    private static String nsPerOp(long nanos) {
+        return String.format("%.2f", (double) nanos / LOOKUPS);
+    }
+
+    /**
+     * Estimates retained bytes of the nested map layout: map objects, bucket arrays, nodes and values.
+     * Small Integer keys come from the Integer cache and enum keys are singletons, so keys cost nothing extra.
+     */
+    private static long estimateMapBytes(int teams, int phases, int slots) {
+        long outer = hashMap(teams);
+        long perTeam = hashMap(phases);
+        long perPhase = hashMap(slots) + slots * (TEAM_OBJECTIVE_STATE + PROGRESS);
+        return outer + teams * (perTeam + phases * perPhase);
+    }
+
+    private static long hashMap(int entries) {
+        // Default load factor 0.75, power-of-two table.
+        int capacity = Integer.highestOneBit(Math.max(1, (int) Math.ceil(entries / 0.75)) - 1) << 1;
+        capacity = Math.max(16, capacity);
+        return HASHMAP_OBJECT + ARRAY_HEADER + REFERENCE * capacity + HASHMAP_NODE * entries;
+    }
+}
@@ -0,0 +1,98 @@
+package obviouslymisfit.cursed.debug;
+
+import obviouslymisfit.cursed.objectives.runtime.TeamObjectiveTable;
+import obviouslymisfit.cursed.scoring.engine.ScoreAudit;
+import obviouslymisfit.cursed.scoring.runtime.ScoreLedger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Debug-only timing of ScoreAudit on a synthetic ledger (no run needed).
+ *
+ * The ledger gets one completion award per objective row (teams x ROWS_PER_TEAM, in random order) and fills the
+ * remaining events with penalties and redistribution, so it can hold far more entries than a real run.
+ * The completed rows handed to the audit are exactly the awarded ones, so a correct audit always reports OK.
+ *
+ * Sequential and fork-join runs are timed on the same snapshot. Never touches the run state.
+ */
+public final class ScoreAuditBenchmark {
+
+    private static final long SEED = 0x5C0FE;
+    private static final int WARMUP_ROUNDS = 3;
+
+    private ScoreAuditBenchmark() {}
+
+    public static List<String> run(int teams, int events) {
+        SplittableRandom rng = new SplittableRandom(SEED);
+        ScoreLedger ledger = new ScoreLedger(teams);
+
+        int rowCount = teams * TeamObjectiveTable.ROWS_PER_TEAM;
+        int[] order = new int[rowCount];
+        for (int i = 0; i < rowCount; i++) order[i] = i;
+        for (int i = rowCount - 1; i > 0; i--) {
+            int j = rng.nextInt(i + 1);
+            int t = order[i];
+            order[i] = order[j];
+            order[j] = t;
+        }
+
+        int awards = Math.min(rowCount, events);
+        int[] pointsByRow = new int[rowCount];
+        int nextAward = 0;
+        for (int e = 0; e < events; e++) {
+            int kind = rng.nextInt(events);
+            if (kind < awards && nextAward < awards) {
+                int row = order[nextAward++];
+                pointsByRow[row] = 10 + rng.nextInt(200);
+                ledger.appendAward(TeamObjectiveTable.teamOfRow(row), row, pointsByRow[row], e);
+            } else if (rng.nextBoolean()) {
+                ledger.appendPenalty(rng.nextInt(teams), 1 + rng.nextInt(50), e);
+            } else {
+                ledger.appendRedistribution(rng.nextInt(teams), rng.nextInt(teams), 1 + rng.nextInt(50), e);
+            }
+        }
+
+        // Completed rows ascending, as snapshot(GameState) produces them.
+        int[] completedRows = new int[rowCount];
+        int[] completedPoints = new int[rowCount];
+        int completed = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (!ledger.isAwarded(row)) continue;
+            completedRows[completed] = row;
+            completedPoints[completed] = pointsByRow[row];
+            completed++;
+        }
+
+        ScoreAudit.Input input = null;
+        long snapNanos = 0;
+        ScoreAudit.Result sequential = null;
+        ScoreAudit.Result parallel = null;
+        for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+            long snapStart = System.nanoTime();
+            input = ScoreAudit.snapshot(ledger, completed, completedRows, completedPoints);
+            snapNanos = System.nanoTime() - snapStart;
+
+            sequential = ScoreAudit.compute(input, false);
+            parallel = ScoreAudit.compute(input, true);
+        }
+
+        List<String> report = ScoreAudit.report(input, parallel);
+
+        List<String> lines = new ArrayList<>();
+        lines.add("Score audit benchmark: teams=" + teams + " ledger entries=" + ledger.size()
+                + " completions=" + completed + " (synthetic)");
+        lines.add("- snapshot (server thread): " + ms(snapNanos));
+        lines.add("- compute sequential: " + ms(sequential.nanos));
+        lines.add("- compute fork-join:  " + ms(parallel.nanos) + " (common pool parallelism "
+                + ForkJoinPool.commonPool().getParallelism() + ")");
+        lines.add("- " + report.get(report.size() - 1));
+        return lines;
+    }
+
+    private static String ms(long nanos) {
+        return String.format("%.3f ms", nanos / 1_000_000.0);
+    }
+}
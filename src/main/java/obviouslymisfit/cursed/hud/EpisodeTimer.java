@@ -0,0 +1,96 @@
+package obviouslymisfit.cursed.hud;
+
+import net.minecraft.server.MinecraftServer;
+
+import obviouslymisfit.cursed.state.GameState;
+import obviouslymisfit.cursed.state.RunLifecycleState;
+import obviouslymisfit.cursed.state.persistence.StateStorage;
+
+/**
+ * M10 section 4 episode timer: wallclock time elapsed in the current episode (the run entering RUNNING starts
+ * an episode, leaving RUNNING ends it and stops the timer).
+ *
+ * Cost model:
+ *  - not RUNNING: not called at all (LifecycleTickRegistry detaches it; the detach hook runs tick once more,
+ *    which sees the new state and stops the clock).
+ *  - RUNNING: one clock read and one compare per tick; the text is only rebuilt when the wallclock second
+ *    changes (1 Hz), from precomputed "00".."59" digit pairs instead of String.format.
+ *  - The new text reaches players through SidebarService, which sends only the timer line (one display update,
+ *    broadcast by vanilla) and nothing for the lines that did not change.
+ *
+ * Alignment: elapsed = (current wallclock second) - (wallclock second the episode started in), so every tick of
+ * the display happens exactly on a wallclock second boundary, independent of server tick jitter.
+ *
+ * Runtime only: after a restart the run is PAUSED (the episode ended), so there is nothing to restore.
+ */
+public final class EpisodeTimer {
+
+    private static final String[] TWO_DIGITS = new String[60];
+    static {
+        for (int i = 0; i < 60; i++) {
+            TWO_DIGITS[i] = (i < 10 ? "0" : "") + i;
+        }
+    }
+
+    private static boolean running = false;
+    private static long startSecond = 0;      // wallclock second the episode started in
+    private static long nextSecondMillis = 0; // wallclock millis at which the displayed second changes
+    private static long elapsedSeconds = 0;
+    private static String text = format(0);
+
+    private EpisodeTimer() {}
+
+    public static void tick(MinecraftServer server) {
+        GameState state = StateStorage.get(server);
+        if (state.lifecycleState != RunLifecycleState.RUNNING) {
+            if (running) {
+                // Episode ended: freeze the last shown value (SidebarService also notices the lifecycle change).
+                running = false;
+            }
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (!running) {
+            running = true;
+            startSecond = now / 1000;
+            elapsedSeconds = -1; // forces the first update below
+        } else if (now < nextSecondMillis) {
+            return;
+        }
+
+        long second = now / 1000;
+        nextSecondMillis = (second + 1) * 1000;
+
+        long elapsed = second - startSecond;
+        if (elapsed != elapsedSeconds) {
+            elapsedSeconds = elapsed;
+            text = format(elapsed);
+        }
+    }
+
+    /** Seconds elapsed in the current (or last) episode; changes at most once per wallclock second. */
+    public static long elapsedSeconds() {
+        return Math.max(0, elapsedSeconds);
+    }
+
+    /** Cached "mm:ss" / "h:mm:ss" text of elapsedSeconds(); the same String instance until it changes. */
+    public static String text() {
+        return text;
+    }
+
+    /** Server stop: the next RUNNING tick starts a new episode clock. */
+    public static void clear() {
+        running = false;
+        startSecond = 0;
+        nextSecondMillis = 0;
+        elapsedSeconds = 0;
+        text = format(0);
+    }
+
+    private static String format(long seconds) {
+        long h = seconds / 3600;
+        String mmss = TWO_DIGITS[(int) ((seconds / 60) % 60)] + ":" + TWO_DIGITS[(int) (seconds % 60)];
+        return (h > 0) ? h + ":" + mmss : mmss;
+    }
+}
@@ -0,0 +1,168 @@
+package obviouslymisfit.cursed.hud;
+
+import net.minecraft.ChatFormatting;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.numbers.BlankFormat;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.ServerScoreboard;
+import net.minecraft.world.scores.DisplaySlot;
+import net.minecraft.world.scores.Objective;
+import net.minecraft.world.scores.ScoreAccess;
+import net.minecraft.world.scores.ScoreHolder;
+import net.minecraft.world.scores.criteria.ObjectiveCriteria;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes the M10 sidebar to the server scoreboard, changing only the lines that differ from what is shown.
+ *
+ * How the sidebar is drawn: one dummy objective in the SIDEBAR slot, one fake score holder per line position
+ * ("cursed_line_<i>"). A line's score is fixed by its position (TOP_SCORE - i, the sidebar sorts descending)
+ * and its text is the holder's display override, with the numbers hidden (BlankFormat). So changing a line is
+ * exactly one display update, and lines that did not change are never touched.
+ *
+ * Why diff: every scoreboard mutation is broadcast by the vanilla ServerScoreboard as one packet to every
+ * online player. Re-rendering all lines on each score change would cost (lines x players) packets; the diff
+ * costs (changed lines x players), usually one or two team lines.
+ *
+ * Players who join get the whole scoreboard from vanilla, so nothing here is per player.
+ *
+ * Runtime only. Server thread only.
+ */
+final class SidebarRenderer {
+
+    static final String OBJECTIVE_NAME = "cursed_sidebar";
+
+    // Vanilla draws at most 15 sidebar lines.
+    static final int MAX_LINES = 15;
+
+    private static final int TOP_SCORE = 100;
+    private static final String HOLDER_PREFIX = "cursed_line_";
+
+    private static final ScoreHolder[] HOLDERS = new ScoreHolder[MAX_LINES];
+    static {
+        for (int i = 0; i < MAX_LINES; i++) {
+            HOLDERS[i] = ScoreHolder.forNameOnly(HOLDER_PREFIX + i);
+        }
+    }
+
+    private Objective objective = null;          // null while the sidebar is not shown
+    private final String[] shown = new String[MAX_LINES]; // key of the line at each position; null = no line
+    private int shownCount = 0;
+
+    boolean isShown() {
+        return objective != null;
+    }
+
+    /**
+     * Brings the sidebar to exactly these lines (extra lines beyond MAX_LINES are dropped).
+     * Returns the number of scoreboard mutations sent (each one is broadcast to every online player).
+     */
+    int render(MinecraftServer server, Component title, List<Line> lines) {
+        ServerScoreboard scoreboard = server.getScoreboard();
+        int mutations = 0;
+
+        if (objective == null) {
+            mutations += create(scoreboard, title);
+        }
+
+        int count = Math.min(lines.size(), MAX_LINES);
+        for (int i = 0; i < count; i++) {
+            Line line = lines.get(i);
+            String key = line.key();
+            if (key.equals(shown[i])) continue;
+
+            ScoreAccess access = scoreboard.getOrCreatePlayerScore(HOLDERS[i], objective);
+            if (i >= shownCount) {
+                // New position: its fixed score puts it below the lines above it.
+                access.set(TOP_SCORE - i);
+                mutations++;
+            }
+            access.display(line.component());
+            mutations++;
+            shown[i] = key;
+        }
+
+        for (int i = count; i < shownCount; i++) {
+            scoreboard.resetSinglePlayerScore(HOLDERS[i], objective);
+            shown[i] = null;
+            mutations++;
+        }
+        shownCount = count;
+
+        return mutations;
+    }
+
+    /**
+     * Removes the sidebar. Returns the number of scoreboard mutations sent.
+     */
+    int hide(MinecraftServer server) {
+        if (objective == null) return 0;
+
+        server.getScoreboard().removeObjective(objective);
+        forget();
+        return 1;
+    }
+
+    /**
+     * Drops what this renderer believes is shown (server stop; the next render starts from scratch).
+     */
+    void forget() {
+        objective = null;
+        Arrays.fill(shown, null);
+        shownCount = 0;
+    }
+
+    /**
+     * Fresh objective in the sidebar slot. An objective left over from a previous session (the scoreboard is
+     * saved with the world) is replaced, so no stale line survives.
+     */
+    private int create(ServerScoreboard scoreboard, Component title) {
+        int mutations = 0;
+
+        Objective stale = scoreboard.getObjective(OBJECTIVE_NAME);
+        if (stale != null) {
+            scoreboard.removeObjective(stale);
+            mutations++;
+        }
+
+        objective = scoreboard.addObjective(OBJECTIVE_NAME, ObjectiveCriteria.DUMMY, title,
+                ObjectiveCriteria.RenderType.INTEGER, false, BlankFormat.INSTANCE);
+        scoreboard.setDisplayObjective(DisplaySlot.SIDEBAR, objective);
+        Arrays.fill(shown, null);
+        shownCount = 0;
+        return mutations + 2;
+    }
+
+    /**
+     * One sidebar line: plain text in one color, optionally after a pre-built prefix component (a template
+     * reused for every render, e.g. the timer label). Compared by key, so building a Line is cheap and the
+     * Component is only created for lines that are actually sent.
+     */
+    static final class Line {
+        private final Component prefix; // nullable
+        private final String text;
+        private final ChatFormatting color;
+
+        Line(String text, ChatFormatting color) {
+            this(null, text, color);
+        }
+
+        Line(Component prefix, String text, ChatFormatting color) {
+            this.prefix = prefix;
+            this.text = Objects.requireNonNull(text, "text");
+            this.color = Objects.requireNonNull(color, "color");
+        }
+
+        String key() {
+            return color.ordinal() + "|" + (prefix == null ? "" : prefix.getString()) + "|" + text;
+        }
+
+        Component component() {
+            Component body = Component.literal(text).withStyle(color);
+            return (prefix == null) ? body : prefix.copy().append(body);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package obviouslymisfit.cursed.hud;
+
+import net.minecraft.ChatFormatting;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.MinecraftServer;
+
+import obviouslymisfit.cursed.debug.DebugMetrics;
+import obviouslymisfit.cursed.scoring.runtime.ScoreLedger;
+import obviouslymisfit.cursed.scoring.runtime.Standings;
+import obviouslymisfit.cursed.state.GameState;
+import obviouslymisfit.cursed.state.RunLifecycleState;
+import obviouslymisfit.cursed.state.persistence.StateStorage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * M10 section 3 sidebar: title, episode, timer, phase, spacer, then the teams in standings order.
+ *
+ * Update rule (M10: only when the underlying state changes, never every tick): each RUNNING tick, and once on
+ * every lifecycle transition (LifecycleTickRegistry hook), compares a handful of values against the ones last
+ * rendered:
+ *  - the standings instance and its version (any score change, ledger replaced)
+ *  - phase, episode number, lifecycle state, team count
+ *  - the displayed episode timer second (EpisodeTimer, 1 Hz while RUNNING, frozen otherwise)
+ * and returns unless one differs (or markDirty was called). Only then are the lines built, and
+ * SidebarRenderer sends just the lines whose text changed.
+ *
+ * The sidebar is shown while a run exists and removed when there is none (reset). While not RUNNING it is not
+ * ticked: nothing it shows can progress then, and the transition into PAUSED/IDLE already redrew it.
+ *
+ * Counters: sidebar.renders, sidebar.line_updates, sidebar.packets (line updates x online players, what vanilla
+ * broadcasts), sidebar.packets_per_min (rolling last 60 seconds).
+ */
+public final class SidebarService {
+
+    public static final String METRIC_RENDERS = "sidebar.renders";
+    public static final String METRIC_LINE_UPDATES = "sidebar.line_updates";
+    public static final String METRIC_PACKETS = "sidebar.packets";
+    public static final String METRIC_PACKETS_PER_MIN = "sidebar.packets_per_min";
+
+    private static final int TICKS_PER_SECOND = 20; // server seconds, for the packet rate window
+    private static final int RATE_WINDOW_SECONDS = 60;
+
+    // Team colors by team index (there are no configured team colors yet).
+    private static final ChatFormatting[] TEAM_COLORS = {
+            ChatFormatting.RED, ChatFormatting.BLUE, ChatFormatting.GREEN, ChatFormatting.YELLOW,
+            ChatFormatting.AQUA, ChatFormatting.LIGHT_PURPLE, ChatFormatting.GOLD, ChatFormatting.DARK_AQUA
+    };
+
+    // Static text: built once.
+    private static final Component TITLE = Component.literal("CURSED").withStyle(ChatFormatting.DARK_PURPLE);
+    private static final Component TIME_PREFIX = Component.literal("Time ").withStyle(ChatFormatting.GRAY);
+
+    // Lines above the team list: episode, timer, phase, spacer.
+    private static final int HEADER_LINES = 4;
+
+    private static final SidebarRenderer renderer = new SidebarRenderer();
+
+    // What was last rendered (the dirty check).
+    private static boolean dirty = true;
+    private static Standings lastStandings = null;
+    private static long lastVersion = -1;
+    private static int lastPhase = -1;
+    private static int lastEpisode = -1;
+    private static RunLifecycleState lastLifecycle = null;
+    private static int lastTeamCount = -1;
+    private static long lastTimerSecond = -1;
+
+    // Packets per second over the last RATE_WINDOW_SECONDS (ring indexed by server second).
+    private static final long[] packetsBySecond = new long[RATE_WINDOW_SECONDS];
+    private static long rateSecond = -1;
+
+    private SidebarService() {}
+
+    public static void tick(MinecraftServer server) {
+        rollRate(server.getTickCount() / TICKS_PER_SECOND);
+
+        GameState state = StateStorage.get(server);
+        if (state.runId == null) {
+            if (renderer.isShown()) {
+                record(server, renderer.hide(server));
+                dirty = true;
+            }
+            return;
+        }
+
+        Standings standings = state.scores.standings();
+        long timerSecond = EpisodeTimer.elapsedSeconds();
+        if (!dirty
+                && standings == lastStandings
+                && standings.version() == lastVersion
+                && state.phase == lastPhase
+                && state.episodeNumber == lastEpisode
+                && state.lifecycleState == lastLifecycle
+                && state.teamCount == lastTeamCount
+                && timerSecond == lastTimerSecond) {
+            return;
+        }
+
+        dirty = false;
+        lastStandings = standings;
+        lastVersion = standings.version();
+        lastPhase = state.phase;
+        lastEpisode = state.episodeNumber;
+        lastLifecycle = state.lifecycleState;
+        lastTeamCount = state.teamCount;
+        lastTimerSecond = timerSecond;
+
+        int mutations = renderer.render(server, TITLE, buildLines(state));
+        DebugMetrics.increment(METRIC_RENDERS);
+        record(server, mutations);
+    }
+
+    /**
+     * Forces a full comparison on the next tick (e.g. something outside the tracked values changed).
+     */
+    public static void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * Server stop: forget what is shown; the next server start re-creates the objective.
+     */
+    public static void clear() {
+        renderer.forget();
+        dirty = true;
+        lastStandings = null;
+        lastVersion = -1;
+        lastPhase = -1;
+        lastEpisode = -1;
+        lastLifecycle = null;
+        lastTeamCount = -1;
+        lastTimerSecond = -1;
+        Arrays.fill(packetsBySecond, 0L);
+        rateSecond = -1;
+    }
+
+    private static List<SidebarRenderer.Line> buildLines(GameState state) {
+        List<SidebarRenderer.Line> lines = new ArrayList<>(HEADER_LINES + state.teamCount);
+        boolean running = state.lifecycleState == RunLifecycleState.RUNNING;
+
+        lines.add(new SidebarRenderer.Line("Episode " + state.episodeNumber, ChatFormatting.WHITE));
+        lines.add(new SidebarRenderer.Line(TIME_PREFIX, running ? EpisodeTimer.text() : EpisodeTimer.text() + " (paused)",
+                ChatFormatting.WHITE));
+        lines.add(new SidebarRenderer.Line("Phase " + state.phase, ChatFormatting.GOLD));
+        lines.add(new SidebarRenderer.Line("", ChatFormatting.WHITE));
+
+        // Teams in standings order; the sidebar holds only the leading ones when there are many teams.
+        ScoreLedger ledger = state.scores;
+        Standings standings = ledger.standings();
+        int shown = Math.min(standings.teamCount(), SidebarRenderer.MAX_LINES - HEADER_LINES);
+        for (int rank = 0; rank < shown; rank++) {
+            int team = standings.teamAt(rank);
+            lines.add(new SidebarRenderer.Line("Team " + team + ": " + ledger.total(team),
+                    TEAM_COLORS[team % TEAM_COLORS.length]));
+        }
+        return lines;
+    }
+
+    private static void record(MinecraftServer server, int mutations) {
+        if (mutations == 0) return;
+
+        long packets = (long) mutations * server.getPlayerList().getPlayerCount();
+        DebugMetrics.add(METRIC_LINE_UPDATES, mutations);
+        DebugMetrics.add(METRIC_PACKETS, packets);
+        packetsBySecond[(int) (rateSecond % RATE_WINDOW_SECONDS)] += packets;
+    }
+
+    /**
+     * Advances the per-second ring to this server second, clearing skipped seconds, and republishes the
+     * rolling per-minute total whenever the second changes.
+     */
+    private static void rollRate(long second) {
+        if (second == rateSecond) return;
+
+        if (rateSecond < 0 || second - rateSecond >= RATE_WINDOW_SECONDS) {
+            Arrays.fill(packetsBySecond, 0L);
+        } else {
+            for (long s = rateSecond + 1; s <= second; s++) {
+                packetsBySecond[(int) (s % RATE_WINDOW_SECONDS)] = 0;
+            }
+        }
+        rateSecond = second;
+
+        long sum = 0;
+        for (long p : packetsBySecond) sum += p;
+        DebugMetrics.set(METRIC_PACKETS_PER_MIN, sum);
+    }
+}
@@ -0,0 +1,227 @@
+package obviouslymisfit.cursed.lifecycle;
+
+import net.minecraft.server.MinecraftServer;
+
+import obviouslymisfit.cursed.debug.DebugMetrics;
+import obviouslymisfit.cursed.state.GameState;
+import obviouslymisfit.cursed.state.RunLifecycleState;
+import obviouslymisfit.cursed.state.persistence.StateStorage;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Per-tick systems (curse loop, rotation clock, progress flush, penalty flush, timers, ...) keyed on the run
+ * lifecycle state they run in.
+ *
+ * Why: the spec freezes everything while PAUSED or terminal ("nothing progresses, decays or rotates"). Instead
+ * of every system reading GameState.lifecycleState each tick and returning, the registry owns the single
+ * END_SERVER_TICK listener and only calls the systems attached for the current state. A paused server calls
+ * none of the RUNNING systems: the only per-tick work left is this listener walking an empty array.
+ *
+ * Transitions: the active set is swapped by sync(server), which every lifecycle write must call after it
+ * changed GameState.lifecycleState (/curse start, /curse episode start|end, /curse reset, restart-forced
+ * PAUSED on server start). sync:
+ *  1) calls the detach hook of every system that is not active in the new state (e.g. drop queued work),
+ *  2) switches the active array,
+ *  3) calls every transition hook (e.g. the sidebar redraws once for the new state).
+ *
+ * Order: systems run in registration order; Cursed registers them in dependency order.
+ *
+ * Timings: each system's calls, total and max nanos are kept in plain fields and published to DebugMetrics
+ * ("tick.<name>.calls", ".nanos", ".max_nanos") once per PUBLISH_INTERVAL_TICKS ticks, so measuring does not add
+ * a map lookup per system per tick.
+ *
+ * Registration happens once in Cursed.onInitialize; everything else is server thread only.
+ */
+public final class LifecycleTickRegistry {
+
+    public static final String METRIC_TRANSITIONS = "tick.transitions";
+    public static final String METRIC_ACTIVE_SYSTEMS = "tick.active_systems";
+
+    private static final int PUBLISH_INTERVAL_TICKS = 20;
+
+    /** One per-tick system. */
+    @FunctionalInterface
+    public interface TickSystem {
+        void tick(MinecraftServer server);
+    }
+
+    /** Called on lifecycle transitions, after GameState.lifecycleState changed. */
+    @FunctionalInterface
+    public interface TransitionHook {
+        void onTransition(MinecraftServer server, GameState state);
+    }
+
+    private static final RunLifecycleState[] STATES = RunLifecycleState.values();
+    private static final Entry[] NONE = new Entry[0];
+
+    private static final List<Entry> entries = new ArrayList<>();
+    private static final List<TransitionHook> transitionHooks = new ArrayList<>();
+    private static Entry[][] byState = null; // [state ordinal] -> systems active in it; built on first sync
+
+    private static RunLifecycleState active = null; // null until the first sync (server start)
+    private static Entry[] activeEntries = NONE;
+    private static int ticksSincePublish = 0;
+
+    private LifecycleTickRegistry() {}
+
+    /**
+     * Attaches {@code system} for the given states. Registration order is run order.
+     */
+    public static void register(String name, TickSystem system, RunLifecycleState... activeIn) {
+        register(name, system, null, activeIn);
+    }
+
+    /**
+     * As register, with a hook called when a transition leaves every state the system runs in (the system
+     * will not be called again until it is re-attached), e.g. to drop work queued earlier in the same tick.
+     */
+    public static void register(String name, TickSystem system, TransitionHook onDetached, RunLifecycleState... activeIn) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(system, "system");
+        if (activeIn.length == 0) {
+            throw new IllegalArgumentException("Tick system " + name + " is active in no lifecycle state");
+        }
+        if (byState != null) {
+            throw new IllegalStateException("Tick system " + name + " registered after the server started");
+        }
+
+        EnumSet<RunLifecycleState> states = EnumSet.noneOf(RunLifecycleState.class);
+        for (RunLifecycleState s : activeIn) states.add(s);
+        entries.add(new Entry(name, system, onDetached, states));
+    }
+
+    /**
+     * Adds a hook called after every lifecycle transition (any state to any other).
+     */
+    public static void onTransition(TransitionHook hook) {
+        transitionHooks.add(Objects.requireNonNull(hook, "hook"));
+    }
+
+    /**
+     * The single END_SERVER_TICK listener: runs the systems attached for the current state.
+     */
+    public static void tick(MinecraftServer server) {
+        Entry[] current = activeEntries;
+        if (current.length == 0) return;
+
+        for (Entry entry : current) {
+            long start = System.nanoTime();
+            entry.system.tick(server);
+            long nanos = System.nanoTime() - start;
+
+            entry.calls++;
+            entry.totalNanos += nanos;
+            if (nanos > entry.maxNanos) entry.maxNanos = nanos;
+        }
+
+        if (++ticksSincePublish >= PUBLISH_INTERVAL_TICKS) {
+            publish();
+        }
+    }
+
+    /**
+     * Re-attaches systems for the current GameState.lifecycleState. Must be called after every lifecycle write.
+     * A no-op if the state did not change.
+     */
+    public static void sync(MinecraftServer server) {
+        GameState state = StateStorage.get(server);
+        RunLifecycleState next = state.lifecycleState;
+        if (next == active) return;
+
+        if (byState == null) byState = buildTable();
+
+        for (Entry entry : activeEntries) {
+            if (!entry.states.contains(next) && entry.onDetached != null) {
+                entry.onDetached.onTransition(server, state);
+            }
+        }
+
+        publish(); // final numbers of the systems being swapped out
+        active = next;
+        activeEntries = byState[next.ordinal()];
+        DebugMetrics.increment(METRIC_TRANSITIONS);
+        DebugMetrics.set(METRIC_ACTIVE_SYSTEMS, activeEntries.length);
+
+        for (TransitionHook hook : transitionHooks) {
+            hook.onTransition(server, state);
+        }
+    }
+
+    /** State the active systems were attached for (null before the first sync). */
+    public static RunLifecycleState activeState() {
+        return active;
+    }
+
+    /**
+     * Debug readout: every registered system, whether it is attached now, and its timings since start.
+     */
+    public static List<String> lines() {
+        List<String> lines = new ArrayList<>();
+        for (Entry entry : entries) {
+            boolean attached = active != null && entry.states.contains(active);
+            double avgMicros = (entry.calls == 0) ? 0 : entry.totalNanos / 1000.0 / entry.calls;
+            lines.add(entry.name + (attached ? " [attached]" : " [detached]") + " in " + entry.states
+                    + ": calls=" + entry.calls
+                    + String.format(" avg=%.1fus max=%.1fus", avgMicros, entry.maxNanos / 1000.0));
+        }
+        return lines;
+    }
+
+    /**
+     * Server stop: detach everything (without hooks; each system clears its own runtime state on stop) and
+     * reset the timings. Registrations are kept for the next server start.
+     */
+    public static void clear() {
+        active = null;
+        activeEntries = NONE;
+        ticksSincePublish = 0;
+        for (Entry entry : entries) {
+            entry.calls = 0;
+            entry.totalNanos = 0;
+            entry.maxNanos = 0;
+        }
+    }
+
+    private static Entry[][] buildTable() {
+        Entry[][] table = new Entry[STATES.length][];
+        for (RunLifecycleState s : STATES) {
+            List<Entry> list = new ArrayList<>();
+            for (Entry entry : entries) {
+                if (entry.states.contains(s)) list.add(entry);
+            }
+            table[s.ordinal()] = list.toArray(NONE);
+        }
+        return table;
+    }
+
+    private static void publish() {
+        ticksSincePublish = 0;
+        for (Entry entry : activeEntries) {
+            DebugMetrics.set("tick." + entry.name + ".calls", entry.calls);
+            DebugMetrics.set("tick." + entry.name + ".nanos", entry.totalNanos);
+            DebugMetrics.set("tick." + entry.name + ".max_nanos", entry.maxNanos);
+        }
+    }
+
+    private static final class Entry {
+        final String name;
+        final TickSystem system;
+        final TransitionHook onDetached; // nullable
+        final EnumSet<RunLifecycleState> states;
+
+        long calls;
+        long totalNanos;
+        long maxNanos;
+
+        Entry(String name, TickSystem system, TransitionHook onDetached, EnumSet<RunLifecycleState> states) {
+            this.name = name;
+            this.system = system;
+            this.onDetached = onDetached;
+            this.states = states;
+        }
+    }
+}
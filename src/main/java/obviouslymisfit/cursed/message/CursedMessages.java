@@ -2,8 +2,21 @@ package obviouslymisfit.cursed.message;
 
 import net.minecraft.network.chat.Component;
 
+import obviouslymisfit.cursed.curses.runtime.CurseRule;
+import obviouslymisfit.cursed.curses.runtime.CurseState;
+import obviouslymisfit.cursed.curses.runtime.OwnerCurseSet;
+import obviouslymisfit.cursed.objectives.engine.CohesionEvaluator;
+import obviouslymisfit.cursed.objectives.engine.ObjectiveProgressEngine;
+import obviouslymisfit.cursed.objectives.runtime.ObjectiveDefinition;
+import obviouslymisfit.cursed.penalties.runtime.PenaltyRule;
+import obviouslymisfit.cursed.platform.PlatformAnchor;
+import obviouslymisfit.cursed.scoring.runtime.ScoreLedger;
+import obviouslymisfit.cursed.scoring.runtime.Standings;
 import obviouslymisfit.cursed.state.GameState;
+import obviouslymisfit.cursed.state.RunLifecycleState;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 
@@ -57,6 +70,26 @@ public final class CursedMessages {
         );
     }
 
+    public static Component teamsNotConfigured() {
+        return Component.literal("Teams are not configured. Use /curse teams set <count> first.");
+    }
+
+    public static Component teamIndexOutOfRange(int teamIdx, int teamCount) {
+        return Component.literal("Team " + teamIdx + " does not exist (teams are 0.." + (teamCount - 1) + ").");
+    }
+
+    public static Component playerAssigned(String playerName, int teamIdx) {
+        return Component.literal(playerName + " assigned to team " + teamIdx);
+    }
+
+    public static Component playerUnassigned(String playerName) {
+        return Component.literal(playerName + " removed from their team");
+    }
+
+    public static Component playerWasNotAssigned(String playerName) {
+        return Component.literal(playerName + " is not assigned to a team.");
+    }
+
     public static Component status(GameState state, String teamText) {
         String runId = (state.runId == null) ? "none" : state.runId.toString();
 
@@ -86,4 +119,184 @@ public final class CursedMessages {
         return Component.literal("CURSED debug reloaded: " + (enabled ? "ENABLED" : "DISABLED") + " (config/cursed.debug.json)");
     }
 
+    public static Component submitRequiresRunning() {
+        return Component.literal("CURSED is not running. Submissions require RUNNING.");
+    }
+
+    public static Component submitRequiresPlayer() {
+        return Component.literal("Only players can submit items.");
+    }
+
+    public static Component submitNoTeam() {
+        return Component.literal("You are not assigned to a team. Nothing was submitted.");
+    }
+
+    public static Component submitNothingAccepted() {
+        return Component.literal("Nothing submitted: no unlocked, incomplete DELIVER requirement accepts those items.");
+    }
+
+    /**
+     * One summary message per submission batch (M3 section 8: avoid spamming on every incremental change).
+     */
+    public static Component submitResult(Map<String, Integer> taken, List<ObjectiveProgressEngine.ProgressChange> changes) {
+        StringBuilder msg = new StringBuilder("Submitted:");
+        taken.forEach((itemId, count) -> msg.append("\n- ").append(count).append("x ").append(itemId));
+
+        for (ObjectiveProgressEngine.ProgressChange change : changes) {
+            ObjectiveDefinition def = change.getDefinition();
+            msg.append("\n")
+                    .append(change.isCompleted() ? "COMPLETED " : change.isHeld() ? "HELD " : "Progress ")
+                    .append("P").append(def.getPhase()).append(" ").append(def.getSlotKey())
+                    .append(" ").append(def.getItemId())
+                    .append(" ").append(change.getAfter()).append("/").append(def.getQuantityRequired());
+            if (change.isHeld()) {
+                msg.append(" (").append(cohesionFailureText(change.getCohesion())).append(")");
+            }
+        }
+
+        return Component.literal(msg.toString());
+    }
+
+    /**
+     * Short reason a cohesion check failed, for appending to progress lines.
+     */
+    public static String cohesionFailureText(CohesionEvaluator.Result result) {
+        String who = (result.getOffendingPlayer() == null) ? "" : ": " + result.getOffendingPlayer();
+        return switch (result.getOutcome()) {
+            case PASSED -> "cohesion ok";
+            case NO_ANCHOR -> "cohesion: no team chest set";
+            case WRONG_DIMENSION -> "cohesion: wrong dimension" + who;
+            case OUT_OF_RANGE -> "cohesion: out of range" + who;
+        };
+    }
+
+    /**
+     * Team-wide objective notification (progress, completion or cohesion hold), sent through TeamNotifier.
+     */
+    public static Component teamProgress(ObjectiveProgressEngine.ProgressChange change) {
+        ObjectiveDefinition def = change.getDefinition();
+        StringBuilder msg = new StringBuilder()
+                .append(change.isCompleted() ? "Team objective COMPLETED: "
+                        : change.isHeld() ? "Team objective HELD: " : "Team objective: ")
+                .append("P").append(def.getPhase()).append(" ").append(def.getSlotKey())
+                .append(" ").append(def.getItemId())
+                .append(" ").append(change.getAfter()).append("/").append(def.getQuantityRequired());
+        if (change.isHeld()) {
+            msg.append(" (").append(cohesionFailureText(change.getCohesion())).append(")");
+        }
+        return Component.literal(msg.toString());
+    }
+
+    public static Component debugMetricsHeader(int count) {
+        return Component.literal("CURSED debug metrics (" + count + "):");
+    }
+
+    public static Component debugMetricsReset() {
+        return Component.literal("CURSED debug metrics reset.");
+    }
+
+    public static Component cursesRequireRun() {
+        return Component.literal("No active run. Curse sets are generated by /curse start.");
+    }
+
+    public static Component cursesRegenerated(int owners) {
+        return Component.literal("Curse sets regenerated for " + owners + " owners.");
+    }
+
+    public static Component cursesHeader(int owners, long runTicks) {
+        return Component.literal("Curse sets: " + owners + (owners == 0 ? " (none)" : "") + " | run tick " + runTicks);
+    }
+
+    /**
+     * nextRotation: due run tick of the owner's next rotation, or -1 if none is scheduled.
+     */
+    public static Component curseSetLine(OwnerCurseSet set, long nextRotation) {
+        StringBuilder msg = new StringBuilder("- ")
+                .append(CurseState.keyOf(set.getCategory(), set.getOwner()))
+                .append(" #").append(set.getRotationIndex())
+                .append(nextRotation < 0 ? " (no rotation)" : " (next @" + nextRotation + ")")
+                .append(set.getMissedRotations() > 0 ? " [" + set.getMissedRotations() + " missed offline]" : "")
+                .append(":");
+        if (set.getActive().isEmpty()) {
+            msg.append(" (empty)");
+        }
+        for (CurseRule rule : set.getActive()) {
+            msg.append(" ").append(rule.getBlockId()).append("->").append(rule.getEffectProfileId());
+        }
+        return Component.literal(msg.toString());
+    }
+
+    public static Component scoreHeader(int teams, int entries, long standingsVersion) {
+        return Component.literal("Team scores: " + teams + " teams" + (teams == 0 ? " (none)" : "") + " | ledger entries " + entries
+                + " | standings v" + standingsVersion);
+    }
+
+    public static Component scoreTeamLine(ScoreLedger ledger, int rank) {
+        Standings standings = ledger.standings();
+        int teamIdx = standings.teamAt(rank);
+        long lastTick = standings.lastChangeTick(teamIdx);
+        return Component.literal("#" + (rank + 1) + " team " + teamIdx + ": " + ledger.total(teamIdx)
+                + " (primary " + ledger.column(teamIdx, ScoreLedger.COL_PRIMARY)
+                + ", secondary " + ledger.column(teamIdx, ScoreLedger.COL_SECONDARY)
+                + ", tasks " + ledger.column(teamIdx, ScoreLedger.COL_TASK)
+                + ", adjustments " + ledger.column(teamIdx, ScoreLedger.COL_ADJUSTMENTS) + ")"
+                + " | phase reached " + standings.phaseReached(teamIdx)
+                + " | last change " + (lastTick < 0 ? "never" : "tick " + lastTick));
+    }
+
+    public static Component scoreVerifyOk(int entries, int checkpoints) {
+        return Component.literal("Score ledger OK: live totals match replay (" + entries + " entries, " + checkpoints + " checkpoints).");
+    }
+
+    public static Component scoreVerifyMismatches(int count) {
+        return Component.literal("Score ledger MISMATCH: " + count + " differences between live totals and replay:");
+    }
+
+    public static Component scoreAuditStarted() {
+        return Component.literal("Score audit started in the background; the report follows when it is done.");
+    }
+
+    public static Component scoreAuditBusy() {
+        return Component.literal("A score audit is already running.");
+    }
+
+    public static Component penaltiesHeader(int rules, int pending) {
+        return Component.literal("Penalty rules: " + rules + " | queued this tick " + pending);
+    }
+
+    public static Component penaltyRuleLine(PenaltyRule rule) {
+        String amount = (rule.getMode() == PenaltyRule.Mode.FIXED) ? rule.getValue() + " points" : rule.getValue() + "% of score";
+        String redistribution = rule.redistributes()
+                ? "redistributes " + rule.getFactor() + " (" + rule.getStrategy().name().toLowerCase() + ")"
+                : "no redistribution";
+        return Component.literal("- " + rule.getId() + (rule.isEnabled() ? "" : " [disabled]") + ": " + amount
+                + " x phase scale " + rule.getPhaseScale(1) + ".." + rule.getPhaseScale(PenaltyRule.PHASE_COUNT)
+                + ", " + redistribution + ", cooldown " + rule.getCooldownTicks() + " ticks");
+    }
+
+    public static Component penaltiesRequireRunning() {
+        return Component.literal("CURSED is not running. Penalties apply only while RUNNING.");
+    }
+
+    public static Component penaltiesForced(int queued, String ruleId, int teamIdx) {
+        return Component.literal("Queued " + queued + " x " + ruleId + " against team " + teamIdx
+                + (queued == 0 ? " (rule disabled or on cooldown)" : "; applied at the end of this tick."));
+    }
+
+    public static Component tickSystemsHeader(RunLifecycleState active, int systems) {
+        return Component.literal("Tick systems: " + systems + " registered | attached for " + (active == null ? "(not started)" : active));
+    }
+
+    public static Component platformChestSet(int teamIdx, PlatformAnchor anchor) {
+        return Component.literal("Team " + teamIdx + " chest anchor set: " + anchor);
+    }
+
+    public static Component platformSpawnSet(PlatformAnchor anchor) {
+        return Component.literal("Spawn platform set: " + anchor);
+    }
+
+    public static Component platformGathering(int players) {
+        return Component.literal("Moving " + players + " online player(s) to the spawn platform.");
+    }
+
 }
@@ -0,0 +1,184 @@
+package obviouslymisfit.cursed.message;
+
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+
+import obviouslymisfit.cursed.debug.DebugMetrics;
+import obviouslymisfit.cursed.objectives.engine.ObjectiveProgressEngine;
+import obviouslymisfit.cursed.objectives.runtime.TeamObjectiveTable;
+import obviouslymisfit.cursed.teams.TeamRosters;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Team-scoped objective notifications (M3 section 8, M10): progress, completion and cohesion holds are sent to
+ * the online members of the affected team only, never server-wide.
+ *
+ * Fan-out: the recipients are TeamRosters.members(team) (already resolved, no player list scan) and the message
+ * Component is built once per notification, then the same instance is sent to every member.
+ *
+ * Rate limit (M3 section 8: avoid spamming on every incremental change):
+ *  - progress on one requirement (keyed by its TeamObjectiveTable row) is sent at most once per
+ *    PROGRESS_INTERVAL_TICKS. Updates arriving inside the interval replace the pending one (only the latest
+ *    count is worth showing), and flush sends it once the interval has passed.
+ *  - completion and hold are sent immediately and drop any pending progress for the row (they supersede it).
+ *
+ * A notification can exclude one player (the submitter of a /curse submit, who already got the batch summary).
+ * A pending progress update keeps the exclusion of the update it holds.
+ *
+ * flush runs as a RUNNING tick system; when the run leaves RUNNING the detach hook sends whatever is still
+ * pending, so no last count is lost. With nothing pending a flush is one isEmpty check.
+ *
+ * Counters: notify.messages (notifications sent), notify.packets (messages x recipients),
+ * notify.coalesced (progress updates replaced before they were sent).
+ *
+ * Runtime only. Server thread only.
+ */
+public final class TeamNotifier {
+
+    public static final String METRIC_MESSAGES = "notify.messages";
+    public static final String METRIC_PACKETS = "notify.packets";
+    public static final String METRIC_COALESCED = "notify.coalesced";
+
+    // 3 seconds between two progress messages for the same requirement.
+    private static final int PROGRESS_INTERVAL_TICKS = 60;
+
+    // row -> latest unsent progress, in arrival order
+    private static final Map<Integer, Pending> pending = new LinkedHashMap<>();
+    // row -> server tick its last progress message was sent
+    private static final Map<Integer, Integer> lastSentTick = new HashMap<>();
+
+    private TeamNotifier() {}
+
+    /**
+     * Routes the changes of one progress batch: completions and holds now, plain progress rate-limited.
+     */
+    public static void changes(MinecraftServer server, List<ObjectiveProgressEngine.ProgressChange> changes) {
+        changes(server, changes, null);
+    }
+
+    /**
+     * As changes, but never sent to {@code except} (nullable).
+     */
+    public static void changes(MinecraftServer server, List<ObjectiveProgressEngine.ProgressChange> changes, UUID except) {
+        for (ObjectiveProgressEngine.ProgressChange change : changes) {
+            if (change.isCompleted() || change.isHeld()) {
+                immediate(server, change, except);
+            } else {
+                progress(server, change, except);
+            }
+        }
+    }
+
+    /**
+     * Progress on one requirement: sent now if its interval has passed, otherwise kept (replacing an older
+     * pending update for the same requirement) until flush.
+     */
+    public static void progress(MinecraftServer server, ObjectiveProgressEngine.ProgressChange change, UUID except) {
+        int row = change.getRow();
+        int now = server.getTickCount();
+
+        Integer last = lastSentTick.get(row);
+        if (last == null || now - last >= PROGRESS_INTERVAL_TICKS) {
+            pending.remove(row);
+            send(row, CursedMessages.teamProgress(change), except);
+            lastSentTick.put(row, now);
+            return;
+        }
+
+        if (pending.put(row, new Pending(change, except)) != null) {
+            DebugMetrics.increment(METRIC_COALESCED);
+        }
+    }
+
+    /**
+     * Completion or cohesion hold: sent now; pending progress for the requirement is dropped.
+     */
+    public static void immediate(MinecraftServer server, ObjectiveProgressEngine.ProgressChange change, UUID except) {
+        int row = change.getRow();
+        if (pending.remove(row) != null) {
+            DebugMetrics.increment(METRIC_COALESCED);
+        }
+        send(row, CursedMessages.teamProgress(change), except);
+        lastSentTick.put(row, server.getTickCount());
+    }
+
+    /**
+     * Sends pending progress whose interval has passed (tick system).
+     */
+    public static void flush(MinecraftServer server) {
+        if (pending.isEmpty()) return;
+
+        int now = server.getTickCount();
+        Iterator<Map.Entry<Integer, Pending>> it = pending.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, Pending> entry = it.next();
+            int row = entry.getKey();
+            Integer last = lastSentTick.get(row);
+            if (last != null && now - last < PROGRESS_INTERVAL_TICKS) continue;
+
+            it.remove();
+            send(row, CursedMessages.teamProgress(entry.getValue().change), entry.getValue().except);
+            lastSentTick.put(row, now);
+        }
+    }
+
+    /**
+     * Sends every pending update regardless of its interval (the run left RUNNING).
+     */
+    public static void flushAll(MinecraftServer server) {
+        if (pending.isEmpty()) return;
+
+        int now = server.getTickCount();
+        List<Map.Entry<Integer, Pending>> due = new ArrayList<>(pending.entrySet());
+        pending.clear();
+        for (Map.Entry<Integer, Pending> entry : due) {
+            send(entry.getKey(), CursedMessages.teamProgress(entry.getValue().change), entry.getValue().except);
+            lastSentTick.put(entry.getKey(), now);
+        }
+    }
+
+    public static int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Drops pending updates and send times (server stop).
+     */
+    public static void clear() {
+        pending.clear();
+        lastSentTick.clear();
+    }
+
+    private static void send(int row, Component message, UUID except) {
+        ServerPlayer[] members = TeamRosters.members(TeamObjectiveTable.teamOfRow(row));
+        int sent = 0;
+        for (ServerPlayer member : members) {
+            if (except != null && except.equals(member.getUUID())) continue;
+            member.sendSystemMessage(message);
+            sent++;
+        }
+        DebugMetrics.increment(METRIC_MESSAGES);
+        DebugMetrics.add(METRIC_PACKETS, sent);
+    }
+
+    /**
+     * A coalesced progress update and the player it must not reach (nullable).
+     */
+    private static final class Pending {
+        final ObjectiveProgressEngine.ProgressChange change;
+        final UUID except;
+
+        Pending(ObjectiveProgressEngine.ProgressChange change, UUID except) {
+            this.change = change;
+            this.except = except;
+        }
+    }
+}
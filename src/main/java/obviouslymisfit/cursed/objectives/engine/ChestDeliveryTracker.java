@@ -0,0 +1,346 @@
+package obviouslymisfit.cursed.objectives.engine;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.Container;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.ChestMenu;
+import net.minecraft.world.inventory.ContainerListener;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.BlockHitResult;
+
+import obviouslymisfit.cursed.debug.DebugMetrics;
+import obviouslymisfit.cursed.message.TeamNotifier;
+import obviouslymisfit.cursed.platform.PlatformAnchor;
+import obviouslymisfit.cursed.state.GameState;
+import obviouslymisfit.cursed.state.PlayerTeamIndex;
+import obviouslymisfit.cursed.state.RunLifecycleState;
+import obviouslymisfit.cursed.state.persistence.StateStorage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * DELIVER through the team chests on the spawn platform (M3 section 4), tracked from slot changes.
+ *
+ * The chests are not a source of truth: their contents are never scanned for progress. Instead, while a team
+ * member has their own team's chest open, a slot listener on that chest menu reports every slot change. An
+ * increase of a slot is a deposit only for the part not covered by items of the same kind that left the chest
+ * earlier (the team's "taken out" pool, fed by every slot decrease): moving a stack between two chest slots, or
+ * out to the cursor and back in, is a decrease followed (or, within one tick, preceded) by an equal increase and
+ * credits nothing. At the end of the tick the deposits of each chest go through the same allocation path as
+ * /curse submit (ObjectiveProgressEngine.applyDeliveries, one batch per chest), and the accepted items are
+ * removed from the chest right away. So:
+ *  - every deposited stack is processed exactly once: accepted items are gone, and items already in the chest
+ *    (its contents when opened, earlier leftovers no DELIVER requirement wanted, hopper-fed items) are never
+ *    credited by rearranging them or by taking them out and putting them back.
+ *  - a chest is never rescanned: the slot contents are read once per watch, when the first teammate opens it
+ *    (the baseline the deltas are measured from), and after that only the reported slot changes are looked at.
+ *
+ * Watching:
+ *  - UseBlockCallback on the clicked block marks the player as opening their team's chest if the block is that
+ *    team's chest anchor (same dimension and position; only the anchor half of a double chest counts).
+ *  - The chest menu opens after the callback, so the listener is attached in the end-of-tick flush.
+ *  - Watches are kept per team (one chest each), so two teammates with the chest open share one baseline and a
+ *    change reported by both menus is counted once (a double chest gives each viewer its own compound
+ *    container, so the container itself is not a usable key).
+ *  - A watch ends when no watching player still has its menu open.
+ *
+ * Limits (no mixins): changes made without an open menu (hoppers, breaking the chest) are not observed at all.
+ * A hopper feeding the chest while a teammate has it open is indistinguishable from a deposit and counts.
+ *
+ * The taken-out pool is kept per team across watches (items taken out in one session and put back in a later one
+ * are still not new), until the run is reset or a new one starts (clear).
+ *
+ * RUNNING only (tick system). Leaving RUNNING (episode end) only drops the clicks of that tick (pause): the
+ * watches, their pending deposits and the pools are kept, listeners keep recording while menus stay open, and
+ * the first flush after the run resumes credits everything deposited in between. Runtime only. Server thread only.
+ *
+ * Counters: chest.watches (open now), chest.baseline_reads, chest.deposited (new items put in), chest.accepted
+ * (items credited), chest.batches.
+ */
+public final class ChestDeliveryTracker {
+
+    public static final String METRIC_WATCHES = "chest.watches";
+    public static final String METRIC_DEPOSITED = "chest.deposited";
+    public static final String METRIC_ACCEPTED = "chest.accepted";
+    public static final String METRIC_BATCHES = "chest.batches";
+    public static final String METRIC_BASELINE_READS = "chest.baseline_reads";
+
+    // Players who clicked their team's chest this tick -> team index.
+    private static final Map<UUID, Integer> opening = new LinkedHashMap<>();
+
+    // Team index -> watch of its chest (one chest per team).
+    private static final Map<Integer, Watch> watches = new LinkedHashMap<>();
+
+    // Team index -> items that left the team's chest and were not put back yet (the taken-out pool).
+    private static final Map<Integer, Map<Item, Integer>> takenOut = new HashMap<>();
+
+    private ChestDeliveryTracker() {}
+
+    /**
+     * UseBlockCallback: remembers a team member clicking their own team's chest anchor.
+     */
+    public static void onBlockUsed(Player player, Level world, BlockHitResult hit) {
+        if (!(player instanceof ServerPlayer serverPlayer)) return;
+
+        GameState state = StateStorage.get(serverPlayer.level().getServer());
+        if (state.lifecycleState != RunLifecycleState.RUNNING) return;
+
+        int teamIdx = state.playerTeams.get(player.getUUID());
+        if (teamIdx == PlayerTeamIndex.NO_TEAM) return;
+
+        PlatformAnchor anchor = ObjectiveProgressEngine.teamChestAnchor(state, teamIdx);
+        if (anchor == null) return;
+
+        BlockPos pos = hit.getBlockPos();
+        if (pos.getX() != anchor.getX() || pos.getY() != anchor.getY() || pos.getZ() != anchor.getZ()) return;
+        if (!world.dimension().location().toString().equals(anchor.getDimension())) return;
+
+        opening.put(player.getUUID(), teamIdx);
+    }
+
+    /**
+     * End of tick: attaches watches for chests opened this tick, credits the deposits of every watched chest
+     * and ends the watches nobody has open anymore.
+     */
+    public static void flush(MinecraftServer server) {
+        if (opening.isEmpty() && watches.isEmpty()) return;
+
+        if (!opening.isEmpty()) {
+            for (Map.Entry<UUID, Integer> e : opening.entrySet()) {
+                ServerPlayer player = server.getPlayerList().getPlayer(e.getKey());
+                if (player != null && player.containerMenu instanceof ChestMenu menu) {
+                    watch(player, menu, e.getValue());
+                }
+            }
+            opening.clear();
+        }
+
+        GameState state = null;
+        Iterator<Watch> it = watches.values().iterator();
+        while (it.hasNext()) {
+            Watch watch = it.next();
+            if (!watch.deposits.isEmpty()) {
+                if (state == null) state = StateStorage.get(server);
+                credit(server, state, watch);
+            }
+            if (!watch.anyOpen()) it.remove();
+        }
+        DebugMetrics.set(METRIC_WATCHES, watches.size());
+    }
+
+    /**
+     * The run left RUNNING: chests clicked this tick are not watched; everything else waits for the resume.
+     */
+    public static void pause() {
+        opening.clear();
+    }
+
+    /**
+     * Drops every watch, pending open and taken-out pool (run start, run reset, server stop). Listeners of
+     * dropped watches stay on their menus until those close but no longer record anything.
+     */
+    public static void clear() {
+        opening.clear();
+        watches.clear();
+        takenOut.clear();
+    }
+
+    private static void watch(ServerPlayer player, ChestMenu menu, int teamIdx) {
+        Watch watch = watches.get(teamIdx);
+        if (watch == null) {
+            watch = new Watch(menu.getContainer(), teamIdx, takenOut.computeIfAbsent(teamIdx, t -> new HashMap<>()));
+            watches.put(teamIdx, watch);
+        } else if (watch.isWatching(player, menu)) {
+            return;
+        }
+
+        Watch owner = watch;
+        watch.viewers.add(player);
+        watch.menus.add(menu);
+        menu.addSlotListener(new ContainerListener() {
+            @Override
+            public void slotChanged(AbstractContainerMenu changed, int slot, ItemStack stack) {
+                // Only the chest's own slots; the player inventory part of the menu follows them.
+                if (watches.get(teamIdx) == owner && slot < owner.size) {
+                    owner.onSlot(slot, stack);
+                }
+            }
+
+            @Override
+            public void dataChanged(AbstractContainerMenu changed, int id, int value) {
+                // Chests have no data slots.
+            }
+        });
+    }
+
+    /**
+     * One allocation batch for the chest's deposits since the last flush; accepted items leave the chest.
+     */
+    private static void credit(MinecraftServer server, GameState state, Watch watch) {
+        // 1) Increases covered by items taken out earlier (this tick included: every decrease of the tick was
+        //    already pooled by onSlot) are those items coming back, not deposits.
+        // 2) Only what is still in the slot counts (items put in and taken out again within the tick are not
+        //    deposits). Several deposits into one slot share its current stack.
+        List<Deposit> deposits = watch.deposits;
+        int[] present = new int[deposits.size()];
+        Map<String, Integer> delivered = new LinkedHashMap<>();
+        for (int i = 0; i < deposits.size(); i++) {
+            Deposit d = deposits.get(i);
+            int returned = Math.min(d.count, watch.takenOut.getOrDefault(d.item, 0));
+            if (returned > 0) watch.takenOut.merge(d.item, -returned, Integer::sum);
+            int fresh = d.count - returned;
+            if (fresh <= 0) continue;
+
+            ItemStack stack = watch.container.getItem(d.slot);
+            if (stack.isEmpty() || stack.getItem() != d.item) continue;
+
+            int claimed = 0;
+            for (int j = 0; j < i; j++) {
+                if (deposits.get(j).slot == d.slot) claimed += present[j];
+            }
+            present[i] = Math.max(0, Math.min(fresh, stack.getCount() - claimed));
+            if (present[i] > 0) delivered.merge(d.itemId, present[i], Integer::sum);
+        }
+        watch.takenOut.values().removeIf(n -> n <= 0);
+        if (delivered.isEmpty()) {
+            deposits.clear();
+            return;
+        }
+        delivered.values().forEach(n -> DebugMetrics.add(METRIC_DEPOSITED, n));
+
+        ObjectiveProgressEngine.DeliveryResult result =
+                ObjectiveProgressEngine.applyDeliveries(server, state, watch.teamIdx, delivered);
+        DebugMetrics.increment(METRIC_BATCHES);
+
+        // accepted = delivered - unallocated, taken back out of the slots the deposits went into
+        Map<String, Integer> accepted = new LinkedHashMap<>(delivered);
+        result.getUnallocated().forEach((itemId, left) -> accepted.merge(itemId, -left, Integer::sum));
+
+        int removed = 0;
+        for (int i = 0; i < deposits.size(); i++) {
+            Deposit d = deposits.get(i);
+            int left = accepted.getOrDefault(d.itemId, 0);
+            if (left <= 0 || present[i] <= 0) continue;
+
+            int take = Math.min(left, present[i]);
+            watch.container.getItem(d.slot).shrink(take);
+            // Our own change: the baseline follows, so the listener sees no delta for it.
+            watch.knownCount[d.slot] -= take;
+            if (watch.knownCount[d.slot] <= 0) {
+                watch.knownItem[d.slot] = null;
+                watch.knownCount[d.slot] = 0;
+            }
+            accepted.put(d.itemId, left - take);
+            removed += take;
+        }
+        deposits.clear();
+
+        if (removed > 0) {
+            watch.container.setChanged();
+            DebugMetrics.add(METRIC_ACCEPTED, removed);
+        }
+        TeamNotifier.changes(server, result.getChanges());
+    }
+
+    /**
+     * Items put into one chest slot, waiting for the end-of-tick batch.
+     */
+    private static final class Deposit {
+        final int slot;
+        final Item item;
+        final String itemId;
+        final int count;
+
+        Deposit(int slot, Item item, int count) {
+            this.slot = slot;
+            this.item = item;
+            this.itemId = BuiltInRegistries.ITEM.getKey(item).toString();
+            this.count = count;
+        }
+    }
+
+    /**
+     * One watched chest: the slot baseline deltas are measured against, and who has it open.
+     */
+    private static final class Watch {
+        final Container container;
+        final int teamIdx;
+        final int size;
+
+        // Last known content per slot (item null = empty).
+        final Item[] knownItem;
+        final int[] knownCount;
+
+        final List<ServerPlayer> viewers = new ArrayList<>();
+        final List<AbstractContainerMenu> menus = new ArrayList<>();
+        final List<Deposit> deposits = new ArrayList<>();
+        final Map<Item, Integer> takenOut; // the team's pool, shared with later watches
+
+        Watch(Container container, int teamIdx, Map<Item, Integer> takenOut) {
+            this.container = container;
+            this.teamIdx = teamIdx;
+            this.takenOut = takenOut;
+            this.size = container.getContainerSize();
+            this.knownItem = new Item[size];
+            this.knownCount = new int[size];
+
+            // The single read of the chest's contents (baseline for the deltas).
+            for (int slot = 0; slot < size; slot++) {
+                ItemStack stack = container.getItem(slot);
+                if (stack.isEmpty()) continue;
+                knownItem[slot] = stack.getItem();
+                knownCount[slot] = stack.getCount();
+            }
+            DebugMetrics.increment(METRIC_BASELINE_READS);
+        }
+
+        void onSlot(int slot, ItemStack stack) {
+            Item item = stack.isEmpty() ? null : stack.getItem();
+            int count = stack.isEmpty() ? 0 : stack.getCount();
+
+            Item old = knownItem[slot];
+            if (old != null && old == item) {
+                int delta = count - knownCount[slot];
+                if (delta > 0) deposits.add(new Deposit(slot, item, delta));
+                if (delta < 0) takenOut.merge(old, -delta, Integer::sum);
+            } else {
+                // Different item (or emptied): the old stack was taken out, then the new one put in.
+                if (old != null) takenOut.merge(old, knownCount[slot], Integer::sum);
+                if (item != null) deposits.add(new Deposit(slot, item, count));
+            }
+            knownItem[slot] = item;
+            knownCount[slot] = count;
+        }
+
+        boolean isWatching(ServerPlayer player, AbstractContainerMenu menu) {
+            for (int i = 0; i < viewers.size(); i++) {
+                if (viewers.get(i) == player && menus.get(i) == menu) return true;
+            }
+            return false;
+        }
+
+        /** Drops viewers who closed the menu (or left); true while someone still has it open. */
+        boolean anyOpen() {
+            for (int i = viewers.size() - 1; i >= 0; i--) {
+                ServerPlayer viewer = viewers.get(i);
+                if (viewer.isRemoved() || viewer.containerMenu != menus.get(i)) {
+                    viewers.remove(i);
+                    menus.remove(i);
+                }
+            }
+            return !viewers.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package obviouslymisfit.cursed.objectives.engine;
+
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.Level;
+
+import obviouslymisfit.cursed.objectives.runtime.ObjectiveDefinition;
+import obviouslymisfit.cursed.platform.PlatformAnchor;
+
+/**
+ * Cohesion checks (spec section 8): a constraint evaluated ONLY at completion time, never per tick.
+ *
+ * Modes:
+ *  - DELIVERY_CHEST: every online team member is within radius of the team's chest anchor.
+ *  - GATHER_CLUSTER: every online team member is within radius of every other member.
+ *
+ * Cost rules:
+ *  - All distance comparisons are on squared distances; no square roots in the per-member checks.
+ *  - Any member in a different dimension fails the check immediately, before any distance math.
+ *  - GATHER_CLUSTER avoids the O(n^2) pairwise walk in the common cases:
+ *      1) An approximate bounding sphere (Ritter) is built in O(n). Its construction starts from an
+ *         actual member pair; if that pair is already farther apart than the radius, the check fails.
+ *      2) If the sphere's diameter fits within the radius, every pair fits too, and the check passes.
+ *      3) Only when the team sits near the boundary (between those two bounds) do we fall back to
+ *         the exact pairwise check, which is what defines the result.
+ *
+ * Members are the team's online roster (teams.TeamRosters). Offline members cannot be located and are not checked.
+ * Stateless and side-effect free: callers decide what a failure means for progress.
+ */
+public final class CohesionEvaluator {
+
+    // Keeps the sphere fast-path strictly conservative against floating point rounding.
+    private static final double SPHERE_EPSILON = 1.0e-6;
+
+    private CohesionEvaluator() {}
+
+    public static Result evaluate(ObjectiveDefinition.Cohesion cohesion, ServerPlayer[] members, PlatformAnchor chestAnchor) {
+        if (cohesion == null || members.length == 0) return Result.PASSED;
+
+        return switch (cohesion.getMode()) {
+            case DELIVERY_CHEST -> evaluateDelivery(members, chestAnchor, cohesion.getRadiusBlocks());
+            case GATHER_CLUSTER -> evaluateCluster(members, cohesion.getRadiusBlocks());
+        };
+    }
+
+    /**
+     * Every member within radius of the chest anchor (block center).
+     */
+    public static Result evaluateDelivery(ServerPlayer[] members, PlatformAnchor chestAnchor, int radiusBlocks) {
+        if (chestAnchor == null) return Result.fail(Outcome.NO_ANCHOR, null);
+
+        ResourceLocation anchorDimension = ResourceLocation.parse(chestAnchor.getDimension());
+        double cx = chestAnchor.centerX();
+        double cy = chestAnchor.centerY();
+        double cz = chestAnchor.centerZ();
+        double r2 = (double) radiusBlocks * radiusBlocks;
+
+        for (ServerPlayer player : members) {
+            if (!anchorDimension.equals(player.level().dimension().location())) {
+                return Result.fail(Outcome.WRONG_DIMENSION, player);
+            }
+
+            double dx = player.getX() - cx;
+            double dy = player.getY() - cy;
+            double dz = player.getZ() - cz;
+            if (dx * dx + dy * dy + dz * dz > r2) {
+                return Result.fail(Outcome.OUT_OF_RANGE, player);
+            }
+        }
+
+        return Result.PASSED;
+    }
+
+    /**
+     * Every pair of members within radius of each other.
+     */
+    public static Result evaluateCluster(ServerPlayer[] members, int radiusBlocks) {
+        int n = members.length;
+        if (n <= 1) return Result.PASSED;
+
+        // Dimension first: a single member elsewhere decides the result without any distance math.
+        ResourceKey<Level> dimension = members[0].level().dimension();
+        for (int i = 1; i < n; i++) {
+            if (!dimension.equals(members[i].level().dimension())) {
+                return Result.fail(Outcome.WRONG_DIMENSION, members[i]);
+            }
+        }
+
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        double[] zs = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = members[i].getX();
+            ys[i] = members[i].getY();
+            zs[i] = members[i].getZ();
+        }
+
+        double r2 = (double) radiusBlocks * radiusBlocks;
+
+        // 1) Ritter seed pair: b = farthest from member 0, c = farthest from b. (b, c) is a real pair.
+        int b = farthestFrom(xs, ys, zs, 0);
+        int c = farthestFrom(xs, ys, zs, b);
+        double seed2 = dist2(xs, ys, zs, b, c);
+        if (seed2 > r2) {
+            return Result.fail(Outcome.OUT_OF_RANGE, members[c]);
+        }
+
+        // Grow the sphere around the seed pair until it encloses every member.
+        double sx = (xs[b] + xs[c]) * 0.5;
+        double sy = (ys[b] + ys[c]) * 0.5;
+        double sz = (zs[b] + zs[c]) * 0.5;
+        double radius = Math.sqrt(seed2) * 0.5;
+
+        for (int i = 0; i < n; i++) {
+            double dx = xs[i] - sx;
+            double dy = ys[i] - sy;
+            double dz = zs[i] - sz;
+            double d2 = dx * dx + dy * dy + dz * dz;
+            if (d2 <= radius * radius) continue;
+
+            double d = Math.sqrt(d2);
+            double grown = (radius + d) * 0.5;
+            double shift = (grown - radius) / d;
+            sx += dx * shift;
+            sy += dy * shift;
+            sz += dz * shift;
+            radius = grown;
+        }
+
+        // 2) Any two points inside a sphere are at most its diameter apart.
+        if (2.0 * radius <= radiusBlocks - SPHERE_EPSILON) {
+            return Result.PASSED;
+        }
+
+        // 3) Near the boundary: the exact pairwise check decides.
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                if (dist2(xs, ys, zs, i, j) > r2) {
+                    return Result.fail(Outcome.OUT_OF_RANGE, members[j]);
+                }
+            }
+        }
+
+        return Result.PASSED;
+    }
+
+    private static int farthestFrom(double[] xs, double[] ys, double[] zs, int from) {
+        int best = from;
+        double bestD2 = -1.0;
+        for (int i = 0; i < xs.length; i++) {
+            double d2 = dist2(xs, ys, zs, from, i);
+            if (d2 > bestD2) {
+                bestD2 = d2;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private static double dist2(double[] xs, double[] ys, double[] zs, int a, int b) {
+        double dx = xs[a] - xs[b];
+        double dy = ys[a] - ys[b];
+        double dz = zs[a] - zs[b];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    public enum Outcome {
+        PASSED,
+        NO_ANCHOR,
+        WRONG_DIMENSION,
+        OUT_OF_RANGE
+    }
+
+    /**
+     * Check outcome plus the first member that broke it (null when passed or when no member is at fault).
+     */
+    public static final class Result {
+        public static final Result PASSED = new Result(Outcome.PASSED, null);
+
+        private final Outcome outcome;
+        private final String offendingPlayer;
+
+        private Result(Outcome outcome, String offendingPlayer) {
+            this.outcome = outcome;
+            this.offendingPlayer = offendingPlayer;
+        }
+
+        private static Result fail(Outcome outcome, ServerPlayer player) {
+            return new Result(outcome, (player == null) ? null : player.getName().getString());
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        public boolean passed() {
+            return outcome == Outcome.PASSED;
+        }
+
+        public String getOffendingPlayer() {
+            return offendingPlayer;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package obviouslymisfit.cursed.objectives.engine;
+
+import obviouslymisfit.cursed.objectives.runtime.ObjectiveDefinition;
+import obviouslymisfit.cursed.objectives.runtime.ObjectiveSlot;
+import obviouslymisfit.cursed.objectives.runtime.TeamObjectiveTable;
+import obviouslymisfit.cursed.state.GameState;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Precomputed DELIVER allocation order for every team (M3 section 7 "deliver in pieces").
+ *
+ * Why this exists:
+ * - Both the debug submit command and the later spawn-platform chest delivery must fill
+ *   unlocked, incomplete DELIVER requirements in a deterministic order: phase ascending, then slot order.
+ * - Deriving that order on every submission means walking every (phase, slot) and filtering each time.
+ *   Instead we flatten it once, when a phase unlocks, into one array per team.
+ *
+ * Each team gets two parallel arrays: the global definition and the team's row in the
+ * TeamObjectiveTable, so the allocation walk reads primitive columns directly. Completed entries stay
+ * in the arrays and are simply skipped during the walk; the arrays only change when the phase
+ * (i.e. the unlocked set) changes.
+ *
+ * This class is a runtime cache only. It is never persisted and can always be rebuilt from GameState.
+ */
+public final class DeliverAllocationOrder {
+
+    private static final ObjectiveDefinition[] NO_DEFS = new ObjectiveDefinition[0];
+    private static final int[] NO_ROWS = new int[0];
+
+    private final GameState source;
+    private final TeamObjectiveTable table;
+    private final int phase;
+
+    // teamIdx -> entries in allocation order (phase ascending, then ObjectiveSlot ordinal)
+    private final ObjectiveDefinition[][] defsByTeam;
+    private final int[][] rowsByTeam;
+
+    private DeliverAllocationOrder(GameState source, int phase, ObjectiveDefinition[][] defsByTeam, int[][] rowsByTeam) {
+        this.source = source;
+        this.table = source.teamObjectiveStates;
+        this.phase = phase;
+        this.defsByTeam = defsByTeam;
+        this.rowsByTeam = rowsByTeam;
+    }
+
+    /**
+     * Builds the order for all teams from the current definitions and team states.
+     *
+     * Only phases 1..state.phase are included (phase gating: locked requirements never receive items).
+     * Absent team rows for a (phase, slot) are skipped: there is nothing to progress.
+     */
+    public static DeliverAllocationOrder build(GameState state) {
+        TeamObjectiveTable table = state.teamObjectiveStates;
+        int teamCount = table.teamCount();
+        int maxPhase = Math.min(state.phase, TeamObjectiveTable.PHASE_COUNT);
+
+        ObjectiveDefinition[][] defsByTeam = new ObjectiveDefinition[teamCount][];
+        int[][] rowsByTeam = new int[teamCount][];
+
+        for (int teamIdx = 0; teamIdx < teamCount; teamIdx++) {
+            List<ObjectiveDefinition> defs = new ArrayList<>();
+            List<Integer> rows = new ArrayList<>();
+
+            for (int phase = 1; phase <= maxPhase; phase++) {
+                // Slot declaration order is the stable order (see ObjectiveSlot).
+                for (ObjectiveSlot slot : ObjectiveSlot.ordered()) {
+                    ObjectiveDefinition def = state.objectiveDefinitions.get(phase, slot);
+                    if (def == null || def.getAction() != ObjectiveDefinition.ObjectiveAction.DELIVER) continue;
+
+                    int row = table.row(teamIdx, phase, slot);
+                    if (!table.exists(row)) continue;
+
+                    defs.add(def);
+                    rows.add(row);
+                }
+            }
+
+            defsByTeam[teamIdx] = defs.toArray(NO_DEFS);
+            rowsByTeam[teamIdx] = rows.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        return new DeliverAllocationOrder(state, state.phase, defsByTeam, rowsByTeam);
+    }
+
+    /**
+     * True if this cache was built from the given state at its current phase.
+     * A phase unlock, a replaced GameState (load/reset) or a replaced/resized table makes the cache stale.
+     */
+    public boolean isCurrentFor(GameState state) {
+        return source == state
+                && table == state.teamObjectiveStates
+                && phase == state.phase
+                && defsByTeam.length == table.teamCount();
+    }
+
+    /**
+     * Definitions for the team in allocation order. Callers must not mutate the returned array.
+     */
+    public ObjectiveDefinition[] definitionsForTeam(int teamIdx) {
+        if (teamIdx < 0 || teamIdx >= defsByTeam.length) return NO_DEFS;
+        return defsByTeam[teamIdx];
+    }
+
+    /**
+     * TeamObjectiveTable rows parallel to definitionsForTeam(teamIdx). Callers must not mutate the returned array.
+     */
+    public int[] rowsForTeam(int teamIdx) {
+        if (teamIdx < 0 || teamIdx >= rowsByTeam.length) return NO_ROWS;
+        return rowsByTeam[teamIdx];
+    }
+}
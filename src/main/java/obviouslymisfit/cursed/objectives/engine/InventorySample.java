@@ -0,0 +1,93 @@
+package obviouslymisfit.cursed.objectives.engine;
+
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+
+import java.util.Arrays;
+
+/**
+ * One player's counts of their team's tracked TEAM_GATHER items, plus a fingerprint of those counts.
+ *
+ * Why this exists:
+ * - Most inventory triggers (hotbar swaps, moving stacks around, picking up untracked items, deaths with
+ *   keepInventory, join/leave of members carrying nothing relevant) leave the tracked counts unchanged.
+ *   Comparing a fresh sample with the last evaluated one lets us skip the team evaluation entirely.
+ * - Team totals are the sum of the members' cached samples, so one member's change never rescans teammates.
+ *
+ * Fingerprint: sum over tracked items of count * odd multiplier (mod 2^64). It is additive, so a member
+ * carrying none of the tracked items has fingerprint 0 and contributes nothing to the team.
+ * Equal fingerprints are confirmed against the counts, so a hash collision can never skip a real change.
+ *
+ * Samples are bound to the TeamGatherOrder they were taken for; a rebuilt order makes them stale.
+ * Runtime only, never persisted.
+ */
+final class InventorySample {
+
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    final TeamGatherOrder order;
+    final int teamIdx;
+    final int[] counts;
+    final long fingerprint;
+
+    private InventorySample(TeamGatherOrder order, int teamIdx, int[] counts, long fingerprint) {
+        this.order = order;
+        this.teamIdx = teamIdx;
+        this.counts = counts;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Single pass over the whole inventory (main, armor, offhand), matching items by identity.
+     */
+    static InventorySample take(ServerPlayer player, TeamGatherOrder order, int teamIdx) {
+        Item[] tracked = order.trackedItems(teamIdx);
+        int[] counts = new int[tracked.length];
+
+        if (tracked.length > 0) {
+            Inventory inventory = player.getInventory();
+            for (int slot = 0; slot < inventory.getContainerSize(); slot++) {
+                ItemStack stack = inventory.getItem(slot);
+                if (stack.isEmpty()) continue;
+
+                Item item = stack.getItem();
+                for (int k = 0; k < tracked.length; k++) {
+                    if (tracked[k] == item) {
+                        counts[k] += stack.getCount();
+                        break;
+                    }
+                }
+            }
+        }
+
+        long fingerprint = 0;
+        for (int k = 0; k < counts.length; k++) {
+            fingerprint += counts[k] * ((GOLDEN * (k + 1)) | 1L);
+        }
+
+        return new InventorySample(order, teamIdx, counts, fingerprint);
+    }
+
+    /**
+     * True if this sample is for the same order and team and has exactly the same counts.
+     */
+    boolean sameAs(InventorySample other) {
+        return other != null
+                && other.order == order
+                && other.teamIdx == teamIdx
+                && other.fingerprint == fingerprint
+                && Arrays.equals(other.counts, counts);
+    }
+
+    /**
+     * True if the player carries any tracked item (i.e. adds to the team totals).
+     */
+    boolean contributes() {
+        for (int count : counts) {
+            if (count != 0) return true;
+        }
+        return false;
+    }
+}
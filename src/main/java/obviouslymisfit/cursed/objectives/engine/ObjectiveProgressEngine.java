@@ -0,0 +1,403 @@
+package obviouslymisfit.cursed.objectives.engine;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.item.ItemStack;
+
+import obviouslymisfit.cursed.objectives.runtime.ObjectiveDefinition;
+import obviouslymisfit.cursed.objectives.runtime.TeamObjectiveTable;
+import obviouslymisfit.cursed.platform.PlatformAnchor;
+import obviouslymisfit.cursed.scoring.engine.ScoreService;
+import obviouslymisfit.cursed.state.GameState;
+import obviouslymisfit.cursed.state.persistence.StateStorage;
+import obviouslymisfit.cursed.teams.TeamRosters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Central progress mutation path (M3 section 3 "single mutation path").
+ *
+ * Event listeners and commands never write objective progress directly. They gather input
+ * (e.g. items taken from an inventory) and hand it to this engine, which:
+ *  - allocates deterministically (phase -> slot order)
+ *  - updates progress and completion in one pass
+ *  - persists exactly once per call
+ *
+ * Scope today: DELIVER allocation (applyDeliveries) and TEAM_GATHER application (applyTeamGather: progress from
+ * the team's item totals, GATHER_CLUSTER cohesion holds, completion scoring). Other action types route through
+ * here as they are wired.
+ */
+public final class ObjectiveProgressEngine {
+
+    // Runtime-only caches; rebuilt on phase unlock or when the authoritative GameState is replaced.
+    private static DeliverAllocationOrder deliverOrder = null;
+    private static TeamGatherOrder gatherOrder = null;
+
+    private ObjectiveProgressEngine() {}
+
+    /**
+     * Called when a phase unlocks (run start, phase advance) so the next submission does not pay for the rebuild.
+     * Safe to skip: deliverOrder(state) also rebuilds lazily when it detects a stale cache.
+     */
+    public static void onPhaseUnlocked(GameState state) {
+        deliverOrder = DeliverAllocationOrder.build(state);
+        gatherOrder = TeamGatherOrder.build(state);
+    }
+
+    /**
+     * Drops every cached order (reset, team reconfiguration). Next access rebuilds.
+     */
+    public static void invalidateCaches() {
+        deliverOrder = null;
+        gatherOrder = null;
+    }
+
+    private static DeliverAllocationOrder deliverOrder(GameState state) {
+        DeliverAllocationOrder order = deliverOrder;
+        if (order == null || !order.isCurrentFor(state)) {
+            order = DeliverAllocationOrder.build(state);
+            deliverOrder = order;
+        }
+        return order;
+    }
+
+    /**
+     * Current TEAM_GATHER order (rebuilt lazily when stale). Samples taken against it stay valid until it changes.
+     */
+    public static TeamGatherOrder gatherOrder(GameState state) {
+        TeamGatherOrder order = gatherOrder;
+        if (order == null || !order.isCurrentFor(state)) {
+            order = TeamGatherOrder.build(state);
+            gatherOrder = order;
+        }
+        return order;
+    }
+
+    /**
+     * Remaining DELIVER demand for a team, keyed by item id, over unlocked and incomplete requirements.
+     *
+     * Used to decide how many items to take from a source before allocating, so we never remove
+     * items that no requirement can accept (irrelevant items and overflow stay with the player).
+     */
+    public static Map<String, Integer> remainingDeliverDemand(GameState state, int teamIdx) {
+        Map<String, Integer> demand = new LinkedHashMap<>();
+
+        DeliverAllocationOrder order = deliverOrder(state);
+        ObjectiveDefinition[] defs = order.definitionsForTeam(teamIdx);
+        int[] rows = order.rowsForTeam(teamIdx);
+
+        for (int i = 0; i < defs.length; i++) {
+            int missing = missing(state.teamObjectiveStates, defs[i], rows[i]);
+            if (missing > 0) {
+                demand.merge(defs[i].getItemId(), missing, Integer::sum);
+            }
+        }
+
+        return demand;
+    }
+
+    /**
+     * Removes up to the demanded amount of every matching stack from the player's main inventory in a single pass.
+     *
+     * The demand map is consumed as items are taken, so each item id is never over-collected even if it is
+     * spread across many stacks. Armor and offhand slots are never touched.
+     *
+     * Returns item id -> amount actually removed (empty if nothing matched).
+     */
+    public static Map<String, Integer> takeFromInventory(ServerPlayer player, Map<String, Integer> demand) {
+        Map<String, Integer> remaining = new LinkedHashMap<>(demand);
+        Map<String, Integer> taken = new LinkedHashMap<>();
+
+        if (remaining.isEmpty()) return taken;
+
+        Inventory inventory = player.getInventory();
+
+        for (int slot = 0; slot < Inventory.INVENTORY_SIZE; slot++) {
+            ItemStack stack = inventory.getItem(slot);
+            if (stack.isEmpty()) continue;
+
+            String itemId = BuiltInRegistries.ITEM.getKey(stack.getItem()).toString();
+
+            Integer want = remaining.get(itemId);
+            if (want == null || want <= 0) continue;
+
+            int take = Math.min(want, stack.getCount());
+            stack.shrink(take);
+
+            remaining.put(itemId, want - take);
+            taken.merge(itemId, take, Integer::sum);
+        }
+
+        if (!taken.isEmpty()) {
+            // Mark the inventory changed once for the whole batch so the client resyncs.
+            inventory.setChanged();
+        }
+
+        return taken;
+    }
+
+    /**
+     * Allocates delivered items across the team's DELIVER requirements and persists once.
+     *
+     * Allocation rule (M3 section 7):
+     *  1) walk the team's cached allocation order (phase ascending, then slot order)
+     *  2) skip completed requirements and requirements for other items
+     *  3) fill each requirement until complete, then continue with the next until items run out
+     *
+     * Cohesion (spec section 8) is checked only when a requirement reaches its quantity. If the check fails,
+     * the requirement stays full but NOT completed ("held"); held requirements accept no more items and are
+     * re-checked on the team's next call, which may pass an empty delivery just to retry them.
+     * The check runs at most once per batch: positions cannot change within one mutation.
+     *
+     * All progress changes and completions produced by the batch are committed together, then saved once.
+     * If nothing was allocated or completed, no save happens.
+     */
+    public static DeliveryResult applyDeliveries(MinecraftServer server, GameState state, int teamIdx, Map<String, Integer> delivered) {
+        Map<String, Integer> remaining = new LinkedHashMap<>(delivered);
+        List<ProgressChange> changes = new ArrayList<>();
+
+        TeamObjectiveTable table = state.teamObjectiveStates;
+        DeliverAllocationOrder order = deliverOrder(state);
+        ObjectiveDefinition[] defs = order.definitionsForTeam(teamIdx);
+        int[] rows = order.rowsForTeam(teamIdx);
+
+        // One timestamp for the whole batch: every completion in it happened in the same mutation.
+        long nowMillis = System.currentTimeMillis();
+
+        // Lazily evaluated once per batch (per radius), see class doc of CohesionEvaluator.
+        CohesionEvaluator.Result cohesionResult = null;
+        int cohesionRadius = -1;
+
+        for (int i = 0; i < defs.length; i++) {
+            ObjectiveDefinition def = defs[i];
+            int row = rows[i];
+
+            if (table.isCompleted(row)) continue;
+
+            int before = table.deposited(row);
+            int after = before;
+
+            Integer available = remaining.get(def.getItemId());
+            int missing = def.getQuantityRequired() - before;
+
+            if (available != null && missing > 0) {
+                int apply = Math.min(missing, available);
+                after = before + apply;
+                table.setDeposited(row, after);
+
+                if (available - apply <= 0) {
+                    remaining.remove(def.getItemId());
+                } else {
+                    remaining.put(def.getItemId(), available - apply);
+                }
+            }
+
+            if (after < def.getQuantityRequired()) {
+                if (after != before) changes.add(new ProgressChange(def, row, before, after, false, null));
+                continue;
+            }
+
+            // Quantity reached (now or in an earlier call that was held): completion gate.
+            CohesionEvaluator.Result check = null;
+            ObjectiveDefinition.Cohesion cohesion = def.getCohesion();
+            if (cohesion != null && cohesion.getMode() == ObjectiveDefinition.CohesionMode.DELIVERY_CHEST) {
+                if (cohesionResult == null || cohesionRadius != cohesion.getRadiusBlocks()) {
+                    cohesionRadius = cohesion.getRadiusBlocks();
+                    cohesionResult = CohesionEvaluator.evaluateDelivery(
+                            TeamRosters.members(teamIdx), teamChestAnchor(state, teamIdx), cohesionRadius);
+                }
+                check = cohesionResult;
+            }
+
+            boolean completed = (check == null) || check.passed();
+            if (completed) {
+                table.markCompleted(row, nowMillis);
+                // M6: award on the COMPLETED transition, inside this mutation so it is saved with it.
+                ScoreService.awardCompletion(state, row);
+            }
+
+            // A held requirement that received nothing and is still held is not a change.
+            if (completed || after != before) {
+                changes.add(new ProgressChange(def, row, before, after, completed, check));
+            }
+        }
+
+        if (!changes.isEmpty()) {
+            // Single save for the whole batch (M3 section 9: persist immediately, but once per mutation).
+            StateStorage.save(server, state);
+        }
+
+        return new DeliveryResult(changes, remaining);
+    }
+
+    /**
+     * Applies team-wide inventory totals to the team's TEAM_GATHER requirements (M3 section 5) and persists once.
+     *
+     * totals[k] is the online team's count of order.trackedItems(teamIdx)[k]. Items are never consumed.
+     * Progress mirrors the totals (capped at the requirement) until completion, which latches.
+     * Reaching the quantity runs the GATHER_CLUSTER cohesion check (once per batch); a failed check holds the
+     * requirement at full progress without completing, and the next evaluation checks again.
+     *
+     * Idempotent: evaluating the same totals twice changes nothing and does not save.
+     */
+    public static List<ProgressChange> applyTeamGather(MinecraftServer server, GameState state, TeamGatherOrder order,
+                                                       int teamIdx, long[] totals, ServerPlayer[] members) {
+        List<ProgressChange> changes = new ArrayList<>();
+
+        TeamObjectiveTable table = state.teamObjectiveStates;
+        ObjectiveDefinition[] defs = order.definitionsForTeam(teamIdx);
+        int[] rows = order.rowsForTeam(teamIdx);
+        int[] itemIndex = order.itemIndexForTeam(teamIdx);
+
+        long nowMillis = System.currentTimeMillis();
+
+        CohesionEvaluator.Result cohesionResult = null;
+        int cohesionRadius = -1;
+
+        for (int i = 0; i < defs.length; i++) {
+            ObjectiveDefinition def = defs[i];
+            int row = rows[i];
+
+            if (table.isCompleted(row)) continue;
+
+            int required = def.getQuantityRequired();
+            int before = table.deposited(row);
+            int after = (int) Math.min(required, totals[itemIndex[i]]);
+
+            if (after != before) {
+                table.setDeposited(row, after);
+            }
+
+            if (after < required) {
+                if (after != before) changes.add(new ProgressChange(def, row, before, after, false, null));
+                continue;
+            }
+
+            CohesionEvaluator.Result check = null;
+            ObjectiveDefinition.Cohesion cohesion = def.getCohesion();
+            if (cohesion != null && cohesion.getMode() == ObjectiveDefinition.CohesionMode.GATHER_CLUSTER) {
+                if (cohesionResult == null || cohesionRadius != cohesion.getRadiusBlocks()) {
+                    cohesionRadius = cohesion.getRadiusBlocks();
+                    cohesionResult = CohesionEvaluator.evaluateCluster(members, cohesionRadius);
+                }
+                check = cohesionResult;
+            }
+
+            boolean completed = (check == null) || check.passed();
+            if (completed) {
+                table.markCompleted(row, nowMillis);
+                // M6: award on the COMPLETED transition, inside this mutation so it is saved with it.
+                ScoreService.awardCompletion(state, row);
+            }
+
+            if (completed || after != before) {
+                changes.add(new ProgressChange(def, row, before, after, completed, check));
+            }
+        }
+
+        if (!changes.isEmpty()) {
+            StateStorage.save(server, state);
+        }
+
+        return changes;
+    }
+
+    /**
+     * The team's delivery chest anchor, or null when none is configured.
+     */
+    public static PlatformAnchor teamChestAnchor(GameState state, int teamIdx) {
+        PlatformAnchor[] anchors = state.teamChestAnchors;
+        if (anchors == null || teamIdx < 0 || teamIdx >= anchors.length) return null;
+        return anchors[teamIdx];
+    }
+
+    private static int missing(TeamObjectiveTable table, ObjectiveDefinition def, int row) {
+        if (table.isCompleted(row)) return 0;
+        return def.getQuantityRequired() - table.deposited(row);
+    }
+
+    /**
+     * Progress delta applied to one requirement by one batch.
+     */
+    public static final class ProgressChange {
+        private final ObjectiveDefinition definition;
+        private final int row;
+        private final int before;
+        private final int after;
+        private final boolean completed;
+        private final CohesionEvaluator.Result cohesion; // null when no cohesion check ran
+
+        private ProgressChange(ObjectiveDefinition definition, int row, int before, int after, boolean completed,
+                               CohesionEvaluator.Result cohesion) {
+            this.definition = definition;
+            this.row = row;
+            this.before = before;
+            this.after = after;
+            this.completed = completed;
+            this.cohesion = cohesion;
+        }
+
+        public ObjectiveDefinition getDefinition() {
+            return definition;
+        }
+
+        /** TeamObjectiveTable row of the requirement (identifies team, phase and slot). */
+        public int getRow() {
+            return row;
+        }
+
+        public int getBefore() {
+            return before;
+        }
+
+        public int getAfter() {
+            return after;
+        }
+
+        public boolean isCompleted() {
+            return completed;
+        }
+
+        public CohesionEvaluator.Result getCohesion() {
+            return cohesion;
+        }
+
+        /**
+         * Quantity reached but completion withheld by a failed cohesion check.
+         */
+        public boolean isHeld() {
+            return !completed && cohesion != null && !cohesion.passed();
+        }
+    }
+
+    /**
+     * Outcome of one applyDeliveries call: ordered progress changes plus anything left unallocated.
+     */
+    public static final class DeliveryResult {
+        private final List<ProgressChange> changes;
+        private final Map<String, Integer> unallocated;
+
+        private DeliveryResult(List<ProgressChange> changes, Map<String, Integer> unallocated) {
+            this.changes = Collections.unmodifiableList(changes);
+            this.unallocated = Collections.unmodifiableMap(unallocated);
+        }
+
+        public List<ProgressChange> getChanges() {
+            return changes;
+        }
+
+        public Map<String, Integer> getUnallocated() {
+            return unallocated;
+        }
+
+        public boolean isEmpty() {
+            return changes.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package obviouslymisfit.cursed.objectives.engine;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+
+import obviouslymisfit.cursed.objectives.runtime.ObjectiveDefinition;
+import obviouslymisfit.cursed.objectives.runtime.ObjectiveSlot;
+import obviouslymisfit.cursed.objectives.runtime.TeamObjectiveTable;
+import obviouslymisfit.cursed.state.GameState;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Precomputed TEAM_GATHER requirements and tracked items for every team (M3 section 5).
+ *
+ * Why this exists:
+ * - TEAM_GATHER evaluation only cares about the counts of a handful of items per team.
+ *   Resolving those items once (to Item instances) lets inventory sampling compare by identity
+ *   instead of looking up registry keys per stack.
+ *
+ * Per team:
+ *  - defs / rows      unlocked TEAM_GATHER requirements in stable order (phase ascending, then slot order)
+ *  - trackedItems     distinct items those requirements count
+ *  - itemIndex        for each requirement, the index of its item in trackedItems
+ *
+ * Completed requirements stay in the arrays (skipped during evaluation), so completions never force a
+ * rebuild; only a phase unlock or replaced state does. Runtime cache only, never persisted.
+ */
+public final class TeamGatherOrder {
+
+    private static final ObjectiveDefinition[] NO_DEFS = new ObjectiveDefinition[0];
+    private static final Item[] NO_ITEMS = new Item[0];
+    private static final int[] NO_INTS = new int[0];
+
+    private final GameState source;
+    private final TeamObjectiveTable table;
+    private final int phase;
+
+    private final ObjectiveDefinition[][] defsByTeam;
+    private final int[][] rowsByTeam;
+    private final int[][] itemIndexByTeam;
+    private final Item[][] trackedByTeam;
+
+    private TeamGatherOrder(GameState source, ObjectiveDefinition[][] defsByTeam, int[][] rowsByTeam,
+                            int[][] itemIndexByTeam, Item[][] trackedByTeam) {
+        this.source = source;
+        this.table = source.teamObjectiveStates;
+        this.phase = source.phase;
+        this.defsByTeam = defsByTeam;
+        this.rowsByTeam = rowsByTeam;
+        this.itemIndexByTeam = itemIndexByTeam;
+        this.trackedByTeam = trackedByTeam;
+    }
+
+    public static TeamGatherOrder build(GameState state) {
+        TeamObjectiveTable table = state.teamObjectiveStates;
+        int teamCount = table.teamCount();
+        int maxPhase = Math.min(state.phase, TeamObjectiveTable.PHASE_COUNT);
+
+        ObjectiveDefinition[][] defsByTeam = new ObjectiveDefinition[teamCount][];
+        int[][] rowsByTeam = new int[teamCount][];
+        int[][] itemIndexByTeam = new int[teamCount][];
+        Item[][] trackedByTeam = new Item[teamCount][];
+
+        for (int teamIdx = 0; teamIdx < teamCount; teamIdx++) {
+            List<ObjectiveDefinition> defs = new ArrayList<>();
+            List<Integer> rows = new ArrayList<>();
+            List<Integer> itemIndex = new ArrayList<>();
+            List<Item> tracked = new ArrayList<>();
+
+            for (int phase = 1; phase <= maxPhase; phase++) {
+                for (ObjectiveSlot slot : ObjectiveSlot.ordered()) {
+                    ObjectiveDefinition def = state.objectiveDefinitions.get(phase, slot);
+                    if (def == null || def.getAction() != ObjectiveDefinition.ObjectiveAction.TEAM_GATHER) continue;
+
+                    int row = table.row(teamIdx, phase, slot);
+                    if (!table.exists(row)) continue;
+
+                    ResourceLocation id = ResourceLocation.tryParse(def.getItemId());
+                    if (id == null || !BuiltInRegistries.ITEM.containsKey(id)) continue;
+                    Item item = BuiltInRegistries.ITEM.getValue(id);
+
+                    int idx = tracked.indexOf(item);
+                    if (idx < 0) {
+                        idx = tracked.size();
+                        tracked.add(item);
+                    }
+
+                    defs.add(def);
+                    rows.add(row);
+                    itemIndex.add(idx);
+                }
+            }
+
+            defsByTeam[teamIdx] = defs.toArray(NO_DEFS);
+            rowsByTeam[teamIdx] = rows.stream().mapToInt(Integer::intValue).toArray();
+            itemIndexByTeam[teamIdx] = itemIndex.stream().mapToInt(Integer::intValue).toArray();
+            trackedByTeam[teamIdx] = tracked.toArray(NO_ITEMS);
+        }
+
+        return new TeamGatherOrder(state, defsByTeam, rowsByTeam, itemIndexByTeam, trackedByTeam);
+    }
+
+    /**
+     * Same staleness rules as DeliverAllocationOrder: phase unlock, replaced state or resized table.
+     */
+    public boolean isCurrentFor(GameState state) {
+        return source == state
+                && table == state.teamObjectiveStates
+                && phase == state.phase
+                && defsByTeam.length == table.teamCount();
+    }
+
+    public ObjectiveDefinition[] definitionsForTeam(int teamIdx) {
+        if (teamIdx < 0 || teamIdx >= defsByTeam.length) return NO_DEFS;
+        return defsByTeam[teamIdx];
+    }
+
+    public int[] rowsForTeam(int teamIdx) {
+        if (teamIdx < 0 || teamIdx >= rowsByTeam.length) return NO_INTS;
+        return rowsByTeam[teamIdx];
+    }
+
+    /**
+     * Index into trackedItems(teamIdx) for each requirement, parallel to definitionsForTeam(teamIdx).
+     */
+    public int[] itemIndexForTeam(int teamIdx) {
+        if (teamIdx < 0 || teamIdx >= itemIndexByTeam.length) return NO_INTS;
+        return itemIndexByTeam[teamIdx];
+    }
+
+    /**
+     * Distinct items counted for the team. Callers must not mutate the returned array.
+     */
+    public Item[] trackedItems(int teamIdx) {
+        if (teamIdx < 0 || teamIdx >= trackedByTeam.length) return NO_ITEMS;
+        return trackedByTeam[teamIdx];
+    }
+}
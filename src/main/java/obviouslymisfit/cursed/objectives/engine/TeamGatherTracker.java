@@ -0,0 +1,192 @@
+package obviouslymisfit.cursed.objectives.engine;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.ContainerListener;
+import net.minecraft.world.item.ItemStack;
+
+import obviouslymisfit.cursed.debug.DebugMetrics;
+import obviouslymisfit.cursed.message.TeamNotifier;
+import obviouslymisfit.cursed.state.GameState;
+import obviouslymisfit.cursed.state.PlayerTeamIndex;
+import obviouslymisfit.cursed.state.RunLifecycleState;
+import obviouslymisfit.cursed.state.persistence.StateStorage;
+import obviouslymisfit.cursed.teams.TeamRosters;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Event-driven TEAM_GATHER triggers (M3 section 5): no polling, no global scans.
+ *
+ * Triggers:
+ *  - inventory changes (pickup, drop, submit, consume, craft/smelt result collection), observed through a
+ *    slot listener on the player's inventory menu; the listener only marks the player dirty
+ *  - player join / leave
+ *  - respawn after death (new player entity)
+ *
+ * Dirty players are flushed once at the end of the server tick, so a burst of slot changes costs one
+ * sample. Each flush takes an InventorySample of the player and compares it with the sample from the
+ * team's last evaluation: unchanged tracked counts skip the evaluation entirely. Several changed players
+ * of one team in the same tick still produce a single evaluation of that team.
+ *
+ * Counters (see /curse debug metrics): triggers, skipped (unchanged fingerprint), team evaluations.
+ * Runtime only; after a restart the first trigger per player simply evaluates (M3 section 9).
+ */
+public final class TeamGatherTracker {
+
+    public static final String METRIC_TRIGGERS = "gather.triggers";
+    public static final String METRIC_SKIPPED = "gather.skipped_unchanged";
+    public static final String METRIC_EVALUATIONS = "gather.team_evaluations";
+
+    // Last evaluated sample per player.
+    private static final Map<UUID, InventorySample> samples = new HashMap<>();
+
+    // Players with pending triggers this tick (insertion order keeps flushes deterministic).
+    private static final Map<UUID, ServerPlayer> dirty = new LinkedHashMap<>();
+
+    private TeamGatherTracker() {}
+
+    /**
+     * Starts observing a player entity's inventory (join, respawn) and schedules a first sample.
+     */
+    public static void attach(ServerPlayer player) {
+        player.inventoryMenu.addSlotListener(new ContainerListener() {
+            @Override
+            public void slotChanged(AbstractContainerMenu menu, int slot, ItemStack stack) {
+                markDirty(player);
+            }
+
+            @Override
+            public void dataChanged(AbstractContainerMenu menu, int id, int value) {
+                // Not an inventory change.
+            }
+        });
+        markDirty(player);
+    }
+
+    public static void markDirty(ServerPlayer player) {
+        dirty.put(player.getUUID(), player);
+    }
+
+    /**
+     * Connection DISCONNECT. Must run after TeamRosters.onLeave so the roster no longer contains the player.
+     * The team is only re-evaluated if the leaving player actually carried tracked items.
+     */
+    public static void onLeave(MinecraftServer server, ServerPlayer player) {
+        dirty.remove(player.getUUID());
+        InventorySample previous = samples.remove(player.getUUID());
+
+        DebugMetrics.increment(METRIC_TRIGGERS);
+
+        GameState state = StateStorage.get(server);
+        if (state.lifecycleState != RunLifecycleState.RUNNING || previous == null) return;
+
+        TeamGatherOrder order = ObjectiveProgressEngine.gatherOrder(state);
+        if (previous.order != order || !previous.contributes()) {
+            DebugMetrics.increment(METRIC_SKIPPED);
+            return;
+        }
+
+        evaluateTeam(server, state, order, previous.teamIdx);
+    }
+
+    /**
+     * END_SERVER_TICK: samples every dirty player once and evaluates each affected team once.
+     */
+    public static void flush(MinecraftServer server) {
+        if (dirty.isEmpty()) return;
+
+        GameState state = StateStorage.get(server);
+        if (state.lifecycleState != RunLifecycleState.RUNNING) {
+            // Progress only moves while RUNNING; the next trigger after resume evaluates.
+            dirty.clear();
+            return;
+        }
+
+        TeamGatherOrder order = ObjectiveProgressEngine.gatherOrder(state);
+        boolean[] evaluate = new boolean[Math.max(0, state.teamCount)];
+
+        for (ServerPlayer player : dirty.values()) {
+            DebugMetrics.increment(METRIC_TRIGGERS);
+
+            UUID id = player.getUUID();
+            InventorySample previous = samples.get(id);
+            int teamIdx = state.playerTeams.get(id);
+
+            if (teamIdx == PlayerTeamIndex.NO_TEAM || teamIdx >= evaluate.length) {
+                // Unassigned: forget the sample; the former team loses this player's items.
+                samples.remove(id);
+                if (previous != null && previous.order == order && previous.contributes()) {
+                    markTeam(evaluate, previous.teamIdx);
+                }
+                continue;
+            }
+
+            InventorySample next = InventorySample.take(player, order, teamIdx);
+            if (next.sameAs(previous)) {
+                DebugMetrics.increment(METRIC_SKIPPED);
+                continue;
+            }
+
+            samples.put(id, next);
+            markTeam(evaluate, teamIdx);
+
+            // Reassigned between evaluations: the former team must drop this player's items.
+            if (previous != null && previous.order == order && previous.teamIdx != teamIdx && previous.contributes()) {
+                markTeam(evaluate, previous.teamIdx);
+            }
+        }
+        dirty.clear();
+
+        for (int teamIdx = 0; teamIdx < evaluate.length; teamIdx++) {
+            if (evaluate[teamIdx]) evaluateTeam(server, state, order, teamIdx);
+        }
+    }
+
+    /**
+     * Drops every sample and pending trigger (server stop).
+     */
+    public static void clear() {
+        samples.clear();
+        dirty.clear();
+    }
+
+    private static void markTeam(boolean[] evaluate, int teamIdx) {
+        if (teamIdx >= 0 && teamIdx < evaluate.length) evaluate[teamIdx] = true;
+    }
+
+    /**
+     * Sums the online members' samples and hands the totals to the progress engine (single mutation path).
+     * Members without a current sample (first trigger after a rebuild) are sampled here.
+     */
+    private static void evaluateTeam(MinecraftServer server, GameState state, TeamGatherOrder order, int teamIdx) {
+        if (order.definitionsForTeam(teamIdx).length == 0) return;
+
+        DebugMetrics.increment(METRIC_EVALUATIONS);
+
+        ServerPlayer[] members = TeamRosters.members(teamIdx);
+        long[] totals = new long[order.trackedItems(teamIdx).length];
+
+        for (ServerPlayer member : members) {
+            InventorySample sample = samples.get(member.getUUID());
+            if (sample == null || sample.order != order || sample.teamIdx != teamIdx) {
+                sample = InventorySample.take(member, order, teamIdx);
+                samples.put(member.getUUID(), sample);
+            }
+            for (int k = 0; k < totals.length; k++) {
+                totals[k] += sample.counts[k];
+            }
+        }
+
+        List<ObjectiveProgressEngine.ProgressChange> changes =
+                ObjectiveProgressEngine.applyTeamGather(server, state, order, teamIdx, totals, members);
+
+        // M3 section 8: completions and holds at once, progress coalesced per requirement (TeamNotifier).
+        TeamNotifier.changes(server, changes);
+    }
+}
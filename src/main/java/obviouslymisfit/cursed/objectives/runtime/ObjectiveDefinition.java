@@ -112,8 +112,10 @@ public final class ObjectiveDefinition {
     /**
      * Cohesion settings for objectives that require spatial coordination.
      *
-     * - DELIVERY_CHEST: deliveries must go into the team's own cohesion chest (later milestone).
-     * - GATHER_CLUSTER: gathered items must be collected within a radius around a centroid (later milestone).
+     * - DELIVERY_CHEST: all team members within radius of the team's chest anchor when the delivery completes.
+     * - GATHER_CLUSTER: all team members within radius of each other when the gather completes.
+     *
+     * Evaluated only at completion time by objectives.engine.CohesionEvaluator.
      */
     public static final class Cohesion {
         private final CohesionMode mode;
@@ -0,0 +1,85 @@
+package obviouslymisfit.cursed.objectives.runtime;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Dense store for the run's resolved objective definitions, indexed as [phase][slot.ordinal()].
+ *
+ * Definitions are global (never duplicated per team, see M2 section 5), so this is a single flat array
+ * of PHASE_COUNT * SLOT_COUNT entries. A null entry means "no objective in that slot for that phase".
+ *
+ * Iteration is always in stable order: phase ascending, then slot declaration order. That order
+ * is what debug output and allocation rely on, so callers never sort.
+ */
+public final class ObjectiveDefinitionTable {
+
+    private final ObjectiveDefinition[] defs =
+            new ObjectiveDefinition[TeamObjectiveTable.PHASE_COUNT * TeamObjectiveTable.SLOT_COUNT];
+
+    private int size = 0;
+
+    private static int index(int phase, ObjectiveSlot slot) {
+        if (phase < 1 || phase > TeamObjectiveTable.PHASE_COUNT) {
+            throw new IndexOutOfBoundsException("phase " + phase);
+        }
+        return (phase - 1) * TeamObjectiveTable.SLOT_COUNT + slot.ordinal();
+    }
+
+    public ObjectiveDefinition get(int phase, ObjectiveSlot slot) {
+        return defs[index(phase, slot)];
+    }
+
+    /**
+     * Stores a definition at its own (phase, slot). Replaces any previous definition there.
+     */
+    public void put(ObjectiveDefinition def) {
+        int i = index(def.getPhase(), def.getSlotKey());
+        if (defs[i] == null) size++;
+        defs[i] = def;
+    }
+
+    public void clear() {
+        Arrays.fill(defs, null);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Number of definitions in one phase.
+     */
+    public int sizeOfPhase(int phase) {
+        int count = 0;
+        int start = index(phase, ObjectiveSlot.PRIMARY);
+        for (int i = start; i < start + TeamObjectiveTable.SLOT_COUNT; i++) {
+            if (defs[i] != null) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Visits all definitions in stable order (phase ascending, then slot order).
+     */
+    public void forEach(Consumer<ObjectiveDefinition> consumer) {
+        for (ObjectiveDefinition def : defs) {
+            if (def != null) consumer.accept(def);
+        }
+    }
+
+    /**
+     * Visits one phase's definitions in slot order.
+     */
+    public void forEachInPhase(int phase, Consumer<ObjectiveDefinition> consumer) {
+        int start = index(phase, ObjectiveSlot.PRIMARY);
+        for (int i = start; i < start + TeamObjectiveTable.SLOT_COUNT; i++) {
+            if (defs[i] != null) consumer.accept(defs[i]);
+        }
+    }
+}
@@ -12,6 +12,10 @@ package obviouslymisfit.cursed.objectives.runtime;
  *  PRIMARY
  *  SECONDARY_1 .. SECONDARY_N
  *  TASK_1 .. TASK_M
+ *
+ * Declaration order IS the stable slot order (PRIMARY, then SECONDARY_n, then TASK_n).
+ * Allocation, debug output and anything else that needs a deterministic order within a phase
+ * compares slots by ordinal() instead of parsing names. Do not reorder constants.
  */
 public enum ObjectiveSlot {
 
@@ -29,6 +33,18 @@ public enum ObjectiveSlot {
     TASK_4,
     TASK_5;
 
+    /**
+     * Cached values() so hot paths (allocation, table indexing) do not clone the array per call.
+     */
+    private static final ObjectiveSlot[] VALUES = values();
+
+    /**
+     * Returns all slots in stable order. Callers must not mutate the returned array.
+     */
+    public static ObjectiveSlot[] ordered() {
+        return VALUES;
+    }
+
     /**
      * Returns true if this slot represents a secondary objective.
      */
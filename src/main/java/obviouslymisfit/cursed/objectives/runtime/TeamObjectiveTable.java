@@ -0,0 +1,200 @@
+package obviouslymisfit.cursed.objectives.runtime;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Dense per-team objective state for the whole run, indexed as [team][phase][slot.ordinal()].
+ *
+ * Why this exists:
+ * - Team index (0..teamCount-1), phase (1..5) and ObjectiveSlot ordinal are all small bounded ints.
+ * - The previous nested Map<Integer, Map<Integer, Map<ObjectiveSlot, TeamObjectiveState>>> paid three boxed
+ *   hash lookups and four objects per row just to reach one depositedCount.
+ *
+ * Layout (struct-of-arrays, one "row" per (team, phase, slot)):
+ *  - status[row]            STATUS_ABSENT / AVAILABLE / COMPLETED
+ *  - deposited[row]         authoritative DELIVER / progress counter
+ *  - completedAtMillis[row] completion time as epoch millis, NO_COMPLETION if not completed
+ *
+ * Team is the most significant index, so each team owns a contiguous block of rows. That keeps
+ * per-team walks cache friendly and makes changing the team count a prefix copy.
+ *
+ * TeamObjectiveState remains the persisted / display shape. Persistence and commands convert through
+ * get(...) and put(...); hot paths (progress engine) use row indices directly.
+ */
+public final class TeamObjectiveTable {
+
+    public static final int PHASE_COUNT = 5;
+    public static final int SLOT_COUNT = ObjectiveSlot.ordered().length;
+    public static final int ROWS_PER_TEAM = PHASE_COUNT * SLOT_COUNT;
+
+    public static final byte STATUS_ABSENT = 0;
+    public static final byte STATUS_AVAILABLE = 1;
+    public static final byte STATUS_COMPLETED = 2;
+
+    public static final long NO_COMPLETION = Long.MIN_VALUE;
+
+    private int teamCount;
+
+    private byte[] status;
+    private int[] deposited;
+    private long[] completedAtMillis;
+
+    public TeamObjectiveTable(int teamCount) {
+        this.teamCount = Math.max(0, teamCount);
+        int rows = this.teamCount * ROWS_PER_TEAM;
+
+        this.status = new byte[rows];
+        this.deposited = new int[rows];
+        this.completedAtMillis = new long[rows];
+
+        Arrays.fill(this.completedAtMillis, NO_COMPLETION);
+    }
+
+    public int teamCount() {
+        return teamCount;
+    }
+
+    /**
+     * Changes the team count, keeping every row of teams that still exist.
+     * New teams start with all rows absent. Used when teams are reconfigured.
+     */
+    public void resizeTeams(int newTeamCount) {
+        newTeamCount = Math.max(0, newTeamCount);
+        if (newTeamCount == teamCount) return;
+
+        int oldRows = teamCount * ROWS_PER_TEAM;
+        int rows = newTeamCount * ROWS_PER_TEAM;
+
+        status = Arrays.copyOf(status, rows);
+        deposited = Arrays.copyOf(deposited, rows);
+        completedAtMillis = Arrays.copyOf(completedAtMillis, rows);
+
+        if (rows > oldRows) {
+            Arrays.fill(completedAtMillis, oldRows, rows, NO_COMPLETION);
+        }
+
+        teamCount = newTeamCount;
+    }
+
+    /**
+     * Removes every row (all teams keep existing, but hold no objectives). Used when runtime objectives are re-initialized.
+     */
+    public void clear() {
+        Arrays.fill(status, STATUS_ABSENT);
+        Arrays.fill(deposited, 0);
+        Arrays.fill(completedAtMillis, NO_COMPLETION);
+    }
+
+    // ---------------------------------------------------------------------
+    // Row addressing
+    // ---------------------------------------------------------------------
+
+    /**
+     * Row index for (team, phase, slot). Throws on out-of-range input instead of silently aliasing another row.
+     */
+    public int row(int teamIdx, int phase, ObjectiveSlot slot) {
+        if (teamIdx < 0 || teamIdx >= teamCount) {
+            throw new IndexOutOfBoundsException("teamIdx " + teamIdx + " (teamCount " + teamCount + ")");
+        }
+        if (phase < 1 || phase > PHASE_COUNT) {
+            throw new IndexOutOfBoundsException("phase " + phase);
+        }
+        return (teamIdx * PHASE_COUNT + (phase - 1)) * SLOT_COUNT + slot.ordinal();
+    }
+
+    /**
+     * First row owned by a team. Rows [teamStart, teamStart + ROWS_PER_TEAM) are that team's block.
+     */
+    public int teamStart(int teamIdx) {
+        return teamIdx * ROWS_PER_TEAM;
+    }
+
+    public static int phaseOfRow(int row) {
+        return (row / SLOT_COUNT) % PHASE_COUNT + 1;
+    }
+
+    public static ObjectiveSlot slotOfRow(int row) {
+        return ObjectiveSlot.ordered()[row % SLOT_COUNT];
+    }
+
+    public static int teamOfRow(int row) {
+        return row / ROWS_PER_TEAM;
+    }
+
+    // ---------------------------------------------------------------------
+    // Row-level access (hot paths)
+    // ---------------------------------------------------------------------
+
+    public boolean exists(int row) {
+        return status[row] != STATUS_ABSENT;
+    }
+
+    public boolean isCompleted(int row) {
+        return status[row] == STATUS_COMPLETED;
+    }
+
+    public int deposited(int row) {
+        return deposited[row];
+    }
+
+    public long completedAtMillis(int row) {
+        return completedAtMillis[row];
+    }
+
+    /**
+     * Creates a fresh AVAILABLE row with zero progress (team state initialization).
+     */
+    public void initRow(int row) {
+        status[row] = STATUS_AVAILABLE;
+        deposited[row] = 0;
+        completedAtMillis[row] = NO_COMPLETION;
+    }
+
+    public void setDeposited(int row, int value) {
+        deposited[row] = value;
+    }
+
+    public void markCompleted(int row, long atMillis) {
+        status[row] = STATUS_COMPLETED;
+        completedAtMillis[row] = atMillis;
+    }
+
+    // ---------------------------------------------------------------------
+    // Object view (persistence / commands)
+    // ---------------------------------------------------------------------
+
+    /**
+     * Returns a detached TeamObjectiveState copy of the row, or null if the row is absent.
+     * Mutating the returned object does NOT change the table; use put(...) for that.
+     */
+    public TeamObjectiveState get(int teamIdx, int phase, ObjectiveSlot slot) {
+        int row = row(teamIdx, phase, slot);
+        if (status[row] == STATUS_ABSENT) return null;
+
+        ObjectiveStatus s = (status[row] == STATUS_COMPLETED) ? ObjectiveStatus.COMPLETED : ObjectiveStatus.AVAILABLE;
+        Instant completedAt = (completedAtMillis[row] == NO_COMPLETION) ? null : Instant.ofEpochMilli(completedAtMillis[row]);
+
+        return new TeamObjectiveState(s, new TeamObjectiveState.Progress(deposited[row]), completedAt);
+    }
+
+    /**
+     * Writes a TeamObjectiveState into the table (persistence load, debug tools).
+     */
+    public void put(int teamIdx, int phase, ObjectiveSlot slot, TeamObjectiveState value) {
+        int row = row(teamIdx, phase, slot);
+
+        status[row] = (value.getStatus() == ObjectiveStatus.COMPLETED) ? STATUS_COMPLETED : STATUS_AVAILABLE;
+        deposited[row] = value.getProgress().getDepositedCount();
+        completedAtMillis[row] = (value.getCompletedAt() == null) ? NO_COMPLETION : value.getCompletedAt().toEpochMilli();
+    }
+
+    /**
+     * Rough retained size of the columns in bytes (debug / benchmark readout only).
+     */
+    public long approximateBytes() {
+        return (long) status.length
+                + 4L * deposited.length
+                + 8L * completedAtMillis.length;
+    }
+}
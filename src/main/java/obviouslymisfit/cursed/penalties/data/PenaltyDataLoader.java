@@ -0,0 +1,158 @@
+package obviouslymisfit.cursed.penalties.data;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import obviouslymisfit.cursed.Cursed;
+import obviouslymisfit.cursed.penalties.data.model.PenaltyRuleFile;
+import obviouslymisfit.cursed.penalties.runtime.PenaltyRule;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Loads and validates the M9 penalty rules (section 5) from:
+ *   data/cursed/penalties/death_penalties.json  (player death, section 3.1)
+ *   data/cursed/penalties/curse_penalties.json  (curse-triggered, section 3.2)
+ *
+ * Fails fast on startup if a file is missing or invalid. A disabled rule still has to be valid; it is simply
+ * never applied.
+ */
+public final class PenaltyDataLoader {
+
+    private static final String DEATH_PATH = "data/cursed/penalties/death_penalties.json";
+    private static final String CURSE_PATH = "data/cursed/penalties/curse_penalties.json";
+    private static final String EXPECTED_TYPE = "penalty_rules";
+
+    private static final Gson GSON = new GsonBuilder().create();
+
+    private static PenaltyRule death = null;
+    private static PenaltyRule curse = null;
+
+    private PenaltyDataLoader() {
+        // utility class
+    }
+
+    public static void loadAndValidate() {
+        PenaltyRule loadedDeath = compile(DEATH_PATH, read(DEATH_PATH));
+        PenaltyRule loadedCurse = compile(CURSE_PATH, read(CURSE_PATH));
+        if (loadedDeath.getId().equals(loadedCurse.getId())) {
+            throw new IllegalStateException("CURSED: death and curse penalty rules share penalty_id " + loadedDeath.getId());
+        }
+
+        death = loadedDeath;
+        curse = loadedCurse;
+
+        Cursed.LOGGER.info("CURSED: loaded penalty rules (death={} enabled={}, curse={} enabled={})",
+                death.getId(), death.isEnabled(), curse.getId(), curse.isEnabled());
+    }
+
+    /** Rule applied once per player death. */
+    public static PenaltyRule death() {
+        if (death == null) throw new IllegalStateException("CURSED: penalty rules not loaded");
+        return death;
+    }
+
+    /** Rule applied when an opted-in curse effect fires. */
+    public static PenaltyRule curse() {
+        if (curse == null) throw new IllegalStateException("CURSED: penalty rules not loaded");
+        return curse;
+    }
+
+    /** Loaded rules in a stable order (death, curse), for debug output and id lookup. */
+    public static List<PenaltyRule> all() {
+        return List.of(death(), curse());
+    }
+
+    /** Rule with this penalty_id, or null. */
+    public static PenaltyRule byId(String id) {
+        for (PenaltyRule rule : all()) {
+            if (rule.getId().equals(id)) return rule;
+        }
+        return null;
+    }
+
+    private static PenaltyRuleFile read(String path) {
+        try (InputStream in = PenaltyDataLoader.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException("CURSED: missing " + path);
+            }
+            PenaltyRuleFile file = GSON.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), PenaltyRuleFile.class);
+            if (file == null) {
+                throw new IllegalStateException("CURSED: " + path + " parsed as null");
+            }
+            return file;
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("CURSED: failed parsing " + path, e);
+        }
+    }
+
+    private static PenaltyRule compile(String path, PenaltyRuleFile file) {
+        if (!EXPECTED_TYPE.equals(file.type)) {
+            throw new IllegalStateException("CURSED: " + path + " must have type '" + EXPECTED_TYPE + "'");
+        }
+        if (file.penalty_id == null || file.penalty_id.isBlank()) {
+            throw new IllegalStateException("CURSED: " + path + " is missing penalty_id");
+        }
+        if (file.base_penalty == null || file.base_penalty.mode == null) {
+            throw new IllegalStateException("CURSED: " + path + " is missing base_penalty.mode");
+        }
+
+        PenaltyRule.Mode mode = switch (file.base_penalty.mode) {
+            case "fixed" -> PenaltyRule.Mode.FIXED;
+            case "percent" -> PenaltyRule.Mode.PERCENT;
+            default -> throw new IllegalStateException("CURSED: " + path + " has unknown base_penalty.mode '" + file.base_penalty.mode + "'");
+        };
+        if (file.base_penalty.value < 0) {
+            throw new IllegalStateException("CURSED: " + path + " base_penalty.value must be >= 0");
+        }
+        if (mode == PenaltyRule.Mode.PERCENT && file.base_penalty.value > 100) {
+            throw new IllegalStateException("CURSED: " + path + " percent base_penalty.value must be <= 100");
+        }
+        if (file.cooldown_ticks < 0) {
+            throw new IllegalStateException("CURSED: " + path + " cooldown_ticks must be >= 0");
+        }
+
+        if (file.phase_scaling == null) {
+            throw new IllegalStateException("CURSED: " + path + " is missing phase_scaling");
+        }
+        float[] scale = new float[PenaltyRule.PHASE_COUNT + 1];
+        for (int phase = 1; phase <= PenaltyRule.PHASE_COUNT; phase++) {
+            Float s = file.phase_scaling.get(String.valueOf(phase));
+            if (s == null) {
+                throw new IllegalStateException("CURSED: " + path + " has no phase_scaling for phase " + phase);
+            }
+            if (s < 0) {
+                throw new IllegalStateException("CURSED: " + path + " phase_scaling for phase " + phase + " must be >= 0");
+            }
+            scale[phase] = s;
+        }
+
+        boolean redistributes = false;
+        float factor = 0f;
+        PenaltyRule.Strategy strategy = PenaltyRule.Strategy.EQUAL;
+        if (file.redistribution != null && file.redistribution.enabled) {
+            redistributes = true;
+            factor = file.redistribution.factor;
+            if (factor < 0f || factor > 1f) {
+                throw new IllegalStateException("CURSED: " + path + " redistribution.factor must be within [0, 1]");
+            }
+            String raw = file.redistribution.strategy;
+            strategy = switch (raw == null ? "" : raw) {
+                case "equal" -> PenaltyRule.Strategy.EQUAL;
+                case "inverse_score" -> PenaltyRule.Strategy.INVERSE_SCORE;
+                // Listed by M9 section 4, but there is no per-team phase yet to weight by; refuse instead of guessing.
+                case "phase_weighted" -> throw new IllegalStateException(
+                        "CURSED: " + path + " redistribution.strategy 'phase_weighted' is not supported yet");
+                default -> throw new IllegalStateException("CURSED: " + path + " has unknown redistribution.strategy '" + raw + "'");
+            };
+        }
+
+        return new PenaltyRule(file.penalty_id, file.enabled, mode, file.base_penalty.value, scale,
+                redistributes, factor, strategy, file.cooldown_ticks);
+    }
+}
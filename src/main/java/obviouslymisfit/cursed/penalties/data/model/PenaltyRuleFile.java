@@ -0,0 +1,45 @@
+package obviouslymisfit.cursed.penalties.data.model;
+
+import java.util.Map;
+
+/**
+ * Represents one penalty rules file under:
+ *   data/cursed/penalties/death_penalties.json
+ *   data/cursed/penalties/curse_penalties.json
+ *
+ * M9 section 5: how many points a penalty removes, how it scales per phase and how much of the loss is
+ * redistributed to the other teams. Validated on load; see PenaltyDataLoader.
+ */
+public final class PenaltyRuleFile {
+
+    public String type;
+
+    public String penalty_id;
+
+    public boolean enabled;
+
+    public BasePenalty base_penalty;
+
+    /** Phase ("1".."5") -> magnitude multiplier (>= 0). */
+    public Map<String, Float> phase_scaling;
+
+    public Redistribution redistribution;
+
+    public int cooldown_ticks;
+
+    public String notes;
+
+    public static final class BasePenalty {
+        /** fixed (points) or percent (of the team's current score). */
+        public String mode;
+        public float value;
+    }
+
+    public static final class Redistribution {
+        public boolean enabled;
+        /** Share of the lost points handed to the other teams, 0..1. */
+        public float factor;
+        /** equal, inverse_score or phase_weighted. */
+        public String strategy;
+    }
+}
@@ -0,0 +1,165 @@
+package obviouslymisfit.cursed.penalties.engine;
+
+import obviouslymisfit.cursed.penalties.runtime.PenaltyRule;
+import obviouslymisfit.cursed.scoring.engine.ScoreService;
+import obviouslymisfit.cursed.scoring.runtime.ScoreLedger;
+import obviouslymisfit.cursed.state.GameState;
+
+import java.util.Arrays;
+
+/**
+ * Penalties queued during one server tick, resolved together at the end of it (PenaltyService.flush).
+ *
+ * Why batched: a wither explosion or a GLOBAL curse tick can penalize many players/teams in the same tick.
+ * Applying each one directly would mean one ledger entry per redistribution share, one score update per
+ * event and one save per event. Instead every penalty of the tick is folded into a team x team delta matrix:
+ *
+ *   delta[from * T + from]  points team "from" loses outright (destroyed part of its penalties)
+ *   delta[from * T + to]    points moved from team "from" to team "to" (redistributed part)
+ *
+ * and the matrix is then written as at most one ledger entry per non-zero cell, in (from, to) order.
+ * Row sums are exactly what each team lost this tick; column sums off the diagonal what it received.
+ *
+ * Determinism: resolution order is (team, arrival), and every share is computed from the scores at the start
+ * of the batch, so the same queued penalties always produce the same ledger entries regardless of which
+ * listener ran first. Remainders of a split go one point at a time to the lowest team indices.
+ *
+ * Runtime only, never persisted: a batch lives for at most one tick and is saved as ledger entries.
+ */
+final class PenaltyBatch {
+
+    // Weights for INVERSE_SCORE: SCALE / (score + 1). Pool (int range) * SCALE stays well inside a long.
+    private static final long INVERSE_SCALE = 1L << 30;
+
+    private int size;
+    private int[] teams = new int[16];
+    private int[] phases = new int[16];
+    private PenaltyRule[] rules = new PenaltyRule[16];
+
+    private long[] delta = new long[0];
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void add(int teamIdx, PenaltyRule rule, int phase) {
+        if (size == teams.length) {
+            int capacity = size * 2;
+            teams = Arrays.copyOf(teams, capacity);
+            phases = Arrays.copyOf(phases, capacity);
+            rules = Arrays.copyOf(rules, capacity);
+        }
+        teams[size] = teamIdx;
+        phases[size] = phase;
+        rules[size] = rule;
+        size++;
+    }
+
+    void clear() {
+        Arrays.fill(rules, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Folds the queued penalties into the delta matrix and writes it to the ledger through ScoreService.
+     *
+     * Penalties for teams outside the ledger's team count (teams resized in the same tick) are dropped.
+     * Returns the number of ledger entries written. Does not clear the queue and does not save.
+     */
+    int resolve(GameState state) {
+        ScoreLedger ledger = state.scores;
+        int t = ledger.teamCount();
+        if (t == 0) return 0;
+
+        if (delta.length < t * t) {
+            delta = new long[t * t];
+        } else {
+            Arrays.fill(delta, 0, t * t, 0L);
+        }
+
+        // Scores at the start of the batch (never below zero) drive the split weights; "available" is what a
+        // team can still lose after its earlier penalties in this batch, so a batch never overdraws a team.
+        long[] start = new long[t];
+        long[] available = new long[t];
+        for (int team = 0; team < t; team++) {
+            start[team] = Math.max(0, ledger.total(team));
+            available[team] = start[team];
+        }
+
+        // (team, arrival) order: team in the high half of the key, queue index in the low half.
+        long[] order = new long[size];
+        int queued = 0;
+        for (int i = 0; i < size; i++) {
+            if (teams[i] < 0 || teams[i] >= t) continue;
+            order[queued++] = ((long) teams[i] << 32) | i;
+        }
+        Arrays.sort(order, 0, queued);
+
+        for (int k = 0; k < queued; k++) {
+            int i = (int) order[k];
+            int team = teams[i];
+            PenaltyRule rule = rules[i];
+
+            long lost = rule.magnitude(available[team], phases[i]);
+            if (lost == 0) continue;
+            available[team] -= lost;
+
+            long pool = (t > 1) ? rule.redistributionPool(lost) : 0;
+            if (pool > 0) {
+                split(team, pool, rule.getStrategy(), start, t);
+            }
+            delta[team * t + team] += lost - pool;
+        }
+
+        int entries = 0;
+        for (int from = 0; from < t; from++) {
+            for (int to = 0; to < t; to++) {
+                long points = delta[from * t + to];
+                if (points == 0) continue;
+                if (from == to) {
+                    ScoreService.deductPenalty(state, from, Math.toIntExact(points));
+                } else {
+                    ScoreService.redistribute(state, from, to, Math.toIntExact(points));
+                }
+                entries++;
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Adds the shares of {@code pool} to row {@code from} of the delta matrix. The penalized team gets nothing.
+     */
+    private void split(int from, long pool, PenaltyRule.Strategy strategy, long[] start, int t) {
+        long totalWeight = 0;
+        for (int to = 0; to < t; to++) {
+            if (to != from) totalWeight += weight(strategy, start[to]);
+        }
+
+        long given = 0;
+        for (int to = 0; to < t; to++) {
+            if (to == from) continue;
+            long share = pool * weight(strategy, start[to]) / totalWeight;
+            delta[from * t + to] += share;
+            given += share;
+        }
+
+        // Each share was rounded down by less than one point, so the remainder is below the recipient count.
+        for (int to = 0; given < pool; to++) {
+            if (to == from) continue;
+            delta[from * t + to]++;
+            given++;
+        }
+    }
+
+    private static long weight(PenaltyRule.Strategy strategy, long score) {
+        return switch (strategy) {
+            case EQUAL -> 1;
+            case INVERSE_SCORE -> Math.max(1, INVERSE_SCALE / (score + 1));
+        };
+    }
+}
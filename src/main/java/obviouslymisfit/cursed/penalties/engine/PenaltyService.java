@@ -0,0 +1,194 @@
+package obviouslymisfit.cursed.penalties.engine;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+
+import obviouslymisfit.cursed.Cursed;
+import obviouslymisfit.cursed.curses.runtime.CurseRule;
+import obviouslymisfit.cursed.debug.DebugMetrics;
+import obviouslymisfit.cursed.penalties.data.PenaltyDataLoader;
+import obviouslymisfit.cursed.penalties.runtime.PenaltyRule;
+import obviouslymisfit.cursed.state.GameState;
+import obviouslymisfit.cursed.state.PlayerTeamIndex;
+import obviouslymisfit.cursed.state.RunLifecycleState;
+import obviouslymisfit.cursed.state.persistence.StateStorage;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Single entry point for M9 penalties (section 6): every penalty goes through applyPenalty, and listeners never
+ * touch scores themselves.
+ *
+ * Two phases per server tick:
+ *  1) applyPenalty (death listener, curse loop, debug command) validates the trigger (RUNNING, valid team,
+ *     rule enabled, event id not seen, owner cooldown) and queues it in the current PenaltyBatch. Nothing
+ *     is scored yet.
+ *  2) flush (END_SERVER_TICK, registered after the curse loop) resolves the whole batch into ledger entries
+ *     through ScoreService and saves once. Ten deaths in one tick cost one save, not ten.
+ *
+ * Penalties queued in a tick are always resolved in that tick, so a penalty is never delayed by more than the
+ * rest of its tick and the standings never show a half-applied batch.
+ *
+ * Idempotency (section 6): the event id is (rule, owner context, run tick); the same event reported twice in
+ * one tick is queued once. Cooldowns are per (rule, owner context) and counted in run ticks, so a pause does
+ * not run them down. Both are runtime only: after a restart the run is PAUSED and no event from before it can
+ * be reported again.
+ *
+ * Counters: penalties.queued, penalties.rejected, penalties.batches, penalties.largest_batch.
+ */
+public final class PenaltyService {
+
+    public static final String METRIC_QUEUED = "penalties.queued";
+    public static final String METRIC_REJECTED = "penalties.rejected";
+    public static final String METRIC_BATCHES = "penalties.batches";
+    public static final String METRIC_LARGEST_BATCH = "penalties.largest_batch";
+
+    private static final PenaltyBatch pending = new PenaltyBatch();
+
+    // Event ids queued in the current batch (cleared by flush).
+    private static final Set<String> seenEvents = new HashSet<>();
+
+    // "rule|context" -> run tick from which that owner context may be penalized again by that rule.
+    private static final Map<String, Long> cooldownUntil = new HashMap<>();
+
+    private static int largestBatch = 0;
+
+    private PenaltyService() {}
+
+    /**
+     * Queues one penalty of {@code rule} against {@code teamIdx}, scaled for {@code phase}.
+     *
+     * {@code context} identifies the owner context the trigger belongs to (a player, a curse owner, ...); it is
+     * both the idempotency scope within a tick and the cooldown scope. Returns true if the penalty was queued.
+     */
+    public static boolean applyPenalty(GameState state, PenaltyRule rule, int teamIdx, int phase, String context) {
+        if (state.lifecycleState != RunLifecycleState.RUNNING) return false;
+        if (!rule.isEnabled()) return false;
+        if (teamIdx < 0 || teamIdx >= state.teamCount) return false;
+
+        String scope = rule.getId() + "|" + context;
+        if (!seenEvents.add(scope + "|" + state.runTicks)) {
+            DebugMetrics.increment(METRIC_REJECTED);
+            return false;
+        }
+
+        Long until = cooldownUntil.get(scope);
+        if (until != null && state.runTicks < until) {
+            DebugMetrics.increment(METRIC_REJECTED);
+            return false;
+        }
+        if (rule.getCooldownTicks() > 0) {
+            cooldownUntil.put(scope, state.runTicks + rule.getCooldownTicks());
+        }
+
+        pending.add(teamIdx, rule, phase);
+        DebugMetrics.increment(METRIC_QUEUED);
+        return true;
+    }
+
+    /**
+     * M9 section 3.1: one death penalty for the player's team, scaled by the current run phase.
+     * Players without a team are never penalized.
+     */
+    public static void onPlayerDeath(MinecraftServer server, ServerPlayer player) {
+        GameState state = StateStorage.get(server);
+        if (state.lifecycleState != RunLifecycleState.RUNNING) return;
+
+        int team = state.playerTeams.get(player.getUUID());
+        if (team == PlayerTeamIndex.NO_TEAM) return;
+
+        applyPenalty(state, PenaltyDataLoader.death(), team, state.phase, "death:" + player.getUUID());
+    }
+
+    /**
+     * M9 section 3.2: a curse effect that opted in to penalties fired for {@code player}. Scaled by the curse's
+     * phase. The owner decides who pays:
+     *  - PLAYER -> the player's team
+     *  - TEAM   -> the owning team
+     *  - GLOBAL -> every team, each with its own penalty (and its own cooldown)
+     */
+    public static void onCurseEffect(GameState state, ServerPlayer player, CurseRule curse) {
+        if (state.lifecycleState != RunLifecycleState.RUNNING) return;
+
+        PenaltyRule rule = PenaltyDataLoader.curse();
+        String context = "curse:" + curse.getCategory() + ":" + curse.getBlockId() + ":";
+        switch (curse.getCategory()) {
+            case PLAYER -> {
+                int team = state.playerTeams.get(player.getUUID());
+                if (team != PlayerTeamIndex.NO_TEAM) {
+                    applyPenalty(state, rule, team, curse.getPhaseAssigned(), context + curse.getOwner());
+                }
+            }
+            case TEAM -> {
+                int team = parseTeam(curse.getOwner());
+                if (team >= 0) {
+                    applyPenalty(state, rule, team, curse.getPhaseAssigned(), context + team);
+                }
+            }
+            case GLOBAL -> {
+                for (int team = 0; team < state.teamCount; team++) {
+                    applyPenalty(state, rule, team, curse.getPhaseAssigned(), context + team);
+                }
+            }
+        }
+    }
+
+    /**
+     * End of tick: resolves every penalty queued this tick into one ledger batch and saves once.
+     *
+     * A batch queued while RUNNING but flushed after the run left RUNNING in the same tick (pause/stop command)
+     * is dropped: M9 applies penalties only while RUNNING.
+     */
+    public static void flush(MinecraftServer server) {
+        if (pending.isEmpty()) return;
+
+        GameState state = StateStorage.get(server);
+        int queued = pending.size();
+        try {
+            if (state.lifecycleState != RunLifecycleState.RUNNING) {
+                Cursed.LOGGER.info("CURSED: dropped {} penalties queued before the run left RUNNING", queued);
+                return;
+            }
+
+            int entries = pending.resolve(state);
+            if (entries > 0) {
+                StateStorage.save(server, state);
+            }
+        } finally {
+            pending.clear();
+            seenEvents.clear();
+        }
+
+        DebugMetrics.increment(METRIC_BATCHES);
+        if (queued > largestBatch) {
+            largestBatch = queued;
+            DebugMetrics.set(METRIC_LARGEST_BATCH, largestBatch);
+        }
+    }
+
+    /** Penalties queued in the current tick (debug). */
+    public static int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Drops queued penalties and cooldowns (server stop).
+     */
+    public static void clear() {
+        pending.clear();
+        seenEvents.clear();
+        cooldownUntil.clear();
+        largestBatch = 0;
+    }
+
+    private static int parseTeam(String owner) {
+        try {
+            return (owner == null) ? -1 : Integer.parseInt(owner);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
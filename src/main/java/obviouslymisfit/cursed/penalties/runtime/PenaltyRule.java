@@ -0,0 +1,118 @@
+package obviouslymisfit.cursed.penalties.runtime;
+
+import java.util.Objects;
+
+/**
+ * Validated, immutable penalty rule (M9 sections 4 and 5). Built from PenaltyRuleFile by PenaltyDataLoader.
+ *
+ * A rule only answers "how much": the magnitude of one penalty at a given phase and the share of it that is
+ * redistributed. Who is penalized, and when, is decided by PenaltyService; how the redistributed share is
+ * split is done by the engine's batch resolution, because it needs every team's score.
+ *
+ * Rules are content, not run state: they are re-read from data on startup and never persisted.
+ */
+public final class PenaltyRule {
+
+    public static final int PHASE_COUNT = 5;
+
+    public enum Mode {
+        /** value points (scaled, rounded). */
+        FIXED,
+        /** value percent of the team's current score (scaled, rounded down). */
+        PERCENT
+    }
+
+    public enum Strategy {
+        /** Every other team receives the same share. */
+        EQUAL,
+        /** Other teams receive shares proportional to 1 / (score + 1): trailing teams gain the most. */
+        INVERSE_SCORE
+    }
+
+    private final String id;
+    private final boolean enabled;
+    private final Mode mode;
+    private final float value;
+    private final float[] phaseScale; // index = phase 1..5; index 0 unused
+    private final boolean redistributes;
+    private final float factor;
+    private final Strategy strategy;
+    private final int cooldownTicks;
+
+    public PenaltyRule(String id, boolean enabled, Mode mode, float value, float[] phaseScale,
+                       boolean redistributes, float factor, Strategy strategy, int cooldownTicks) {
+        if (phaseScale.length != PHASE_COUNT + 1) {
+            throw new IllegalArgumentException("phaseScale needs one entry per phase (index 1.." + PHASE_COUNT + ")");
+        }
+        this.id = Objects.requireNonNull(id, "id");
+        this.enabled = enabled;
+        this.mode = Objects.requireNonNull(mode, "mode");
+        this.value = value;
+        this.phaseScale = phaseScale.clone();
+        this.redistributes = redistributes;
+        this.factor = factor;
+        this.strategy = Objects.requireNonNull(strategy, "strategy");
+        this.cooldownTicks = cooldownTicks;
+    }
+
+    /**
+     * Points lost by a team that currently holds {@code available} points (>= 0), at this phase.
+     *
+     * Clamped to {@code available}: a penalty never takes a team below zero (M9 section 4, safety).
+     * Phases outside 1..5 (e.g. a curse without a phase) use the phase 1 scale.
+     */
+    public long magnitude(long available, int phase) {
+        if (available <= 0) return 0;
+
+        float scale = phaseScale[(phase >= 1 && phase <= PHASE_COUNT) ? phase : 1];
+        long points = switch (mode) {
+            case FIXED -> Math.round((double) value * scale);
+            case PERCENT -> (long) Math.floor(available * ((double) value / 100.0) * scale);
+        };
+        return Math.max(0, Math.min(points, available));
+    }
+
+    /**
+     * Part of {@code lost} that goes to the other teams (rounded down; the rest is destroyed).
+     */
+    public long redistributionPool(long lost) {
+        if (!redistributes || lost <= 0) return 0;
+        return (long) Math.floor(lost * (double) factor);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public float getValue() {
+        return value;
+    }
+
+    public float getPhaseScale(int phase) {
+        return phaseScale[phase];
+    }
+
+    public boolean redistributes() {
+        return redistributes;
+    }
+
+    public float getFactor() {
+        return factor;
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public int getCooldownTicks() {
+        return cooldownTicks;
+    }
+}
@@ -0,0 +1,61 @@
+package obviouslymisfit.cursed.platform;
+
+import java.util.Objects;
+
+/**
+ * A fixed block position in a specific dimension (persisted run data).
+ *
+ * Used for spawn-platform fixtures such as a team's delivery chest (the DELIVERY_CHEST cohesion anchor).
+ * The dimension is stored as its registry id string (e.g. "minecraft:overworld") so the shape is
+ * JSON-friendly and independent of loaded levels.
+ */
+public final class PlatformAnchor {
+
+    private final String dimension;
+    private final int x;
+    private final int y;
+    private final int z;
+
+    public PlatformAnchor(String dimension, int x, int y, int z) {
+        this.dimension = Objects.requireNonNull(dimension, "dimension");
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    public String getDimension() {
+        return dimension;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public int getZ() {
+        return z;
+    }
+
+    /**
+     * Block center coordinates: distance checks measure from the middle of the block, not its corner.
+     */
+    public double centerX() {
+        return x + 0.5;
+    }
+
+    public double centerY() {
+        return y + 0.5;
+    }
+
+    public double centerZ() {
+        return z + 0.5;
+    }
+
+    @Override
+    public String toString() {
+        return dimension + " " + x + " " + y + " " + z;
+    }
+}
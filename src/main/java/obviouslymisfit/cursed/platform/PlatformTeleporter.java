@@ -0,0 +1,194 @@
+package obviouslymisfit.cursed.platform;
+
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.level.TicketType;
+import net.minecraft.world.level.ChunkPos;
+
+import obviouslymisfit.cursed.config.ConfigManager;
+import obviouslymisfit.cursed.debug.DebugMetrics;
+import obviouslymisfit.cursed.state.GameState;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Mass teleport of the online players to the spawn platform (run created, run reset).
+ *
+ * Why not all at once: moving every player in one tick makes the server load the platform chunks synchronously
+ * on the first teleport and then sends every player's position, chunk and entity packets in the same tick.
+ * Instead a gather:
+ *  1) adds a chunk ticket around the platform (PRELOAD_RADIUS chunks) so the chunks load in the background,
+ *  2) waits until the platform chunk is loaded (at most PRELOAD_MAX_WAIT_TICKS, then proceeds anyway),
+ *  3) moves the queued players in batches of PerformanceConfig.platformTeleportsPerTick per tick,
+ *  4) keeps the ticket for LATE_JOIN_WINDOW_TICKS after the last batch: players joining in that window are
+ *     placed on the platform at once (the chunks are still loaded), then the ticket is removed.
+ * Players joining while the batches are still running are appended to the queue instead.
+ *
+ * The queue holds UUIDs in arrival order and resolves them when their batch runs, so players who leave before
+ * their turn are skipped and a reconnect is never teleported twice.
+ *
+ * Ticket: vanilla's timed PORTAL ticket type, refreshed every TICKET_REFRESH_TICKS while the gather lasts, so a
+ * server stopped mid-gather leaves nothing forced behind.
+ *
+ * Runs as a tick system in every lifecycle state (a reset gathers players into IDLE); with no gather in
+ * progress tick is one boolean check. Runtime only. Server thread only.
+ *
+ * Counters: platform.teleports, platform.batches, platform.late_joins, platform.preload_wait_ticks.
+ */
+public final class PlatformTeleporter {
+
+    public static final String METRIC_TELEPORTS = "platform.teleports";
+    public static final String METRIC_BATCHES = "platform.batches";
+    public static final String METRIC_LATE_JOINS = "platform.late_joins";
+    public static final String METRIC_PRELOAD_WAIT = "platform.preload_wait_ticks";
+
+    /** begin result: no spawn platform configured (or its dimension is not loaded); nobody is moved. */
+    public static final int NOT_CONFIGURED = -1;
+
+    // 5x5 chunks around the platform: the platform and everything the arriving players see first.
+    private static final int PRELOAD_RADIUS = 2;
+    private static final int PRELOAD_MAX_WAIT_TICKS = 100;
+    private static final int LATE_JOIN_WINDOW_TICKS = 600;
+    // PORTAL tickets expire after 300 ticks.
+    private static final int TICKET_REFRESH_TICKS = 200;
+
+    private static boolean active = false;
+    private static ServerLevel level = null;
+    private static PlatformAnchor target = null;
+    private static ChunkPos center = null;
+
+    private static final Set<UUID> queue = new LinkedHashSet<>();
+    private static int preloadStartTick = 0;
+    private static int lastTicketTick = 0;
+    private static int windowEndTick = 0; // set on begin, moved when the last batch empties the queue
+
+    private PlatformTeleporter() {}
+
+    /**
+     * Starts (or restarts) a gather of every online player to the spawn platform.
+     * Returns the number of players queued, or NOT_CONFIGURED.
+     */
+    public static int begin(MinecraftServer server, GameState state) {
+        PlatformAnchor anchor = state.spawnPlatform;
+        if (anchor == null) return NOT_CONFIGURED;
+
+        ResourceLocation dimensionId = ResourceLocation.tryParse(anchor.getDimension());
+        ServerLevel targetLevel = (dimensionId == null) ? null
+                : server.getLevel(ResourceKey.create(Registries.DIMENSION, dimensionId));
+        if (targetLevel == null) return NOT_CONFIGURED;
+
+        if (active) removeTicket();
+
+        active = true;
+        level = targetLevel;
+        target = anchor;
+        center = new ChunkPos(anchor.getX() >> 4, anchor.getZ() >> 4);
+
+        int now = server.getTickCount();
+        addTicket(now);
+        preloadStartTick = now;
+
+        queue.clear();
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            queue.add(player.getUUID());
+        }
+        // Nobody to move (empty server): no batch will set the window, so it opens now.
+        windowEndTick = now + LATE_JOIN_WINDOW_TICKS;
+        return queue.size();
+    }
+
+    public static void tick(MinecraftServer server) {
+        if (!active) return;
+
+        int now = server.getTickCount();
+        if (now - lastTicketTick >= TICKET_REFRESH_TICKS) addTicket(now);
+
+        if (queue.isEmpty()) {
+            if (now >= windowEndTick) finish();
+            return;
+        }
+
+        if (!level.getChunkSource().hasChunk(center.x, center.z) && now - preloadStartTick < PRELOAD_MAX_WAIT_TICKS) {
+            DebugMetrics.increment(METRIC_PRELOAD_WAIT);
+            return;
+        }
+
+        int budget = Math.max(1, ConfigManager.performance().platformTeleportsPerTick);
+        Iterator<UUID> it = queue.iterator();
+        while (budget > 0 && it.hasNext()) {
+            ServerPlayer player = server.getPlayerList().getPlayer(it.next());
+            it.remove();
+            if (player == null) continue; // left before its turn
+
+            teleport(player);
+            budget--;
+        }
+        DebugMetrics.increment(METRIC_BATCHES);
+
+        if (queue.isEmpty()) {
+            windowEndTick = now + LATE_JOIN_WINDOW_TICKS;
+        }
+    }
+
+    /**
+     * Join hook: during a gather, late joiners go to the platform too (queued while batches are running,
+     * immediately once they are done).
+     */
+    public static void onJoin(ServerPlayer player) {
+        if (!active) return;
+
+        if (!queue.isEmpty()) {
+            queue.add(player.getUUID());
+            return;
+        }
+        teleport(player);
+        DebugMetrics.increment(METRIC_LATE_JOINS);
+    }
+
+    public static boolean isActive() {
+        return active;
+    }
+
+    public static int queuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * Drops the gather (server stop). The ticket is not removed: it expires with the level.
+     */
+    public static void clear() {
+        active = false;
+        level = null;
+        target = null;
+        center = null;
+        queue.clear();
+    }
+
+    private static void teleport(ServerPlayer player) {
+        // Feet at the bottom of the anchor block, centered; the player keeps their facing.
+        player.teleportTo(level, target.centerX(), target.getY(), target.centerZ(), Set.of(),
+                player.getYRot(), player.getXRot(), true);
+        DebugMetrics.increment(METRIC_TELEPORTS);
+    }
+
+    private static void addTicket(int now) {
+        level.getChunkSource().addTicketWithRadius(TicketType.PORTAL, center, PRELOAD_RADIUS);
+        lastTicketTick = now;
+    }
+
+    private static void removeTicket() {
+        level.getChunkSource().removeTicketWithRadius(TicketType.PORTAL, center, PRELOAD_RADIUS);
+    }
+
+    private static void finish() {
+        removeTicket();
+        clear();
+    }
+}
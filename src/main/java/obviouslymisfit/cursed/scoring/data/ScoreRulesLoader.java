@@ -0,0 +1,117 @@
+package obviouslymisfit.cursed.scoring.data;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import obviouslymisfit.cursed.Cursed;
+import obviouslymisfit.cursed.objectives.runtime.ObjectiveDefinition;
+import obviouslymisfit.cursed.scoring.data.model.ScoreRulesFile;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Loads and validates the scoring rules (M6 section 5) from:
+ *   data/cursed/scoring/score_rules.json
+ *
+ * Fails fast on startup if the file is missing or invalid.
+ *
+ * The rules are resolved once into a points table [category][phase], so an award is an array read and the
+ * same completion always scores the same number of points (the ledger and any rebuild agree by construction).
+ */
+public final class ScoreRulesLoader {
+
+    private static final String RULES_PATH = "data/cursed/scoring/score_rules.json";
+    private static final String EXPECTED_TYPE = "score_rules";
+    private static final int PHASE_COUNT = 5;
+
+    private static final Gson GSON = new GsonBuilder().create();
+
+    // [ObjectiveCategory.ordinal()][phase 1..5]; index 0 of each row unused.
+    private static int[][] pointsTable = null;
+
+    private ScoreRulesLoader() {
+        // utility class
+    }
+
+    public static void loadAndValidate() {
+        ScoreRulesFile file;
+        try (InputStream in = ScoreRulesLoader.class.getClassLoader().getResourceAsStream(RULES_PATH)) {
+            if (in == null) {
+                throw new IllegalStateException("CURSED: missing " + RULES_PATH);
+            }
+            file = GSON.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), ScoreRulesFile.class);
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("CURSED: failed parsing " + RULES_PATH, e);
+        }
+
+        pointsTable = compile(validate(file));
+
+        Cursed.LOGGER.info("CURSED: loaded score rules (primary={}, secondary={}, task={})",
+                file.base_points.primary, file.base_points.secondary, file.base_points.task);
+    }
+
+    /**
+     * Points for completing an item of this category that belongs to this phase (M6 section 6:
+     * the item's phase, not the current run phase).
+     */
+    public static int pointsFor(ObjectiveDefinition.ObjectiveCategory category, int phase) {
+        int[][] table = pointsTable;
+        if (table == null) {
+            throw new IllegalStateException("CURSED: score rules not loaded");
+        }
+        if (phase < 1 || phase > PHASE_COUNT) {
+            throw new IllegalArgumentException("phase " + phase);
+        }
+        return table[category.ordinal()][phase];
+    }
+
+    private static ScoreRulesFile validate(ScoreRulesFile file) {
+        if (file == null) {
+            throw new IllegalStateException("CURSED: " + RULES_PATH + " parsed as null");
+        }
+        if (!EXPECTED_TYPE.equals(file.type)) {
+            throw new IllegalStateException("CURSED: " + RULES_PATH + " must have type '" + EXPECTED_TYPE + "'");
+        }
+        if (file.base_points == null) {
+            throw new IllegalStateException("CURSED: " + RULES_PATH + " is missing base_points");
+        }
+        if (file.base_points.primary < 0 || file.base_points.secondary < 0 || file.base_points.task < 0) {
+            throw new IllegalStateException("CURSED: " + RULES_PATH + " base_points must be non-negative");
+        }
+        if (file.phase_multipliers == null) {
+            throw new IllegalStateException("CURSED: " + RULES_PATH + " is missing phase_multipliers");
+        }
+        for (int phase = 1; phase <= PHASE_COUNT; phase++) {
+            Float multiplier = file.phase_multipliers.get(String.valueOf(phase));
+            if (multiplier == null) {
+                throw new IllegalStateException("CURSED: " + RULES_PATH + " has no multiplier for phase " + phase);
+            }
+            if (multiplier < 1.0f) {
+                throw new IllegalStateException("CURSED: " + RULES_PATH + " multiplier for phase " + phase + " must be >= 1.0");
+            }
+        }
+        return file;
+    }
+
+    private static int[][] compile(ScoreRulesFile file) {
+        ObjectiveDefinition.ObjectiveCategory[] categories = ObjectiveDefinition.ObjectiveCategory.values();
+        int[][] table = new int[categories.length][PHASE_COUNT + 1];
+
+        for (ObjectiveDefinition.ObjectiveCategory category : categories) {
+            int base = switch (category) {
+                case PRIMARY -> file.base_points.primary;
+                case SECONDARY -> file.base_points.secondary;
+                case TASK -> file.base_points.task;
+            };
+            for (int phase = 1; phase <= PHASE_COUNT; phase++) {
+                float multiplier = file.phase_multipliers.get(String.valueOf(phase));
+                table[category.ordinal()][phase] = Math.round(base * multiplier);
+            }
+        }
+        return table;
+    }
+}
@@ -0,0 +1,28 @@
+package obviouslymisfit.cursed.scoring.data.model;
+
+import java.util.Map;
+
+/**
+ * Represents the scoring rules file:
+ *   data/cursed/scoring/score_rules.json
+ *
+ * M6 section 5: base points per completed item type, multiplied by the phase the item belongs to.
+ * Validated on load; see ScoreRulesLoader.
+ */
+public final class ScoreRulesFile {
+
+    public String type;
+
+    public BasePoints base_points;
+
+    /** Phase ("1".."5") -> multiplier (>= 1.0). */
+    public Map<String, Float> phase_multipliers;
+
+    public String notes;
+
+    public static final class BasePoints {
+        public int primary;
+        public int secondary;
+        public int task;
+    }
+}
@@ -0,0 +1,337 @@
+package obviouslymisfit.cursed.scoring.engine;
+
+import net.minecraft.server.MinecraftServer;
+
+import obviouslymisfit.cursed.Cursed;
+import obviouslymisfit.cursed.objectives.runtime.ObjectiveDefinition;
+import obviouslymisfit.cursed.objectives.runtime.ObjectiveSlot;
+import obviouslymisfit.cursed.objectives.runtime.TeamObjectiveTable;
+import obviouslymisfit.cursed.scoring.data.ScoreRulesLoader;
+import obviouslymisfit.cursed.scoring.runtime.ScoreEntryType;
+import obviouslymisfit.cursed.scoring.runtime.ScoreLedger;
+import obviouslymisfit.cursed.state.GameState;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Full score recomputation for audits (M6 section 3 "deterministic rebuild safety"), off the server thread.
+ *
+ * Two independent sources are summed from scratch, per team, broken down by category and phase:
+ *  - completions: every COMPLETED objective row, priced with the current score rules (what M6 says the score is)
+ *  - ledger: every ScoreLedger entry (what was actually awarded, plus penalties and redistribution)
+ * and compared with each other (awards per category and phase) and with the live running totals.
+ *
+ * Threading:
+ *  - snapshot(): on the server thread; bulk-copies the ledger columns and the completed rows into primitive
+ *    arrays. This is the only part that reads run state (System.arraycopy; well under a millisecond for tens of
+ *    thousands of entries).
+ *  - compute(): pure; splits the ledger into contiguous entry ranges, and each fork-join leaf sums its range into
+ *    its own per-team cell block (team-major, so a team's cells are one contiguous stripe). Blocks are merged
+ *    pairwise on the way up the task tree. Completed rows are already grouped by team (row order) and summed
+ *    per team the same way. All sums use exact long arithmetic (Math.addExact), so an overflow fails the audit
+ *    instead of reporting a wrong score.
+ *  - runAsync(): snapshot now, compute on the pool, deliver the report back on the server thread.
+ *
+ * One audit at a time (a second request while one is running is refused).
+ */
+public final class ScoreAudit {
+
+    public static final int PHASES = TeamObjectiveTable.PHASE_COUNT + 1; // index 0 = not tied to a phase
+    public static final int CATEGORIES = ScoreLedger.STRIDE - 1;         // primary, secondary, tasks, adjustments
+    public static final int CELLS = CATEGORIES * PHASES;
+
+    private static final int TEAM_CELLS = CELLS + 1;                     // breakdown cells, then the team total
+    private static final int ADJUSTMENT_CELL = (CATEGORIES - 1) * PHASES; // adjustments, phase 0
+    private static final int LEAF_ENTRIES = 8192;
+
+    // Row within a team's block -> breakdown cell of its completion (category from the slot, phase from the row).
+    private static final int[] CELL_BY_TEAM_ROW = new int[TeamObjectiveTable.ROWS_PER_TEAM];
+    static {
+        for (int row = 0; row < CELL_BY_TEAM_ROW.length; row++) {
+            ObjectiveSlot slot = TeamObjectiveTable.slotOfRow(row);
+            int category = slot.isTask() ? ScoreLedger.COL_TASK - 1
+                    : slot.isSecondary() ? ScoreLedger.COL_SECONDARY - 1
+                    : ScoreLedger.COL_PRIMARY - 1;
+            CELL_BY_TEAM_ROW[row] = category * PHASES + TeamObjectiveTable.phaseOfRow(row);
+        }
+    }
+
+    private static final AtomicBoolean RUNNING = new AtomicBoolean(false);
+
+    private ScoreAudit() {}
+
+    /**
+     * Snapshots the state now and delivers the report lines on the server thread when done.
+     * Returns false (nothing scheduled) if an audit is already running.
+     */
+    public static boolean runAsync(MinecraftServer server, GameState state, Consumer<List<String>> onDone) {
+        if (!RUNNING.compareAndSet(false, true)) return false;
+
+        Input input;
+        try {
+            input = snapshot(state);
+        } catch (RuntimeException e) {
+            RUNNING.set(false);
+            throw e;
+        }
+
+        CompletableFuture
+                .supplyAsync(() -> report(input, compute(input, true)), ForkJoinPool.commonPool())
+                .exceptionally(e -> {
+                    Cursed.LOGGER.error("CURSED: score audit failed", e);
+                    return List.of("Score audit failed: " + e.getMessage());
+                })
+                .thenAccept(lines -> {
+                    RUNNING.set(false);
+                    server.execute(() -> onDone.accept(lines));
+                });
+        return true;
+    }
+
+    /**
+     * Server thread: copies everything the audit needs out of the live state.
+     */
+    public static Input snapshot(GameState state) {
+        ScoreLedger ledger = state.scores;
+
+        // Completed rows priced now, with the item's own phase (M6 section 6).
+        TeamObjectiveTable table = state.teamObjectiveStates;
+        int teamCount = Math.min(ledger.teamCount(), table.teamCount());
+        int[] completedRows = new int[teamCount * TeamObjectiveTable.ROWS_PER_TEAM];
+        int[] completedPoints = new int[completedRows.length];
+        int completed = 0;
+        for (int row = 0; row < completedRows.length; row++) {
+            if (!table.isCompleted(row)) continue;
+
+            int phase = TeamObjectiveTable.phaseOfRow(row);
+            ObjectiveDefinition def = state.objectiveDefinitions.get(phase, TeamObjectiveTable.slotOfRow(row));
+            if (def == null) continue;
+
+            completedRows[completed] = row;
+            completedPoints[completed] = ScoreRulesLoader.pointsFor(def.getCategory(), phase);
+            completed++;
+        }
+
+        return snapshot(ledger, completed, completedRows, completedPoints);
+    }
+
+    /**
+     * Copies the ledger columns and live totals; completed rows (ascending) and their prices are supplied by the caller.
+     */
+    public static Input snapshot(ScoreLedger ledger, int completed, int[] completedRows, int[] completedPoints) {
+        int n = ledger.size();
+
+        byte[] types = new byte[n];
+        int[] teams = new int[n];
+        int[] others = new int[n];
+        int[] points = new int[n];
+        int[] rows = new int[n];
+        ledger.copyEntries(types, teams, others, points, rows);
+
+        return new Input(ledger.teamCount(), n, types, teams, others, points, rows,
+                completed, completedRows, completedPoints, ledger.accumulators());
+    }
+
+    /**
+     * Pure recomputation. parallel=false runs the same leaves on the calling thread (benchmark baseline).
+     */
+    public static Result compute(Input in, boolean parallel) {
+        long start = System.nanoTime();
+
+        LedgerSum root = new LedgerSum(in, 0, in.entries);
+        long[] ledgerCells = parallel ? ForkJoinPool.commonPool().invoke(root) : root.sumDirectly();
+
+        Result result = new Result(in.teamCount);
+        for (int team = 0; team < in.teamCount; team++) {
+            int base = team * TEAM_CELLS;
+            System.arraycopy(ledgerCells, base, result.ledger[team], 0, CELLS);
+            result.ledgerTotal[team] = ledgerCells[base + CELLS];
+        }
+
+        // Completed rows: at most teams x ROWS_PER_TEAM, ascending, so each team is one contiguous run.
+        for (int k = 0; k < in.completed; k++) {
+            int row = in.completedRows[k];
+            int team = TeamObjectiveTable.teamOfRow(row);
+            if (team >= in.teamCount) break;
+
+            int c = CELL_BY_TEAM_ROW[row % TeamObjectiveTable.ROWS_PER_TEAM];
+            result.completions[team][c] = Math.addExact(result.completions[team][c], in.completedPoints[k]);
+            result.completionTotal[team] = Math.addExact(result.completionTotal[team], in.completedPoints[k]);
+        }
+
+        result.nanos = System.nanoTime() - start;
+        return result;
+    }
+
+    /**
+     * Human-readable report: per-team breakdowns and every disagreement between the sources.
+     */
+    public static List<String> report(Input in, Result r) {
+        List<String> lines = new ArrayList<>();
+        lines.add("Score audit: " + in.teamCount + " teams, " + in.entries + " ledger entries, "
+                + in.completed + " completions, " + String.format("%.2f", r.nanos / 1_000_000.0) + " ms");
+
+        int mismatches = 0;
+        for (int team = 0; team < in.teamCount; team++) {
+            long live = in.live[team * ScoreLedger.STRIDE + ScoreLedger.COL_TOTAL];
+            lines.add("- team " + team + ": ledger " + r.ledgerTotal[team] + ", completions " + r.completionTotal[team]
+                    + ", live " + live);
+            for (int cat = 0; cat < CATEGORIES; cat++) {
+                lines.add("    " + ScoreService.columnName(cat + 1) + ": " + phaseCells(r.ledger[team], cat));
+            }
+
+            if (r.ledgerTotal[team] != live) {
+                lines.add("    MISMATCH live total " + live + " != ledger replay " + r.ledgerTotal[team]);
+                mismatches++;
+            }
+            for (int cat = 0; cat < CATEGORIES - 1; cat++) {
+                for (int phase = 1; phase < PHASES; phase++) {
+                    long ledgerAward = r.ledger[team][cell(cat, phase)];
+                    long fromCompletions = r.completions[team][cell(cat, phase)];
+                    if (ledgerAward != fromCompletions) {
+                        lines.add("    MISMATCH " + ScoreService.columnName(cat + 1) + " P" + phase
+                                + ": ledger " + ledgerAward + " != completions " + fromCompletions);
+                        mismatches++;
+                    }
+                }
+            }
+        }
+
+        lines.add(mismatches == 0 ? "Audit OK: ledger, completions and live totals agree." : "Audit found " + mismatches + " mismatches.");
+        return lines;
+    }
+
+    public static int cell(int category, int phase) {
+        return category * PHASES + phase;
+    }
+
+    private static String phaseCells(long[] cells, int cat) {
+        StringBuilder out = new StringBuilder();
+        for (int phase = (cat == CATEGORIES - 1) ? 0 : 1; phase < PHASES; phase++) {
+            if (out.length() > 0) out.append(" ");
+            out.append(phase == 0 ? "-" : "P" + phase).append("=").append(cells[cell(cat, phase)]);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Adds entry i to a per-team cell block (TEAM_CELLS per team: CELLS breakdown cells, then the total).
+     */
+    private static void addEntry(Input in, long[] out, int i) {
+        int team = in.teams[i];
+        long amount = in.points[i];
+
+        switch (ScoreEntryType.fromOrdinal(in.types[i])) {
+            case COMPLETION_AWARD -> {
+                if (team < 0 || team >= in.teamCount) return;
+                int base = team * TEAM_CELLS;
+                int c = base + CELL_BY_TEAM_ROW[in.rows[i] % TeamObjectiveTable.ROWS_PER_TEAM];
+                out[c] = Math.addExact(out[c], amount);
+                out[base + CELLS] = Math.addExact(out[base + CELLS], amount);
+            }
+            case PENALTY -> addAdjustment(in, out, team, -amount);
+            case REDISTRIBUTION -> {
+                addAdjustment(in, out, team, -amount);
+                addAdjustment(in, out, in.others[i], amount);
+            }
+        }
+    }
+
+    private static void addAdjustment(Input in, long[] out, int team, long signed) {
+        if (team < 0 || team >= in.teamCount) return;
+        int base = team * TEAM_CELLS;
+        out[base + ADJUSTMENT_CELL] = Math.addExact(out[base + ADJUSTMENT_CELL], signed);
+        out[base + CELLS] = Math.addExact(out[base + CELLS], signed);
+    }
+
+    /**
+     * Fork-join over a ledger entry range; leaves of at most LEAF_ENTRIES entries, results merged cell-wise.
+     */
+    private static final class LedgerSum extends RecursiveTask<long[]> {
+        private final Input in;
+        private final int lo;
+        private final int hi;
+
+        LedgerSum(Input in, int lo, int hi) {
+            this.in = in;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (hi - lo <= LEAF_ENTRIES) return sumDirectly();
+
+            int mid = (lo + hi) >>> 1;
+            LedgerSum right = new LedgerSum(in, mid, hi);
+            right.fork();
+            long[] left = new LedgerSum(in, lo, mid).compute();
+            long[] r = right.join();
+            for (int c = 0; c < left.length; c++) left[c] = Math.addExact(left[c], r[c]);
+            return left;
+        }
+
+        long[] sumDirectly() {
+            long[] out = new long[in.teamCount * TEAM_CELLS];
+            for (int i = lo; i < hi; i++) addEntry(in, out, i);
+            return out;
+        }
+    }
+
+    /**
+     * Immutable primitive copy of what the audit reads. Built by snapshot().
+     */
+    public static final class Input {
+        final int teamCount;
+        final int entries;
+        final byte[] types;
+        final int[] teams;
+        final int[] others;
+        final int[] points;
+        final int[] rows;
+        final int completed;
+        final int[] completedRows;
+        final int[] completedPoints;
+        final long[] live;
+
+        private Input(int teamCount, int entries, byte[] types, int[] teams, int[] others, int[] points, int[] rows,
+                     int completed, int[] completedRows, int[] completedPoints, long[] live) {
+            this.teamCount = teamCount;
+            this.entries = entries;
+            this.types = types;
+            this.teams = teams;
+            this.others = others;
+            this.points = points;
+            this.rows = rows;
+            this.completed = completed;
+            this.completedRows = completedRows;
+            this.completedPoints = completedPoints;
+            this.live = live;
+        }
+    }
+
+    /**
+     * Per-team sums: cells indexed by cell(category, phase), category 0..2 = primary/secondary/tasks,
+     * 3 = adjustments (phase 0).
+     */
+    public static final class Result {
+        public final long[][] ledger;
+        public final long[][] completions;
+        public final long[] ledgerTotal;
+        public final long[] completionTotal;
+        public long nanos;
+
+        Result(int teamCount) {
+            this.ledger = new long[teamCount][CELLS];
+            this.completions = new long[teamCount][CELLS];
+            this.ledgerTotal = new long[teamCount];
+            this.completionTotal = new long[teamCount];
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package obviouslymisfit.cursed.scoring.engine;
+
+import obviouslymisfit.cursed.Cursed;
+import obviouslymisfit.cursed.debug.DebugMetrics;
+import obviouslymisfit.cursed.objectives.runtime.ObjectiveDefinition;
+import obviouslymisfit.cursed.objectives.runtime.TeamObjectiveTable;
+import obviouslymisfit.cursed.scoring.data.ScoreRulesLoader;
+import obviouslymisfit.cursed.scoring.runtime.ScoreLedger;
+import obviouslymisfit.cursed.scoring.runtime.Standings;
+import obviouslymisfit.cursed.state.GameState;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single score entry point (M6 section 6): every score change is appended to GameState.scores here.
+ * Listeners, commands and the progress engine never touch the ledger directly.
+ *
+ * Persistence: callers already save once per mutation (e.g. ObjectiveProgressEngine, or PenaltyService once
+ * per penalty batch), so the score change is persisted with the event that caused it. This class never saves.
+ *
+ * Counter: scores.ledger_entries.
+ */
+public final class ScoreService {
+
+    public static final String METRIC_LEDGER_ENTRIES = "scores.ledger_entries";
+
+    private ScoreService() {}
+
+    /**
+     * Awards the completion of one objective row (task or objective that just transitioned to COMPLETED).
+     *
+     * Points use the phase of the completed item, not the run phase (M6 section 6).
+     * Idempotent per row: returns 0 if the row was already awarded (e.g. re-evaluated after a restart).
+     */
+    public static int awardCompletion(GameState state, int row) {
+        ScoreLedger ledger = state.scores;
+        if (ledger.isAwarded(row)) return 0;
+
+        int phase = TeamObjectiveTable.phaseOfRow(row);
+        ObjectiveDefinition def = state.objectiveDefinitions.get(phase, TeamObjectiveTable.slotOfRow(row));
+        if (def == null) {
+            // A completed row always has a definition; scoring must not hide a broken table.
+            throw new IllegalStateException("CURSED: completed objective row " + row + " has no definition");
+        }
+
+        int points = ScoreRulesLoader.pointsFor(def.getCategory(), phase);
+        ledger.appendAward(TeamObjectiveTable.teamOfRow(row), row, points, state.runTicks);
+        DebugMetrics.increment(METRIC_LEDGER_ENTRIES);
+        return points;
+    }
+
+    /**
+     * M9: removes points from a team (the part of a penalty that is not redistributed).
+     *
+     * Only called by penalties.engine.PenaltyService while it resolves a batch, which has already clamped the
+     * amount against the team's total; the ledger itself does not clamp.
+     */
+    public static void deductPenalty(GameState state, int teamIdx, int amount) {
+        state.scores.appendPenalty(teamIdx, amount, state.runTicks);
+        DebugMetrics.increment(METRIC_LEDGER_ENTRIES);
+    }
+
+    /**
+     * M9: moves points from a penalized team to another team (zero-sum). Only called by PenaltyService.
+     */
+    public static void redistribute(GameState state, int fromTeam, int toTeam, int amount) {
+        if (fromTeam == toTeam) {
+            // M9 section 4: the penalized team never receives its own redistributed points.
+            throw new IllegalArgumentException("Redistribution from team " + fromTeam + " to itself");
+        }
+        state.scores.appendRedistribution(fromTeam, toTeam, amount, state.runTicks);
+        DebugMetrics.increment(METRIC_LEDGER_ENTRIES);
+    }
+
+    /**
+     * Debug readout: live totals checked against a replay from the last checkpoint and a replay from entry 0,
+     * and the live standings against a rebuild from the entries.
+     *
+     * Returns one line per disagreeing team/column (empty if everything matches). Read-only.
+     */
+    public static List<String> verify(GameState state) {
+        ScoreLedger ledger = state.scores;
+        long[] live = ledger.accumulators();
+        long[] fromCheckpoint = ledger.replayFromCheckpoint();
+        long[] fromStart = ledger.replayFromStart();
+
+        List<String> mismatches = new ArrayList<>();
+        for (int team = 0; team < ledger.teamCount(); team++) {
+            for (int col = 0; col < ScoreLedger.STRIDE; col++) {
+                int cell = team * ScoreLedger.STRIDE + col;
+                if (live[cell] != fromCheckpoint[cell] || live[cell] != fromStart[cell]) {
+                    mismatches.add("team " + team + " " + columnName(col) + ": live=" + live[cell]
+                            + " checkpoint+tail=" + fromCheckpoint[cell] + " full=" + fromStart[cell]);
+                }
+            }
+
+            long sum = 0;
+            for (int col = ScoreLedger.COL_PRIMARY; col < ScoreLedger.STRIDE; col++) {
+                sum += live[team * ScoreLedger.STRIDE + col];
+            }
+            if (sum != live[team * ScoreLedger.STRIDE + ScoreLedger.COL_TOTAL]) {
+                mismatches.add("team " + team + " breakdown sums to " + sum + ", total is "
+                        + live[team * ScoreLedger.STRIDE + ScoreLedger.COL_TOTAL]);
+            }
+        }
+
+        // Incremental standings vs a rebuild from the entries (order and every tie-break key).
+        Standings standings = ledger.standings();
+        Standings rebuilt = Standings.rebuiltFrom(ledger);
+        for (int rank = 0; rank < ledger.teamCount(); rank++) {
+            int team = rebuilt.teamAt(rank);
+            if (standings.teamAt(rank) != team) {
+                mismatches.add("standings rank " + (rank + 1) + ": live team " + standings.teamAt(rank) + ", rebuilt team " + team);
+            }
+            if (standings.total(team) != rebuilt.total(team) || standings.phaseReached(team) != rebuilt.phaseReached(team)
+                    || standings.lastChangeTick(team) != rebuilt.lastChangeTick(team)) {
+                mismatches.add("standings team " + team + ": live key (" + standings.total(team) + ", phase " + standings.phaseReached(team)
+                        + ", tick " + standings.lastChangeTick(team) + ") rebuilt (" + rebuilt.total(team) + ", phase "
+                        + rebuilt.phaseReached(team) + ", tick " + rebuilt.lastChangeTick(team) + ")");
+            }
+        }
+
+        if (!mismatches.isEmpty()) {
+            Cursed.LOGGER.warn("CURSED: score ledger verification found {} mismatches", mismatches.size());
+        }
+        return mismatches;
+    }
+
+    public static String columnName(int column) {
+        return switch (column) {
+            case ScoreLedger.COL_TOTAL -> "total";
+            case ScoreLedger.COL_PRIMARY -> "primary";
+            case ScoreLedger.COL_SECONDARY -> "secondary";
+            case ScoreLedger.COL_TASK -> "tasks";
+            case ScoreLedger.COL_ADJUSTMENTS -> "adjustments";
+            default -> "col" + column;
+        };
+    }
+}
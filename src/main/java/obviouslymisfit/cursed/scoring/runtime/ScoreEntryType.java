@@ -0,0 +1,27 @@
+package obviouslymisfit.cursed.scoring.runtime;
+
+/**
+ * Kind of a score ledger entry (see ScoreLedger).
+ *
+ * Declaration order is persisted (ordinal) in the ledger file. Do not reorder constants.
+ */
+public enum ScoreEntryType {
+
+    /** M6: objective/task completion; +points to the team, counted in its category breakdown. */
+    COMPLETION_AWARD,
+
+    /** M9 penalty (death or curse): -points from the team, the part of a loss that is not redistributed. */
+    PENALTY,
+
+    /** Redistribution: points move from the team to another team (zero-sum). */
+    REDISTRIBUTION;
+
+    private static final ScoreEntryType[] VALUES = values();
+
+    public static ScoreEntryType fromOrdinal(int ordinal) {
+        if (ordinal < 0 || ordinal >= VALUES.length) {
+            throw new IllegalArgumentException("Unknown score entry type: " + ordinal);
+        }
+        return VALUES[ordinal];
+    }
+}
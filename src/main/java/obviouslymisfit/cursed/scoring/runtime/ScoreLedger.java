@@ -0,0 +1,402 @@
+package obviouslymisfit.cursed.scoring.runtime;
+
+import obviouslymisfit.cursed.objectives.runtime.ObjectiveSlot;
+import obviouslymisfit.cursed.objectives.runtime.TeamObjectiveTable;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Append-only record of every score change in the run, plus running per-team totals (M6 sections 3 and 4).
+ *
+ * Why a ledger:
+ * - M6 requires a deterministic rebuild. TeamObjectiveTable.completedAtMillis is the only completion record,
+ *   and rescanning every team's rows cannot reproduce non-completion changes (penalties, redistribution).
+ * - Every change is appended here first; the running totals are only a cache of replaying the entries.
+ *
+ * Layout:
+ *  - entries: struct-of-arrays (type, team, other team, points, objective row, run tick), index = sequence number
+ *  - acc[team * STRIDE + column]: running accumulators, columns COL_TOTAL, COL_PRIMARY, COL_SECONDARY, COL_TASK,
+ *    COL_ADJUSTMENTS (penalties and redistribution). The breakdown columns always sum to COL_TOTAL.
+ *    Reading a team's total is one array read; appending an entry updates at most four cells.
+ *  - checkpoints: a copy of acc every CHECKPOINT_INTERVAL entries. replayFromCheckpoint() starts from the
+ *    last one and replays only the tail, which is how totals are restored on load.
+ *  - awarded: objective rows that already received their COMPLETION_AWARD (M6 section 6 idempotency).
+ *  - standings: teams kept in M8 order; every append repositions only the team(s) it touched (see Standings).
+ *
+ * Removing teams (resizeTeams to fewer) detaches their entries: the team (or other team) of each entry is set
+ * to NO_TEAM, their award bits are released and the checkpoints drop their columns. A team re-added later
+ * starts from zero with fresh rows, and the live totals are rebuilt from the entries after every resize, so
+ * live totals and replay always agree. Detaching bumps revision(), which makes the next save rewrite the file.
+ *
+ * Runtime data owned by GameState; persisted by state.persistence.ScoreLedgerFileIO.
+ * All mutations go through scoring.engine.ScoreService.
+ */
+public final class ScoreLedger {
+
+    public static final int CHECKPOINT_INTERVAL = 256;
+
+    public static final int NO_TEAM = -1;
+    public static final int NO_ROW = -1;
+
+    public static final int COL_TOTAL = 0;
+    public static final int COL_PRIMARY = 1;
+    public static final int COL_SECONDARY = 2;
+    public static final int COL_TASK = 3;
+    public static final int COL_ADJUSTMENTS = 4;
+    public static final int STRIDE = 5;
+
+    private static final int MIN_CAPACITY = 64;
+
+    // Slot ordinal -> breakdown column of its completion award.
+    private static final int[] COLUMN_BY_SLOT = new int[ObjectiveSlot.ordered().length];
+    static {
+        for (ObjectiveSlot slot : ObjectiveSlot.ordered()) {
+            COLUMN_BY_SLOT[slot.ordinal()] = slot.isTask() ? COL_TASK : slot.isSecondary() ? COL_SECONDARY : COL_PRIMARY;
+        }
+    }
+
+    private int teamCount;
+    private long[] acc;
+
+    private int size;
+    private byte[] types = new byte[0];
+    private int[] teams = new int[0];
+    private int[] others = new int[0];
+    private int[] points = new int[0];
+    private int[] rows = new int[0];
+    private long[] ticks = new long[0];
+
+    private int checkpointCount;
+    private int[] checkpointAt = new int[0];
+    private long[][] checkpointAcc = new long[0][];
+
+    private final BitSet awarded = new BitSet();
+
+    // Bumped whenever stored entries change in place (teams removed); appends do not count.
+    private int revision;
+
+    private final Standings standings;
+
+    public ScoreLedger(int teamCount) {
+        this.teamCount = Math.max(0, teamCount);
+        this.acc = new long[this.teamCount * STRIDE];
+        this.standings = new Standings(this.teamCount);
+    }
+
+    public int teamCount() {
+        return teamCount;
+    }
+
+    /**
+     * Edit count of the stored entries (see the class doc). Persistence rewrites the file when it changes.
+     */
+    public int revision() {
+        return revision;
+    }
+
+    /**
+     * Changes the team count (teams reconfigured). Existing teams keep their totals; removed teams are detached
+     * (see the class doc), so new or re-added teams start at zero.
+     */
+    public void resizeTeams(int newTeamCount) {
+        newTeamCount = Math.max(0, newTeamCount);
+        if (newTeamCount == teamCount) return;
+
+        if (newTeamCount < teamCount) detachTeamsFrom(newTeamCount);
+
+        teamCount = newTeamCount;
+        acc = replayFromCheckpoint();
+        standings.rebuild(this);
+    }
+
+    /**
+     * Drops every entry, checkpoint and total (new run, reset).
+     */
+    public void clear() {
+        size = 0;
+        checkpointCount = 0;
+        Arrays.fill(acc, 0L);
+        awarded.clear();
+        standings.reset(teamCount);
+    }
+
+    // ---------------------------------------------------------------------
+    // Totals (O(1))
+    // ---------------------------------------------------------------------
+
+    public long total(int teamIdx) {
+        return column(teamIdx, COL_TOTAL);
+    }
+
+    public long column(int teamIdx, int column) {
+        if (teamIdx < 0 || teamIdx >= teamCount) return 0;
+        return acc[teamIdx * STRIDE + column];
+    }
+
+    /**
+     * Copy of the live accumulators, laid out as acc[team * STRIDE + column].
+     */
+    public long[] accumulators() {
+        return acc.clone();
+    }
+
+    /** Live M8 ordering of the teams; read-only for callers. */
+    public Standings standings() {
+        return standings;
+    }
+
+    public boolean isAwarded(int row) {
+        return row >= 0 && awarded.get(row);
+    }
+
+    // ---------------------------------------------------------------------
+    // Appending
+    // ---------------------------------------------------------------------
+
+    public void appendAward(int teamIdx, int row, int amount, long runTick) {
+        if (row < 0) throw new IllegalArgumentException("row " + row);
+        if (awarded.get(row)) throw new IllegalStateException("Objective row " + row + " already awarded");
+
+        append(ScoreEntryType.COMPLETION_AWARD, teamIdx, NO_TEAM, amount, row, runTick);
+        awarded.set(row);
+    }
+
+    public void appendPenalty(int teamIdx, int amount, long runTick) {
+        append(ScoreEntryType.PENALTY, teamIdx, NO_TEAM, amount, NO_ROW, runTick);
+    }
+
+    public void appendRedistribution(int fromTeam, int toTeam, int amount, long runTick) {
+        append(ScoreEntryType.REDISTRIBUTION, fromTeam, toTeam, amount, NO_ROW, runTick);
+    }
+
+    private void append(ScoreEntryType type, int teamIdx, int other, int amount, int row, long runTick) {
+        if (amount < 0) throw new IllegalArgumentException("Score entry amounts are magnitudes: " + amount);
+
+        storeEntry(type, teamIdx, other, amount, row, runTick);
+        apply(acc, size - 1);
+
+        int phase = (type == ScoreEntryType.COMPLETION_AWARD) ? TeamObjectiveTable.phaseOfRow(row) : 0;
+        standings.onEntry(teamIdx, total(teamIdx), phase, runTick);
+        if (other != NO_TEAM) {
+            standings.onEntry(other, total(other), 0, runTick);
+        }
+
+        if (size % CHECKPOINT_INTERVAL == 0) {
+            storeCheckpoint(size, acc.clone());
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Entries and checkpoints (read access for persistence and debug)
+    // ---------------------------------------------------------------------
+
+    public int size() {
+        return size;
+    }
+
+    public ScoreEntryType type(int i) {
+        return ScoreEntryType.fromOrdinal(types[i]);
+    }
+
+    public int team(int i) {
+        return teams[i];
+    }
+
+    public int other(int i) {
+        return others[i];
+    }
+
+    public int points(int i) {
+        return points[i];
+    }
+
+    public int row(int i) {
+        return rows[i];
+    }
+
+    public long tick(int i) {
+        return ticks[i];
+    }
+
+    /**
+     * Bulk copy of the first size() entries into caller arrays (each at least size() long); type as ordinal.
+     */
+    public void copyEntries(byte[] typesOut, int[] teamsOut, int[] othersOut, int[] pointsOut, int[] rowsOut) {
+        System.arraycopy(types, 0, typesOut, 0, size);
+        System.arraycopy(teams, 0, teamsOut, 0, size);
+        System.arraycopy(others, 0, othersOut, 0, size);
+        System.arraycopy(points, 0, pointsOut, 0, size);
+        System.arraycopy(rows, 0, rowsOut, 0, size);
+    }
+
+    public int checkpointCount() {
+        return checkpointCount;
+    }
+
+    /**
+     * Number of entries covered by checkpoint k (its accumulators are the state after entry at(k) - 1).
+     */
+    public int checkpointAt(int k) {
+        return checkpointAt[k];
+    }
+
+    public long[] checkpointAccumulators(int k) {
+        return checkpointAcc[k].clone();
+    }
+
+    // ---------------------------------------------------------------------
+    // Replay
+    // ---------------------------------------------------------------------
+
+    /**
+     * Accumulators rebuilt from the last checkpoint plus the entries after it.
+     */
+    public long[] replayFromCheckpoint() {
+        long[] out = new long[teamCount * STRIDE];
+        int from = 0;
+        if (checkpointCount > 0) {
+            long[] cp = checkpointAcc[checkpointCount - 1];
+            System.arraycopy(cp, 0, out, 0, Math.min(cp.length, out.length));
+            from = checkpointAt[checkpointCount - 1];
+        }
+        for (int i = from; i < size; i++) apply(out, i);
+        return out;
+    }
+
+    /**
+     * Accumulators rebuilt from entry 0, ignoring checkpoints (checks the checkpoints themselves).
+     */
+    public long[] replayFromStart() {
+        long[] out = new long[teamCount * STRIDE];
+        for (int i = 0; i < size; i++) apply(out, i);
+        return out;
+    }
+
+    // ---------------------------------------------------------------------
+    // Restore (persistence only)
+    // ---------------------------------------------------------------------
+
+    /**
+     * Appends a persisted entry without touching totals or checkpoints. Call restoreTotals() when done.
+     */
+    public void loadEntry(ScoreEntryType type, int teamIdx, int other, int amount, int row, long runTick) {
+        storeEntry(type, teamIdx, other, amount, row, runTick);
+        if (type == ScoreEntryType.COMPLETION_AWARD && teamIdx != NO_TEAM && row >= 0) awarded.set(row);
+    }
+
+    /**
+     * Adds a persisted checkpoint. Checkpoints must be loaded in increasing order and cover loaded entries only.
+     */
+    public void loadCheckpoint(int at, long[] accumulators) {
+        if (at <= 0 || at > size || (checkpointCount > 0 && at <= checkpointAt[checkpointCount - 1])) {
+            throw new IllegalStateException("Score checkpoint at " + at + " out of order (entries " + size + ")");
+        }
+        storeCheckpoint(at, accumulators.clone());
+    }
+
+    /**
+     * Sets the live totals from the last checkpoint and the entries after it, then rebuilds the standings
+     * (one pass over the entries, which load has just read anyway).
+     */
+    public void restoreTotals() {
+        acc = replayFromCheckpoint();
+        standings.rebuild(this);
+    }
+
+    // ---------------------------------------------------------------------
+    // Internals
+    // ---------------------------------------------------------------------
+
+    private void storeEntry(ScoreEntryType type, int teamIdx, int other, int amount, int row, long runTick) {
+        if (size == types.length) {
+            int capacity = Math.max(MIN_CAPACITY, size * 2);
+            types = Arrays.copyOf(types, capacity);
+            teams = Arrays.copyOf(teams, capacity);
+            others = Arrays.copyOf(others, capacity);
+            points = Arrays.copyOf(points, capacity);
+            rows = Arrays.copyOf(rows, capacity);
+            ticks = Arrays.copyOf(ticks, capacity);
+        }
+
+        types[size] = (byte) type.ordinal();
+        teams[size] = teamIdx;
+        others[size] = other;
+        points[size] = amount;
+        rows[size] = row;
+        ticks[size] = runTick;
+        size++;
+    }
+
+    /**
+     * Detaches every entry, award bit and checkpoint column of teams [firstRemoved, teamCount).
+     */
+    private void detachTeamsFrom(int firstRemoved) {
+        boolean changed = false;
+        for (int i = 0; i < size; i++) {
+            if (teams[i] >= firstRemoved) {
+                teams[i] = NO_TEAM;
+                changed = true;
+            }
+            if (others[i] >= firstRemoved) {
+                others[i] = NO_TEAM;
+                changed = true;
+            }
+        }
+
+        int firstRemovedRow = firstRemoved * TeamObjectiveTable.ROWS_PER_TEAM;
+        awarded.clear(firstRemovedRow, Math.max(firstRemovedRow, awarded.length()));
+
+        for (int k = 0; k < checkpointCount; k++) {
+            if (checkpointAcc[k].length > firstRemoved * STRIDE) {
+                checkpointAcc[k] = Arrays.copyOf(checkpointAcc[k], firstRemoved * STRIDE);
+                changed = true;
+            }
+        }
+
+        if (changed) revision++;
+    }
+
+    private void storeCheckpoint(int at, long[] accumulators) {
+        if (checkpointCount == checkpointAt.length) {
+            int capacity = Math.max(4, checkpointCount * 2);
+            checkpointAt = Arrays.copyOf(checkpointAt, capacity);
+            checkpointAcc = Arrays.copyOf(checkpointAcc, capacity);
+        }
+        checkpointAt[checkpointCount] = at;
+        checkpointAcc[checkpointCount] = accumulators;
+        checkpointCount++;
+    }
+
+    /**
+     * Applies entry i to an accumulator array. The single definition of what an entry means.
+     */
+    private void apply(long[] out, int i) {
+        int team = teams[i];
+        int amount = points[i];
+
+        switch (ScoreEntryType.fromOrdinal(types[i])) {
+            case COMPLETION_AWARD -> {
+                if (team < 0 || team >= teamCount) return;
+                out[team * STRIDE + COL_TOTAL] += amount;
+                out[team * STRIDE + COLUMN_BY_SLOT[TeamObjectiveTable.slotOfRow(rows[i]).ordinal()]] += amount;
+            }
+            case PENALTY -> {
+                if (team < 0 || team >= teamCount) return;
+                out[team * STRIDE + COL_TOTAL] -= amount;
+                out[team * STRIDE + COL_ADJUSTMENTS] -= amount;
+            }
+            case REDISTRIBUTION -> {
+                int to = others[i];
+                if (team >= 0 && team < teamCount) {
+                    out[team * STRIDE + COL_TOTAL] -= amount;
+                    out[team * STRIDE + COL_ADJUSTMENTS] -= amount;
+                }
+                if (to >= 0 && to < teamCount) {
+                    out[to * STRIDE + COL_TOTAL] += amount;
+                    out[to * STRIDE + COL_ADJUSTMENTS] += amount;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package obviouslymisfit.cursed.scoring.runtime;
+
+import obviouslymisfit.cursed.objectives.runtime.TeamObjectiveTable;
+
+import java.util.Arrays;
+
+/**
+ * Live team standings (M8 section 3), kept sorted as the score ledger grows.
+ *
+ * Ordering (M8 section 3, applied in order; no randomness):
+ *  1) higher total score
+ *  2) higher phase reached by the team (highest phase of an objective/task it completed; 0 if none)
+ *  3) earlier last score change (run tick of the team's latest ledger entry; a team never scored is earliest)
+ *  4) lower team index
+ *
+ * Why incremental: a ledger entry changes one team's key (two for a redistribution), and the other teams stay
+ * in order relative to each other. So each change only moves that team up or down in order[] by shifting its
+ * neighbours (one insertion-sort step), O(distance moved) instead of a full re-sort. A full rebuild is only
+ * needed when the ledger is loaded or its team count changes.
+ *
+ * version() increases on every change. Consumers (sidebar, snapshots, debug) remember the instance and version
+ * they last rendered and skip all work while both are unchanged (a loaded or new ledger brings new Standings).
+ *
+ * Runtime only: owned and updated by ScoreLedger, rebuilt from the entries on load. Never persisted.
+ */
+public final class Standings {
+
+    private int teamCount;
+    private int[] order = new int[0];  // rank (0 = first) -> team
+    private int[] rankOf = new int[0]; // team -> rank
+
+    private long[] totals = new long[0];
+    private int[] phaseReached = new int[0];
+    private long[] lastChangeTick = new long[0];
+
+    private long version;
+
+    Standings(int teamCount) {
+        reset(teamCount);
+    }
+
+    /**
+     * Independent full rebuild from the ledger's entries, for verifying the incrementally kept standings.
+     */
+    public static Standings rebuiltFrom(ScoreLedger ledger) {
+        Standings fresh = new Standings(0);
+        fresh.rebuild(ledger);
+        return fresh;
+    }
+
+    public int teamCount() {
+        return teamCount;
+    }
+
+    /** Team at this rank (0 = leader). */
+    public int teamAt(int rank) {
+        return order[rank];
+    }
+
+    /** Rank of this team (0 = leader). */
+    public int rankOf(int teamIdx) {
+        return rankOf[teamIdx];
+    }
+
+    public long total(int teamIdx) {
+        return totals[teamIdx];
+    }
+
+    public int phaseReached(int teamIdx) {
+        return phaseReached[teamIdx];
+    }
+
+    /** Run tick of the team's latest score change, or -1 if it never scored. */
+    public long lastChangeTick(int teamIdx) {
+        return lastChangeTick[teamIdx];
+    }
+
+    /** Increases on every change of order or of any team's key. */
+    public long version() {
+        return version;
+    }
+
+    /** Copy of the current order (rank -> team). */
+    public int[] order() {
+        return Arrays.copyOf(order, teamCount);
+    }
+
+    /**
+     * The M8 comparator: negative if team a ranks before team b.
+     */
+    public int compare(int a, int b) {
+        if (totals[a] != totals[b]) return totals[a] > totals[b] ? -1 : 1;
+        if (phaseReached[a] != phaseReached[b]) return phaseReached[a] > phaseReached[b] ? -1 : 1;
+        if (lastChangeTick[a] != lastChangeTick[b]) return lastChangeTick[a] < lastChangeTick[b] ? -1 : 1;
+        return Integer.compare(a, b);
+    }
+
+    // ---------------------------------------------------------------------
+    // Maintenance (ScoreLedger only)
+    // ---------------------------------------------------------------------
+
+    /**
+     * One ledger entry touched this team: new total, the entry's tick and, for an award, the phase of the
+     * completed row (phase reached only ever grows). Moves the team to its new rank.
+     */
+    void onEntry(int teamIdx, long total, int phase, long runTick) {
+        if (teamIdx < 0 || teamIdx >= teamCount) return;
+
+        totals[teamIdx] = total;
+        if (phase > phaseReached[teamIdx]) phaseReached[teamIdx] = phase;
+        lastChangeTick[teamIdx] = runTick;
+
+        reposition(teamIdx);
+        version++;
+    }
+
+    /**
+     * Empty standings for this many teams (all tied: ordered by team index).
+     */
+    void reset(int newTeamCount) {
+        teamCount = Math.max(0, newTeamCount);
+        order = new int[teamCount];
+        rankOf = new int[teamCount];
+        totals = new long[teamCount];
+        phaseReached = new int[teamCount];
+        lastChangeTick = new long[teamCount];
+
+        for (int team = 0; team < teamCount; team++) {
+            order[team] = team;
+            rankOf[team] = team;
+        }
+        Arrays.fill(lastChangeTick, -1L);
+        version++;
+    }
+
+    /**
+     * Full rebuild from the ledger (load, team count change). Totals come from the ledger's accumulators,
+     * phase reached and last change tick from one pass over the entries.
+     */
+    void rebuild(ScoreLedger ledger) {
+        reset(ledger.teamCount());
+
+        for (int i = 0; i < ledger.size(); i++) {
+            int team = ledger.team(i);
+            long tick = ledger.tick(i);
+            if (team >= 0 && team < teamCount) {
+                lastChangeTick[team] = tick;
+                if (ledger.type(i) == ScoreEntryType.COMPLETION_AWARD) {
+                    phaseReached[team] = Math.max(phaseReached[team], TeamObjectiveTable.phaseOfRow(ledger.row(i)));
+                }
+            }
+            int other = ledger.other(i);
+            if (other >= 0 && other < teamCount) {
+                lastChangeTick[other] = tick;
+            }
+        }
+        for (int team = 0; team < teamCount; team++) {
+            totals[team] = ledger.total(team);
+        }
+
+        // Insertion sort of the identity order (few teams): ranks [0, r) are sorted when order[r] is inserted.
+        for (int r = 1; r < teamCount; r++) {
+            int team = order[r];
+            int k = r;
+            while (k > 0 && compare(team, order[k - 1]) < 0) {
+                order[k] = order[k - 1];
+                k--;
+            }
+            order[k] = team;
+        }
+        for (int r = 0; r < teamCount; r++) {
+            rankOf[order[r]] = r;
+        }
+        version++;
+    }
+
+    /**
+     * Moves one team to its correct rank, assuming every other team is already in order.
+     */
+    private void reposition(int teamIdx) {
+        int r = rankOf[teamIdx];
+
+        while (r > 0 && compare(teamIdx, order[r - 1]) < 0) {
+            order[r] = order[r - 1];
+            rankOf[order[r]] = r;
+            r--;
+        }
+        while (r < teamCount - 1 && compare(order[r + 1], teamIdx) < 0) {
+            order[r] = order[r + 1];
+            rankOf[order[r]] = r;
+            r++;
+        }
+
+        order[r] = teamIdx;
+        rankOf[teamIdx] = r;
+    }
+}
@@ -1,12 +1,13 @@
 package obviouslymisfit.cursed.state;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
-import obviouslymisfit.cursed.objectives.runtime.ObjectiveDefinition;
-import obviouslymisfit.cursed.objectives.runtime.ObjectiveSlot;
-import obviouslymisfit.cursed.objectives.runtime.TeamObjectiveState;
+import obviouslymisfit.cursed.curses.runtime.CurseState;
+import obviouslymisfit.cursed.curses.runtime.RotationSchedule;
+import obviouslymisfit.cursed.objectives.runtime.ObjectiveDefinitionTable;
+import obviouslymisfit.cursed.objectives.runtime.TeamObjectiveTable;
+import obviouslymisfit.cursed.platform.PlatformAnchor;
+import obviouslymisfit.cursed.scoring.runtime.ScoreLedger;
 
 
 /**
@@ -27,6 +28,12 @@ public final class GameState {
     public int phase = 0;          // 0 when IDLE, 1-5 when run exists
     public int episodeNumber = 0;  // 0 when IDLE
 
+    /**
+     * Ticks spent RUNNING since run start (frozen while PAUSED, 0 when IDLE).
+     * Run-relative schedules (curse rotation) are expressed in this clock.
+     */
+    public long runTicks = 0;
+
     // --- Teams (Chunk 3) ---
     public boolean teamsEnabled = false;
     public int teamCount = 0;
@@ -34,30 +41,67 @@ public final class GameState {
     /**
      * Maps player UUID -> team index (0..teamCount-1).
      * Empty when teams are not configured.
+     *
+     * Primitive open-addressing map; see PlayerTeamIndex. Online rosters are mirrored in teams.TeamRosters.
+     */
+    public PlayerTeamIndex playerTeams = new PlayerTeamIndex();
+
+    /**
+     * Per-team delivery chest anchor on the spawn platform, indexed by team (0..teamCount-1).
+     * Null entry = not configured yet. DELIVERY_CHEST cohesion measures from this anchor.
+     *
+     * Sized to teamCount; replaced when teams are reconfigured.
+     */
+    public PlatformAnchor[] teamChestAnchors = new PlatformAnchor[0];
+
+    /**
+     * Spawn platform anchor: every online player is moved here when a run is created or ends (see
+     * PlatformTeleporter). Null = not configured; nobody is moved. Kept across resets (world setup, not run data).
      */
-    public Map<UUID, Integer> playerTeams = new HashMap<>();
+    public PlatformAnchor spawnPlatform = null;
 
     // --- Runtime Objectives (Milestone 1) ---
     /**
      * Fully resolved objective definitions for the entire run.
      *
-     * Keyed by:
+     * Indexed densely by:
      *  - phase (1..5)
      *  - slotKey (PRIMARY, SECONDARY_1..N, TASK_1..M)
      *
      * Structure only in M1: generation/population happens in later steps.
      */
-    public Map<Integer, Map<ObjectiveSlot, ObjectiveDefinition>> objectiveDefinitions = new HashMap<>();
+    public ObjectiveDefinitionTable objectiveDefinitions = new ObjectiveDefinitionTable();
 
     /**
      * Per-team state for every objective instance.
      *
-     * Keyed by:
+     * Indexed densely by:
      *  - teamIndex (0..teamCount-1)  (M1 keeps team identity minimal)
      *  - phase
      *  - slotKey
+     *
+     * Sized to teamCount; keep it in sync when teams are reconfigured (see TeamObjectiveTable.resizeTeams).
+     */
+    public TeamObjectiveTable teamObjectiveStates = new TeamObjectiveTable(0);
+
+    // --- Curses (M5) ---
+    /**
+     * Active curse sets per owner (global, each team, each assigned player) plus repeat history.
+     * Generated at run start; empty when IDLE.
+     */
+    public CurseState curses = new CurseState();
+
+    /**
+     * Pending rotation of every owner's curse set, keyed on due runTicks (min-heap; see RotationSchedule).
+     */
+    public RotationSchedule curseRotations = new RotationSchedule();
+
+    // --- Scoring (M6) ---
+    /**
+     * Append-only score ledger with running per-team totals and breakdown (see ScoreLedger).
+     * Sized to teamCount; keep it in sync when teams are reconfigured (resizeTeams). Cleared on run start/reset.
      */
-    public Map<Integer, Map<Integer, Map<ObjectiveSlot, TeamObjectiveState>>> teamObjectiveStates = new HashMap<>();
+    public ScoreLedger scores = new ScoreLedger(0);
 
 
 
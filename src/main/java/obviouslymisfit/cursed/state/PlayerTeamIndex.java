@@ -0,0 +1,220 @@
+package obviouslymisfit.cursed.state;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Player UUID -> team index map (persisted run data).
+ *
+ * Why this exists instead of HashMap<UUID, Integer>:
+ * - Team lookups happen on hot paths (submissions, gather evaluation, curse ownership). A boxed map
+ *   allocates an Integer per put and an Entry per player, and unboxes on every get.
+ * - Team indices are tiny (0..7), so one byte per player is enough.
+ *
+ * Layout: open addressing with linear probing over three parallel arrays keyed on the UUID's two longs.
+ *  - msb[i], lsb[i]  the UUID halves
+ *  - team[i]         team index, or EMPTY for a free slot
+ * Removal uses backward-shift deletion, so there are no tombstones and probe chains never degrade.
+ * Capacity is a power of two and kept at most half full.
+ *
+ * This class is data only. Online-member rosters (the reverse index) live in teams.TeamRosters,
+ * which is rebuilt from this map and kept in sync on join, leave and assignment.
+ */
+public final class PlayerTeamIndex {
+
+    /** Returned by get(...) when a player has no team. */
+    public static final int NO_TEAM = -1;
+
+    private static final byte EMPTY = -1;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] msb;
+    private long[] lsb;
+    private byte[] team;
+    private int size;
+
+    // Runtime change counter (not persisted): lets caches keyed on team membership detect any reassignment.
+    private int modCount;
+
+    public PlayerTeamIndex() {
+        allocate(MIN_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        msb = new long[capacity];
+        lsb = new long[capacity];
+        team = new byte[capacity];
+        Arrays.fill(team, EMPTY);
+    }
+
+    /**
+     * Mixes both UUID halves into a well-spread slot index (murmur3 fmix64 finalizer).
+     */
+    private static int slotFor(long hi, long lo, int mask) {
+        long h = hi ^ Long.rotateLeft(lo, 32);
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    private int find(long hi, long lo) {
+        int mask = team.length - 1;
+        int i = slotFor(hi, lo, mask);
+        while (team[i] != EMPTY) {
+            if (msb[i] == hi && lsb[i] == lo) return i;
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Team index of the player, or NO_TEAM.
+     */
+    public int get(UUID player) {
+        return get(player.getMostSignificantBits(), player.getLeastSignificantBits());
+    }
+
+    public int get(long hi, long lo) {
+        int i = find(hi, lo);
+        return (i < 0) ? NO_TEAM : team[i];
+    }
+
+    public boolean contains(UUID player) {
+        return get(player) != NO_TEAM;
+    }
+
+    /**
+     * Assigns a team. Returns the previous team index or NO_TEAM.
+     */
+    public int put(UUID player, int teamIdx) {
+        if (teamIdx < 0 || teamIdx > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("team index out of range: " + teamIdx);
+        }
+
+        long hi = player.getMostSignificantBits();
+        long lo = player.getLeastSignificantBits();
+
+        int mask = team.length - 1;
+        int i = slotFor(hi, lo, mask);
+        while (team[i] != EMPTY) {
+            if (msb[i] == hi && lsb[i] == lo) {
+                int previous = team[i];
+                team[i] = (byte) teamIdx;
+                if (previous != teamIdx) modCount++;
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+
+        msb[i] = hi;
+        lsb[i] = lo;
+        team[i] = (byte) teamIdx;
+        size++;
+        modCount++;
+
+        // Keep load factor <= 0.5 so probe chains stay short.
+        if (size * 2 > team.length) {
+            rehash(team.length * 2);
+        }
+        return NO_TEAM;
+    }
+
+    /**
+     * Removes the player's assignment. Returns the previous team index or NO_TEAM.
+     */
+    public int remove(UUID player) {
+        int i = find(player.getMostSignificantBits(), player.getLeastSignificantBits());
+        if (i < 0) return NO_TEAM;
+
+        int previous = team[i];
+        size--;
+        modCount++;
+
+        // Backward-shift deletion: pull later entries of the same probe chain into the hole.
+        int mask = team.length - 1;
+        int hole = i;
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (team[j] == EMPTY) break;
+
+            int home = slotFor(msb[j], lsb[j], mask);
+            // Entry j may move into the hole only if its home slot is not cyclically in (hole, j].
+            boolean canMove = (hole <= j) ? (home <= hole || home > j) : (home <= hole && home > j);
+            if (canMove) {
+                msb[hole] = msb[j];
+                lsb[hole] = lsb[j];
+                team[hole] = team[j];
+                hole = j;
+            }
+        }
+        team[hole] = EMPTY;
+
+        return previous;
+    }
+
+    public void clear() {
+        if (team.length > MIN_CAPACITY) {
+            allocate(MIN_CAPACITY);
+        } else {
+            Arrays.fill(team, EMPTY);
+        }
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Incremented by every assignment change. Compare for equality only.
+     */
+    public int modCount() {
+        return modCount;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldMsb = msb;
+        long[] oldLsb = lsb;
+        byte[] oldTeam = team;
+
+        allocate(newCapacity);
+        int mask = newCapacity - 1;
+
+        for (int k = 0; k < oldTeam.length; k++) {
+            if (oldTeam[k] == EMPTY) continue;
+            int i = slotFor(oldMsb[k], oldLsb[k], mask);
+            while (team[i] != EMPTY) i = (i + 1) & mask;
+            msb[i] = oldMsb[k];
+            lsb[i] = oldLsb[k];
+            team[i] = oldTeam[k];
+        }
+    }
+
+    /**
+     * Visits every assignment (persistence, debug). Order is unspecified; callers needing stable output must sort.
+     */
+    public void forEach(EntryVisitor visitor) {
+        for (int i = 0; i < team.length; i++) {
+            if (team[i] != EMPTY) {
+                visitor.accept(new UUID(msb[i], lsb[i]), team[i]);
+            }
+        }
+    }
+
+    /**
+     * Primitive-friendly visitor (no boxed team index).
+     */
+    @FunctionalInterface
+    public interface EntryVisitor {
+        void accept(UUID player, int teamIdx);
+    }
+}
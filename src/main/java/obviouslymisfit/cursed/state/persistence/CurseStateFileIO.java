@@ -0,0 +1,459 @@
+package obviouslymisfit.cursed.state.persistence;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.annotations.SerializedName;
+import net.minecraft.server.MinecraftServer;
+
+import obviouslymisfit.cursed.Cursed;
+import obviouslymisfit.cursed.curses.runtime.CurseCategory;
+import obviouslymisfit.cursed.curses.runtime.CurseRule;
+import obviouslymisfit.cursed.curses.runtime.CurseState;
+import obviouslymisfit.cursed.curses.runtime.OwnerCurseSet;
+import obviouslymisfit.cursed.curses.runtime.RotationSchedule;
+import obviouslymisfit.cursed.state.GameState;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Dedicated persistence for curse state (M5 section 12), next to run_state.json.
+ *
+ * Why not run_state.json:
+ * - Every owner (each player, each team, global) carries active rules, rotation index, schedule and repeat history.
+ *   Pretty-printed per-rule objects with repeated block id strings would dominate run_state.json and be
+ *   rewritten in full on every save, although a rotation changes one owner.
+ *
+ * Files (<world>/data/cursed/):
+ *  - curse_state.json     compact snapshot: name tables (block ids, profile ids) + per-owner records using int indices
+ *  - curse_state.json.bak previous snapshot (single rollback, as run_state.json)
+ *  - curse_state.journal  append-only JSON lines, one owner record per line, written since the snapshot
+ *
+ * Owner record: k = owner key, r = rotation index, m = missed rotations, d = next rotation due tick (-1 none),
+ * a = active rules [block, profile, phase], h = history ring (oldest first) of block index lists.
+ *
+ * Save: only owners marked dirty in CurseState are appended; a line may extend the name tables (nb/np).
+ * A full snapshot is written (and the journal truncated) when the whole state changed (new run, reset, load
+ * of an older file) or the journal has grown past COMPACT_MIN_RECORDS / twice the owner count.
+ * Load: snapshot, then journal lines in order (last record per owner wins). Lines are tagged with the
+ * snapshot's generation, so a journal left over from another snapshot (e.g. after a .bak fallback) is ignored,
+ * and a torn final line from a crash is skipped. After any skipped line the next save writes a full snapshot
+ * (appending would join the next record onto the torn one, and that record would then be skipped too).
+ */
+public final class CurseStateFileIO {
+
+    private static final int FORMAT = 1;
+    private static final int COMPACT_MIN_RECORDS = 64;
+
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+    // Writer state: mirrors what is on disk for the current snapshot generation. Runtime only.
+    private static CurseState writtenFor = null;
+    private static long generation = 0;
+    private static int journalRecords = 0;
+    private static final NameTable blocks = new NameTable();
+    private static final NameTable profiles = new NameTable();
+
+    private CurseStateFileIO() {}
+
+    /**
+     * Persists curse changes since the last save (append), or a full snapshot when required.
+     */
+    public static void save(MinecraftServer server, GameState state) throws IOException {
+        Objects.requireNonNull(server, "server");
+        Objects.requireNonNull(state, "state");
+
+        CurseState curses = state.curses;
+        boolean full = curses != writtenFor
+                || curses.isAllDirty()
+                || journalRecords + curses.dirtyOwners().size() > Math.max(COMPACT_MIN_RECORDS, 2 * curses.size());
+
+        try {
+            if (full) {
+                writeSnapshot(server, state);
+            } else if (!curses.dirtyOwners().isEmpty()) {
+                appendJournal(server, state);
+            }
+        } catch (IOException e) {
+            // The name tables may now be ahead of the files: only a full snapshot is safe next time.
+            writtenFor = null;
+            throw e;
+        }
+
+        curses.clearDirty();
+    }
+
+    /**
+     * Restores curse sets and the rotation schedule into a freshly loaded state.
+     *
+     * Returns false (state untouched) if no curse file exists or it belongs to another run; the caller
+     * then keeps whatever run_state.json provided and the next save writes a fresh snapshot.
+     */
+    public static boolean load(MinecraftServer server, GameState state) throws IOException {
+        Path json = RunStateFilePaths.curseStateJson(server);
+        Path bak = RunStateFilePaths.curseStateBak(server);
+
+        Snapshot snapshot = null;
+        if (Files.exists(json)) {
+            try {
+                snapshot = readSnapshot(json);
+            } catch (IOException e) {
+                Cursed.LOGGER.warn("CURSED: curse_state.json invalid, trying .bak", e);
+            }
+        }
+        if (snapshot == null && Files.exists(bak)) {
+            snapshot = readSnapshot(bak);
+        }
+        if (snapshot == null) return false;
+
+        String runId = (state.runId == null) ? null : state.runId.toString();
+        if (!Objects.equals(runId, snapshot.runId)) {
+            Cursed.LOGGER.warn("CURSED: curse_state.json belongs to run {} (current {}), ignored", snapshot.runId, runId);
+            return false;
+        }
+
+        blocks.reset(snapshot.blocks);
+        profiles.reset(snapshot.profiles);
+
+        Map<String, OwnerRecord> records = new HashMap<>();
+        List<String> order = new ArrayList<>();
+        for (OwnerRecord record : snapshot.owners) {
+            if (records.put(record.key, record) == null) order.add(record.key);
+        }
+
+        int applied = 0;
+        boolean skipped = false;
+        Path journal = RunStateFilePaths.curseStateJournal(server);
+        if (Files.exists(journal)) {
+            for (String line : Files.readAllLines(journal, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) continue;
+
+                JournalLine entry;
+                try {
+                    entry = GSON.fromJson(line, JournalLine.class);
+                } catch (JsonParseException e) {
+                    Cursed.LOGGER.warn("CURSED: skipping unreadable curse journal line (torn write?)");
+                    skipped = true;
+                    continue;
+                }
+                if (entry == null || entry.owner == null || entry.generation != snapshot.generation) continue;
+
+                // Table extensions are positional: apply them even if the record itself is later superseded.
+                if (entry.newBlocks != null) entry.newBlocks.forEach(blocks::add);
+                if (entry.newProfiles != null) entry.newProfiles.forEach(profiles::add);
+
+                if (records.put(entry.owner.key, entry.owner) == null) order.add(entry.owner.key);
+                applied++;
+            }
+        }
+
+        CurseState curses = new CurseState();
+        RotationSchedule schedule = new RotationSchedule();
+        for (String key : order) {
+            OwnerRecord record = records.get(key);
+            curses.put(toSet(record));
+            if (record.due >= 0) schedule.schedule(key, record.due);
+        }
+        curses.clearDirty();
+
+        state.curses = curses;
+        state.curseRotations = schedule;
+
+        // null forces a snapshot on the next save, which also drops the damaged journal.
+        writtenFor = skipped ? null : curses;
+        generation = snapshot.generation;
+        journalRecords = applied;
+        return true;
+    }
+
+    /**
+     * Drops the writer state (server stop). The next save after a load continues from the loaded files.
+     */
+    public static void reset() {
+        writtenFor = null;
+        journalRecords = 0;
+        blocks.reset(List.of());
+        profiles.reset(List.of());
+    }
+
+    // ---------------------------------------------------------------------
+    // Writing
+    // ---------------------------------------------------------------------
+
+    private static void writeSnapshot(MinecraftServer server, GameState state) throws IOException {
+        Path dir = RunStateFilePaths.cursedDataDir(server);
+        Path json = RunStateFilePaths.curseStateJson(server);
+        Path tmp = RunStateFilePaths.curseStateTmp(server);
+        Path bak = RunStateFilePaths.curseStateBak(server);
+        Path journal = RunStateFilePaths.curseStateJournal(server);
+
+        Files.createDirectories(dir);
+
+        // Fresh tables: a snapshot never carries names no owner references any more.
+        blocks.reset(List.of());
+        profiles.reset(List.of());
+
+        Snapshot snapshot = new Snapshot();
+        snapshot.format = FORMAT;
+        snapshot.generation = generation + 1;
+        snapshot.runId = (state.runId == null) ? null : state.runId.toString();
+        state.curses.forEach(set -> snapshot.owners.add(toRecord(state, set)));
+        snapshot.blocks = blocks.names();
+        snapshot.profiles = profiles.names();
+
+        write(tmp, GSON.toJson(snapshot), false);
+        if (Files.exists(json)) {
+            Files.move(json, bak, StandardCopyOption.REPLACE_EXISTING);
+        }
+        try {
+            Files.move(tmp, json, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, json, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        // Old journal lines carry the previous generation and would be ignored anyway; drop them.
+        Files.deleteIfExists(journal);
+
+        writtenFor = state.curses;
+        generation = snapshot.generation;
+        journalRecords = 0;
+    }
+
+    private static void appendJournal(MinecraftServer server, GameState state) throws IOException {
+        StringBuilder out = new StringBuilder();
+
+        for (String key : state.curses.dirtyOwners()) {
+            OwnerCurseSet set = state.curses.get(key);
+            if (set == null) continue;
+
+            int blocksBefore = blocks.size();
+            int profilesBefore = profiles.size();
+
+            JournalLine line = new JournalLine();
+            line.generation = generation;
+            line.owner = toRecord(state, set);
+            if (blocks.size() > blocksBefore) line.newBlocks = blocks.names().subList(blocksBefore, blocks.size());
+            if (profiles.size() > profilesBefore) line.newProfiles = profiles.names().subList(profilesBefore, profiles.size());
+
+            out.append(GSON.toJson(line)).append('\n');
+            journalRecords++;
+        }
+
+        write(RunStateFilePaths.curseStateJournal(server), out.toString(), true);
+    }
+
+    private static void write(Path path, String payload, boolean append) throws IOException {
+        ByteBuffer buf = ByteBuffer.wrap(payload.getBytes(StandardCharsets.UTF_8));
+
+        StandardOpenOption mode = append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING;
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode)) {
+            while (buf.hasRemaining()) {
+                ch.write(buf);
+            }
+            // Best-effort durability, as run_state.json.
+            ch.force(true);
+        }
+    }
+
+    private static OwnerRecord toRecord(GameState state, OwnerCurseSet set) {
+        OwnerRecord record = new OwnerRecord();
+        record.key = CurseState.keyOf(set.getCategory(), set.getOwner());
+        record.rotationIndex = set.getRotationIndex();
+        record.missed = set.getMissedRotations();
+        record.due = state.curseRotations.dueOf(record.key);
+
+        for (CurseRule rule : set.getActive()) {
+            record.active.add(new int[] {
+                    blocks.indexOf(rule.getBlockId()),
+                    profiles.indexOf(rule.getEffectProfileId()),
+                    rule.getPhaseAssigned()
+            });
+        }
+
+        for (int i = 0; i < set.getHistory().size(); i++) {
+            List<String> entry = set.getHistory().get(i);
+            int[] ids = new int[entry.size()];
+            for (int j = 0; j < ids.length; j++) ids[j] = blocks.indexOf(entry.get(j));
+            record.history.add(ids);
+        }
+
+        return record;
+    }
+
+    // ---------------------------------------------------------------------
+    // Reading
+    // ---------------------------------------------------------------------
+
+    private static Snapshot readSnapshot(Path path) throws IOException {
+        Snapshot snapshot;
+        try {
+            snapshot = GSON.fromJson(Files.readString(path, StandardCharsets.UTF_8), Snapshot.class);
+        } catch (JsonParseException e) {
+            throw new IOException("Invalid JSON in " + path.getFileName(), e);
+        }
+
+        if (snapshot == null || snapshot.owners == null || snapshot.blocks == null || snapshot.profiles == null) {
+            throw new IOException("Incomplete curse state in " + path.getFileName());
+        }
+        if (snapshot.format != FORMAT) {
+            throw new IOException("Unsupported curse state format=" + snapshot.format + " (expected " + FORMAT + ") in " + path.getFileName());
+        }
+        return snapshot;
+    }
+
+    private static OwnerCurseSet toSet(OwnerRecord record) throws IOException {
+        CurseCategory category = categoryOf(record.key);
+        String owner = ownerOf(record.key);
+
+        OwnerCurseSet set = new OwnerCurseSet(category, owner);
+        set.setRotationIndex(record.rotationIndex);
+        set.setMissedRotations(record.missed);
+
+        if (record.history != null) {
+            for (int[] ids : record.history) {
+                List<String> entry = new ArrayList<>(ids.length);
+                for (int id : ids) entry.add(blocks.name(id));
+                set.getHistory().push(entry);
+            }
+        }
+
+        if (record.active != null) {
+            for (int[] rule : record.active) {
+                if (rule.length != 3) throw new IOException("Malformed curse rule for " + record.key);
+                set.getActive().add(new CurseRule(blocks.name(rule[0]), category, rule[2], profiles.name(rule[1]), owner));
+            }
+        }
+        return set;
+    }
+
+    private static CurseCategory categoryOf(String key) throws IOException {
+        if (key.equals(CurseState.globalKey())) return CurseCategory.GLOBAL;
+        if (key.startsWith("team:")) return CurseCategory.TEAM;
+        if (key.startsWith("player:")) return CurseCategory.PLAYER;
+        throw new IOException("Unknown curse owner key: " + key);
+    }
+
+    private static String ownerOf(String key) throws IOException {
+        if (key.equals(CurseState.globalKey())) return null;
+        String owner = key.substring(key.indexOf(':') + 1);
+        if (key.startsWith("player:")) {
+            try {
+                UUID.fromString(owner);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Invalid player in curse owner key: " + key, e);
+            }
+        }
+        return owner;
+    }
+
+    // ---------------------------------------------------------------------
+    // Serialized shapes
+    // ---------------------------------------------------------------------
+
+    /**
+     * Append-only name <-> index table. Indices are positions in the persisted name list.
+     */
+    private static final class NameTable {
+        private final List<String> names = new ArrayList<>();
+        private final Map<String, Integer> index = new HashMap<>();
+
+        void reset(List<String> initial) {
+            names.clear();
+            index.clear();
+            initial.forEach(this::add);
+        }
+
+        void add(String name) {
+            index.putIfAbsent(name, names.size());
+            names.add(name);
+        }
+
+        int indexOf(String name) {
+            Integer i = index.get(name);
+            if (i != null) return i;
+            add(name);
+            return names.size() - 1;
+        }
+
+        String name(int i) throws IOException {
+            if (i < 0 || i >= names.size()) throw new IOException("Curse state name index out of range: " + i);
+            return names.get(i);
+        }
+
+        List<String> names() {
+            return names;
+        }
+
+        int size() {
+            return names.size();
+        }
+    }
+
+    private static final class Snapshot {
+        @SerializedName("format")
+        int format;
+
+        @SerializedName("gen")
+        long generation;
+
+        @SerializedName("run_id")
+        String runId; // nullable
+
+        @SerializedName("blocks")
+        List<String> blocks = new ArrayList<>();
+
+        @SerializedName("profiles")
+        List<String> profiles = new ArrayList<>();
+
+        @SerializedName("owners")
+        List<OwnerRecord> owners = new ArrayList<>();
+    }
+
+    private static final class JournalLine {
+        @SerializedName("gen")
+        long generation;
+
+        @SerializedName("nb")
+        List<String> newBlocks; // nullable: table extensions introduced by this record
+
+        @SerializedName("np")
+        List<String> newProfiles; // nullable
+
+        @SerializedName("o")
+        OwnerRecord owner;
+    }
+
+    private static final class OwnerRecord {
+        @SerializedName("k")
+        String key;
+
+        @SerializedName("r")
+        int rotationIndex;
+
+        @SerializedName("m")
+        int missed;
+
+        @SerializedName("d")
+        long due = -1;
+
+        @SerializedName("a")
+        List<int[]> active = new ArrayList<>();
+
+        @SerializedName("h")
+        List<int[]> history = new ArrayList<>();
+    }
+}
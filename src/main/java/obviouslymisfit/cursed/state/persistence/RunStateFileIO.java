@@ -7,11 +7,20 @@ import com.google.gson.annotations.SerializedName;
 import net.minecraft.server.MinecraftServer;
 import obviouslymisfit.cursed.state.GameState;
 import obviouslymisfit.cursed.state.RunLifecycleState;
+import obviouslymisfit.cursed.curses.runtime.CurseCategory;
+import obviouslymisfit.cursed.curses.runtime.CurseRule;
+import obviouslymisfit.cursed.curses.runtime.CurseState;
+import obviouslymisfit.cursed.curses.runtime.OwnerCurseSet;
+import obviouslymisfit.cursed.curses.runtime.RotationSchedule;
 import obviouslymisfit.cursed.objectives.runtime.ObjectiveDefinition;
 import obviouslymisfit.cursed.objectives.runtime.ObjectiveSlot;
 import obviouslymisfit.cursed.objectives.runtime.TeamObjectiveState;
+import obviouslymisfit.cursed.objectives.runtime.TeamObjectiveTable;
+import obviouslymisfit.cursed.platform.PlatformAnchor;
+import obviouslymisfit.cursed.scoring.runtime.ScoreLedger;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.io.IOException;
@@ -228,6 +237,9 @@ public final class RunStateFileIO {
         @SerializedName("episode_number")
         int episodeNumber;
 
+        @SerializedName("run_ticks")
+        long runTicks;
+
         @SerializedName("teams_enabled")
         boolean teamsEnabled;
 
@@ -237,6 +249,14 @@ public final class RunStateFileIO {
         @SerializedName("player_teams")
         Map<String, Integer> playerTeams = new HashMap<>();
 
+        // teamIdx -> chest anchor (configured teams only)
+        @SerializedName("team_chest_anchors")
+        Map<Integer, PlatformAnchor> teamChestAnchors = new HashMap<>();
+
+        // null when no spawn platform is configured
+        @SerializedName("spawn_platform")
+        PlatformAnchor spawnPlatform;
+
         // Key: "phase:slot" (e.g. "3:SECONDARY_2")
         @SerializedName("objective_definitions")
         Map<String, ObjectiveDefinition> objectiveDefinitions = new HashMap<>();
@@ -245,6 +265,14 @@ public final class RunStateFileIO {
         @SerializedName("team_objective_states")
         Map<Integer, Map<String, TeamObjectiveState>> teamObjectiveStates = new HashMap<>();
 
+        // M5 (legacy, read-only): curse sets and rotation schedule now live in curse_state.json
+        // (CurseStateFileIO). Still read so worlds saved before the move keep their sets; never written.
+        @SerializedName("curses")
+        LegacyCurses curses;
+
+        @SerializedName("curse_rotations")
+        Map<String, Long> curseRotations;
+
         static PersistedState from(GameState s) {
             PersistedState p = new PersistedState();
 
@@ -252,51 +280,48 @@ public final class RunStateFileIO {
             p.lifecycleState = (s.lifecycleState == null) ? RunLifecycleState.IDLE.name() : s.lifecycleState.name();
             p.phase = s.phase;
             p.episodeNumber = s.episodeNumber;
+            p.runTicks = s.runTicks;
 
             p.teamsEnabled = s.teamsEnabled;
             p.teamCount = s.teamCount;
 
             // UUID -> String
             if (s.playerTeams != null) {
-                for (Map.Entry<UUID, Integer> e : s.playerTeams.entrySet()) {
-                    if (e.getKey() != null && e.getValue() != null) {
-                        p.playerTeams.put(e.getKey().toString(), e.getValue());
-                    }
+                s.playerTeams.forEach((uuid, teamIdx) -> p.playerTeams.put(uuid.toString(), teamIdx));
+            }
+
+            if (s.teamChestAnchors != null) {
+                for (int teamIdx = 0; teamIdx < s.teamChestAnchors.length; teamIdx++) {
+                    if (s.teamChestAnchors[teamIdx] != null) p.teamChestAnchors.put(teamIdx, s.teamChestAnchors[teamIdx]);
                 }
             }
 
-            // objectiveDefinitions: Map<Integer, Map<ObjectiveSlot, ObjectiveDefinition>> -> Map<String, ObjectiveDefinition>
+            p.spawnPlatform = s.spawnPlatform;
+
+            // objectiveDefinitions: dense [phase][slot] table -> Map<String, ObjectiveDefinition>
             if (s.objectiveDefinitions != null) {
-                for (Map.Entry<Integer, Map<ObjectiveSlot, ObjectiveDefinition>> byPhase : s.objectiveDefinitions.entrySet()) {
-                    Integer phase = byPhase.getKey();
-                    if (phase == null || byPhase.getValue() == null) continue;
-
-                    for (Map.Entry<ObjectiveSlot, ObjectiveDefinition> bySlot : byPhase.getValue().entrySet()) {
-                        if (bySlot.getKey() == null || bySlot.getValue() == null) continue;
-                        String key = phase + ":" + bySlot.getKey().name();
-                        p.objectiveDefinitions.put(key, bySlot.getValue());
-                    }
-                }
+                s.objectiveDefinitions.forEach(def -> {
+                    String key = def.getPhase() + ":" + def.getSlotKey().name();
+                    p.objectiveDefinitions.put(key, def);
+                });
             }
 
-            // teamObjectiveStates: Map<Integer, Map<Integer, Map<ObjectiveSlot, TeamObjectiveState>>>
+            // teamObjectiveStates: dense [team][phase][slot] table -> teamIdx -> "phase:slot" -> TeamObjectiveState
             if (s.teamObjectiveStates != null) {
-                for (Map.Entry<Integer, Map<Integer, Map<ObjectiveSlot, TeamObjectiveState>>> byTeam : s.teamObjectiveStates.entrySet()) {
-                    Integer teamIdx = byTeam.getKey();
-                    if (teamIdx == null || byTeam.getValue() == null) continue;
+                TeamObjectiveTable table = s.teamObjectiveStates;
 
+                for (int teamIdx = 0; teamIdx < table.teamCount(); teamIdx++) {
                     Map<String, TeamObjectiveState> flat = new HashMap<>();
-                    for (Map.Entry<Integer, Map<ObjectiveSlot, TeamObjectiveState>> byPhase : byTeam.getValue().entrySet()) {
-                        Integer phase = byPhase.getKey();
-                        if (phase == null || byPhase.getValue() == null) continue;
-
-                        for (Map.Entry<ObjectiveSlot, TeamObjectiveState> bySlot : byPhase.getValue().entrySet()) {
-                            if (bySlot.getKey() == null || bySlot.getValue() == null) continue;
-                            String key = phase + ":" + bySlot.getKey().name();
-                            flat.put(key, bySlot.getValue());
+
+                    for (int phase = 1; phase <= TeamObjectiveTable.PHASE_COUNT; phase++) {
+                        for (ObjectiveSlot slot : ObjectiveSlot.ordered()) {
+                            TeamObjectiveState teamState = table.get(teamIdx, phase, slot);
+                            if (teamState == null) continue;
+                            flat.put(phase + ":" + slot.name(), teamState);
                         }
                     }
 
+                    // Keep the previous shape: teams with no objective states are still listed (empty object).
                     p.teamObjectiveStates.put(teamIdx, flat);
                 }
             }
@@ -314,6 +339,7 @@ public final class RunStateFileIO {
 
             s.phase = phase;
             s.episodeNumber = episodeNumber;
+            s.runTicks = runTicks;
 
             s.teamsEnabled = teamsEnabled;
             s.teamCount = teamCount;
@@ -326,35 +352,75 @@ public final class RunStateFileIO {
                 }
             }
 
+            // Chest anchors: dense array sized to teamCount; out-of-range team index is corrupt data.
+            s.teamChestAnchors = new PlatformAnchor[Math.max(0, teamCount)];
+            if (teamChestAnchors != null) {
+                for (Map.Entry<Integer, PlatformAnchor> e : teamChestAnchors.entrySet()) {
+                    if (e.getKey() == null || e.getValue() == null) continue;
+                    if (e.getKey() < 0 || e.getKey() >= teamCount) {
+                        throw new IOException("Team chest anchor references team " + e.getKey() + " but team_count=" + teamCount);
+                    }
+                    s.teamChestAnchors[e.getKey()] = e.getValue();
+                }
+            }
+
+            s.spawnPlatform = spawnPlatform;
+
             // objective definitions: "phase:SLOT"
             if (objectiveDefinitions != null) {
                 for (Map.Entry<String, ObjectiveDefinition> e : objectiveDefinitions.entrySet()) {
                     if (e.getKey() == null || e.getValue() == null) continue;
 
                     KeyParts kp = KeyParts.parse(e.getKey());
-                    s.objectiveDefinitions
-                            .computeIfAbsent(kp.phase, __ -> new HashMap<>())
-                            .put(kp.slot, e.getValue());
+                    if (kp.phase != e.getValue().getPhase() || kp.slot != e.getValue().getSlotKey()) {
+                        throw new IOException("Objective key does not match definition: " + e.getKey());
+                    }
+                    s.objectiveDefinitions.put(e.getValue());
                 }
             }
 
             // team states: teamIdx -> "phase:SLOT" -> state
+            // The dense table is sized to teamCount; a persisted team index outside that range is corrupt data.
+            s.teamObjectiveStates = new TeamObjectiveTable(teamCount);
             if (teamObjectiveStates != null) {
                 for (Map.Entry<Integer, Map<String, TeamObjectiveState>> byTeam : teamObjectiveStates.entrySet()) {
                     Integer teamIdx = byTeam.getKey();
                     if (teamIdx == null || byTeam.getValue() == null) continue;
 
-                    Map<Integer, Map<ObjectiveSlot, TeamObjectiveState>> phaseMap = new HashMap<>();
+                    if (teamIdx < 0 || teamIdx >= teamCount) {
+                        throw new IOException("Team objective states reference team " + teamIdx + " but team_count=" + teamCount);
+                    }
+
                     for (Map.Entry<String, TeamObjectiveState> e : byTeam.getValue().entrySet()) {
                         if (e.getKey() == null || e.getValue() == null) continue;
 
                         KeyParts kp = KeyParts.parse(e.getKey());
-                        phaseMap
-                                .computeIfAbsent(kp.phase, __ -> new HashMap<>())
-                                .put(kp.slot, e.getValue());
+                        if (kp.phase < 1 || kp.phase > TeamObjectiveTable.PHASE_COUNT) {
+                            throw new IOException("Invalid objective key phase: " + e.getKey());
+                        }
+                        s.teamObjectiveStates.put(teamIdx, kp.phase, kp.slot, e.getValue());
                     }
+                }
+            }
+
+            // Score ledger lives in score_ledger.jsonl (ScoreLedgerFileIO); start empty, sized to the teams.
+            s.scores = new ScoreLedger(teamCount);
 
-                    s.teamObjectiveStates.put(teamIdx, phaseMap);
+            // Curse sets: legacy copy if present, replaced by StateStorage when curse_state.json exists.
+            s.curses = new CurseState();
+            if (curses != null && curses.sets != null) {
+                for (LegacyOwnerCurseSet legacy : curses.sets.values()) {
+                    if (legacy == null || legacy.category == null) continue;
+                    s.curses.put(legacy.toSet());
+                }
+            }
+
+            // Pending rotations resume exactly; entries for owners without a set are dropped when they come due.
+            s.curseRotations = new RotationSchedule();
+            if (curseRotations != null) {
+                for (Map.Entry<String, Long> e : curseRotations.entrySet()) {
+                    if (e.getKey() == null || e.getValue() == null) continue;
+                    s.curseRotations.schedule(e.getKey(), e.getValue());
                 }
             }
 
@@ -392,4 +458,29 @@ public final class RunStateFileIO {
         }
     }
 
+
+    /**
+     * Pre-curse_state.json shape of CurseState (Gson field names), for migration only.
+     */
+    private static final class LegacyCurses {
+        Map<String, LegacyOwnerCurseSet> sets;
+    }
+
+    private static final class LegacyOwnerCurseSet {
+        CurseCategory category;
+        String owner;
+        List<CurseRule> active;
+        List<String> previousBlockIds;
+        int rotationIndex;
+        int missedRotations;
+
+        OwnerCurseSet toSet() {
+            OwnerCurseSet set = new OwnerCurseSet(category, owner);
+            set.setRotationIndex(rotationIndex);
+            set.setMissedRotations(missedRotations);
+            if (previousBlockIds != null && !previousBlockIds.isEmpty()) set.getHistory().push(previousBlockIds);
+            if (active != null) set.getActive().addAll(active);
+            return set;
+        }
+    }
 }
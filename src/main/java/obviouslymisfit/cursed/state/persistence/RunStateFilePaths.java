@@ -15,6 +15,17 @@ import java.nio.file.Path;
  *      run_state.json.tmp
  *      run_state.json.bak
  *
+ * Curse state (M5 section 12), kept out of run_state.json (see CurseStateFileIO):
+ *      curse_state.json
+ *      curse_state.json.tmp
+ *      curse_state.json.bak
+ *      curse_state.journal
+ *
+ * Score ledger (M6), append-only JSON lines (see ScoreLedgerFileIO):
+ *      score_ledger.jsonl
+ *      score_ledger.jsonl.tmp
+ *      score_ledger.jsonl.bak
+ *
  * This class ONLY computes paths. It does not create directories or perform IO.
  */
 public final class RunStateFilePaths {
@@ -26,6 +37,15 @@ public final class RunStateFilePaths {
     private static final String FILE_RUN_STATE_TMP = "run_state.json.tmp";
     private static final String FILE_RUN_STATE_BAK = "run_state.json.bak";
 
+    private static final String FILE_CURSE_STATE = "curse_state.json";
+    private static final String FILE_CURSE_STATE_TMP = "curse_state.json.tmp";
+    private static final String FILE_CURSE_STATE_BAK = "curse_state.json.bak";
+    private static final String FILE_CURSE_JOURNAL = "curse_state.journal";
+
+    private static final String FILE_SCORE_LEDGER = "score_ledger.jsonl";
+    private static final String FILE_SCORE_LEDGER_TMP = "score_ledger.jsonl.tmp";
+    private static final String FILE_SCORE_LEDGER_BAK = "score_ledger.jsonl.bak";
+
     private RunStateFilePaths() {}
 
     /**
@@ -57,4 +77,53 @@ public final class RunStateFilePaths {
     public static Path runStateBak(MinecraftServer server) {
         return cursedDataDir(server).resolve(FILE_RUN_STATE_BAK);
     }
+
+    /**
+     * <world>/data/cursed/curse_state.json
+     */
+    public static Path curseStateJson(MinecraftServer server) {
+        return cursedDataDir(server).resolve(FILE_CURSE_STATE);
+    }
+
+    /**
+     * <world>/data/cursed/curse_state.json.tmp
+     */
+    public static Path curseStateTmp(MinecraftServer server) {
+        return cursedDataDir(server).resolve(FILE_CURSE_STATE_TMP);
+    }
+
+    /**
+     * <world>/data/cursed/curse_state.json.bak
+     */
+    public static Path curseStateBak(MinecraftServer server) {
+        return cursedDataDir(server).resolve(FILE_CURSE_STATE_BAK);
+    }
+
+    /**
+     * <world>/data/cursed/curse_state.journal
+     */
+    public static Path curseStateJournal(MinecraftServer server) {
+        return cursedDataDir(server).resolve(FILE_CURSE_JOURNAL);
+    }
+
+    /**
+     * <world>/data/cursed/score_ledger.jsonl
+     */
+    public static Path scoreLedger(MinecraftServer server) {
+        return cursedDataDir(server).resolve(FILE_SCORE_LEDGER);
+    }
+
+    /**
+     * <world>/data/cursed/score_ledger.jsonl.tmp
+     */
+    public static Path scoreLedgerTmp(MinecraftServer server) {
+        return cursedDataDir(server).resolve(FILE_SCORE_LEDGER_TMP);
+    }
+
+    /**
+     * <world>/data/cursed/score_ledger.jsonl.bak
+     */
+    public static Path scoreLedgerBak(MinecraftServer server) {
+        return cursedDataDir(server).resolve(FILE_SCORE_LEDGER_BAK);
+    }
 }
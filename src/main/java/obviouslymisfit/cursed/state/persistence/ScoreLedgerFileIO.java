@@ -0,0 +1,262 @@
+package obviouslymisfit.cursed.state.persistence;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.annotations.SerializedName;
+import net.minecraft.server.MinecraftServer;
+
+import obviouslymisfit.cursed.Cursed;
+import obviouslymisfit.cursed.scoring.runtime.ScoreEntryType;
+import obviouslymisfit.cursed.scoring.runtime.ScoreLedger;
+import obviouslymisfit.cursed.state.GameState;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Persistence of the score ledger (M6 section 4) as an append-only JSON lines file next to run_state.json.
+ *
+ * The ledger only ever grows during a run, so the file does too: a save appends the entries (and checkpoints)
+ * added since the previous save, which is usually one line. The file is rewritten in full (tmp -> replace,
+ * previous file kept as .bak) only when the ledger was replaced, cleared or edited in place (new run, reset,
+ * first save, teams removed: see ScoreLedger.revision).
+ *
+ * Lines (compact JSON, in ledger order):
+ *  - header      {"format":1,"run_id":...}             first line; a ledger for another run is ignored on load
+ *  - entry       {"e":[type,team,other,points,row,tick]}
+ *  - checkpoint  {"c":entriesCovered,"acc":[...]}       written right after the entry it follows
+ *
+ * Load reads the entries and checkpoints, then restores the totals from the last checkpoint plus the entries
+ * after it (ScoreLedger.restoreTotals), so the replay cost is bounded by CHECKPOINT_INTERVAL.
+ * A torn final line (crash during append) is skipped; the entry it held was never acknowledged by a save.
+ * The next save then rewrites the file in full: appending would join the new line onto the torn one.
+ */
+public final class ScoreLedgerFileIO {
+
+    private static final int FORMAT = 1;
+
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+    // Writer state: what the file on disk currently holds. Runtime only.
+    private static ScoreLedger writtenFor = null;
+    private static int writtenRevision = 0;
+    private static String writtenRunId = null;
+    private static int flushedEntries = 0;
+    private static int flushedCheckpoints = 0;
+
+    private ScoreLedgerFileIO() {}
+
+    /**
+     * Appends ledger entries added since the last save, or rewrites the file when the ledger was replaced.
+     */
+    public static void save(MinecraftServer server, GameState state) throws IOException {
+        Objects.requireNonNull(server, "server");
+        Objects.requireNonNull(state, "state");
+
+        ScoreLedger ledger = state.scores;
+        String runId = (state.runId == null) ? null : state.runId.toString();
+        Path file = RunStateFilePaths.scoreLedger(server);
+
+        boolean full = ledger != writtenFor
+                || ledger.revision() != writtenRevision
+                || !Objects.equals(runId, writtenRunId)
+                || ledger.size() < flushedEntries
+                || ledger.checkpointCount() < flushedCheckpoints
+                || !Files.exists(file);
+
+        try {
+            if (full) {
+                rewrite(server, ledger, runId);
+            } else if (ledger.size() > flushedEntries) {
+                StringBuilder out = new StringBuilder();
+                appendLines(out, ledger, flushedEntries, flushedCheckpoints);
+                write(file, out.toString(), true);
+            }
+        } catch (IOException e) {
+            // Unknown how much reached the disk: rewrite everything next time.
+            writtenFor = null;
+            throw e;
+        }
+
+        writtenFor = ledger;
+        writtenRevision = ledger.revision();
+        writtenRunId = runId;
+        flushedEntries = ledger.size();
+        flushedCheckpoints = ledger.checkpointCount();
+    }
+
+    /**
+     * Restores the ledger of the loaded run into state.scores (sized to state.teamCount).
+     *
+     * Returns false (state keeps an empty ledger) if there is no ledger file or it belongs to another run.
+     */
+    public static boolean load(MinecraftServer server, GameState state) throws IOException {
+        Path file = RunStateFilePaths.scoreLedger(server);
+        if (!Files.exists(file)) return false;
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        String runId = (state.runId == null) ? null : state.runId.toString();
+
+        Line header = lines.isEmpty() ? null : parse(lines.get(0));
+        if (header == null || header.format == null) {
+            throw new IOException("score_ledger.jsonl has no header line");
+        }
+        if (header.format != FORMAT) {
+            throw new IOException("Unsupported score ledger format=" + header.format + " (expected " + FORMAT + ")");
+        }
+        if (!Objects.equals(runId, header.runId)) {
+            Cursed.LOGGER.warn("CURSED: score_ledger.jsonl belongs to run {} (current {}), ignored", header.runId, runId);
+            return false;
+        }
+
+        ScoreLedger ledger = new ScoreLedger(state.teamCount);
+        boolean tornTail = false;
+        for (int i = 1; i < lines.size(); i++) {
+            String raw = lines.get(i);
+            if (raw.isBlank()) continue;
+
+            Line line = parse(raw);
+            if (line == null) {
+                if (i == lines.size() - 1) {
+                    Cursed.LOGGER.warn("CURSED: skipping torn last line of score_ledger.jsonl");
+                    tornTail = true;
+                    break;
+                }
+                throw new IOException("score_ledger.jsonl line " + (i + 1) + " is invalid");
+            }
+
+            if (line.entry != null) {
+                long[] e = line.entry;
+                if (e.length != 6) throw new IOException("score_ledger.jsonl line " + (i + 1) + " is not a ledger entry");
+                ledger.loadEntry(ScoreEntryType.fromOrdinal((int) e[0]), (int) e[1], (int) e[2], (int) e[3], (int) e[4], e[5]);
+            } else if (line.checkpoint != null && line.accumulators != null) {
+                ledger.loadCheckpoint(line.checkpoint, line.accumulators);
+            }
+        }
+        ledger.restoreTotals();
+
+        state.scores = ledger;
+
+        // A torn tail has no trailing newline: the file on disk is not a clean prefix to append to.
+        writtenFor = tornTail ? null : ledger;
+        writtenRevision = ledger.revision();
+        writtenRunId = runId;
+        flushedEntries = ledger.size();
+        flushedCheckpoints = ledger.checkpointCount();
+        return true;
+    }
+
+    /**
+     * Drops the writer state (server stop).
+     */
+    public static void reset() {
+        writtenFor = null;
+        writtenRevision = 0;
+        writtenRunId = null;
+        flushedEntries = 0;
+        flushedCheckpoints = 0;
+    }
+
+    // ---------------------------------------------------------------------
+    // Writing
+    // ---------------------------------------------------------------------
+
+    private static void rewrite(MinecraftServer server, ScoreLedger ledger, String runId) throws IOException {
+        Path dir = RunStateFilePaths.cursedDataDir(server);
+        Path file = RunStateFilePaths.scoreLedger(server);
+        Path tmp = RunStateFilePaths.scoreLedgerTmp(server);
+        Path bak = RunStateFilePaths.scoreLedgerBak(server);
+
+        Files.createDirectories(dir);
+
+        Line header = new Line();
+        header.format = FORMAT;
+        header.runId = runId;
+
+        StringBuilder out = new StringBuilder(GSON.toJson(header)).append('\n');
+        appendLines(out, ledger, 0, 0);
+
+        write(tmp, out.toString(), false);
+        if (Files.exists(file)) {
+            Files.move(file, bak, StandardCopyOption.REPLACE_EXISTING);
+        }
+        try {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Entries [fromEntry, size) with every checkpoint from index fromCheckpoint placed after the entry it covers.
+     */
+    private static void appendLines(StringBuilder out, ScoreLedger ledger, int fromEntry, int fromCheckpoint) {
+        int cp = fromCheckpoint;
+        for (int i = fromEntry; i < ledger.size(); i++) {
+            Line line = new Line();
+            line.entry = new long[] {
+                    ledger.type(i).ordinal(), ledger.team(i), ledger.other(i), ledger.points(i), ledger.row(i), ledger.tick(i)
+            };
+            out.append(GSON.toJson(line)).append('\n');
+
+            while (cp < ledger.checkpointCount() && ledger.checkpointAt(cp) == i + 1) {
+                Line checkpoint = new Line();
+                checkpoint.checkpoint = ledger.checkpointAt(cp);
+                checkpoint.accumulators = ledger.checkpointAccumulators(cp);
+                out.append(GSON.toJson(checkpoint)).append('\n');
+                cp++;
+            }
+        }
+    }
+
+    private static void write(Path path, String payload, boolean append) throws IOException {
+        ByteBuffer buf = ByteBuffer.wrap(payload.getBytes(StandardCharsets.UTF_8));
+
+        StandardOpenOption mode = append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING;
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode)) {
+            while (buf.hasRemaining()) {
+                ch.write(buf);
+            }
+            // Best-effort durability, as run_state.json.
+            ch.force(true);
+        }
+    }
+
+    private static Line parse(String raw) {
+        try {
+            return GSON.fromJson(raw, Line.class);
+        } catch (JsonParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * One line of the file; exactly one of the groups (header, entry, checkpoint) is set.
+     */
+    private static final class Line {
+        @SerializedName("format")
+        Integer format;
+
+        @SerializedName("run_id")
+        String runId; // nullable
+
+        @SerializedName("e")
+        long[] entry;
+
+        @SerializedName("c")
+        Integer checkpoint;
+
+        @SerializedName("acc")
+        long[] accumulators;
+    }
+}
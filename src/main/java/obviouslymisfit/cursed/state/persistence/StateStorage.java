@@ -3,10 +3,10 @@ package obviouslymisfit.cursed.state.persistence;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.world.level.saveddata.SavedDataType;
 import net.minecraft.util.datafix.DataFixTypes;
+import obviouslymisfit.cursed.objectives.runtime.TeamObjectiveTable;
 import obviouslymisfit.cursed.state.GameState;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Optional;
 
 public final class StateStorage {
@@ -14,12 +14,9 @@ public final class StateStorage {
     private static void initializeRuntimeObjectives(GameState state) {
         // Clear any existing data
         state.objectiveDefinitions.clear();
-        state.teamObjectiveStates.clear();
 
-        // Prepare empty per-team maps
-        for (int teamIdx = 0; teamIdx < state.teamCount; teamIdx++) {
-            state.teamObjectiveStates.put(teamIdx, new HashMap<>());
-        }
+        // Fresh dense table sized to the configured teams (all rows absent until generation fills them)
+        state.teamObjectiveStates = new TeamObjectiveTable(state.teamCount);
     }
 
     private StateStorage() {}
@@ -57,6 +54,13 @@ public final class StateStorage {
         try {
             Optional<GameState> loaded = RunStateFileIO.load(server);
             if (loaded.isPresent()) {
+                // Curse sets live in their own file; without one (older world), keep run_state's legacy copy
+                // and force a full curse snapshot on the next save.
+                if (!CurseStateFileIO.load(server, loaded.get())) {
+                    loaded.get().curses.markAllDirty();
+                }
+                // Score ledger (M6): empty if the run has none yet.
+                ScoreLedgerFileIO.load(server, loaded.get());
                 CursedSavedData data = getOrCreate(server);
                 data.set(loaded.get());
             }
@@ -82,6 +86,20 @@ public final class StateStorage {
             throw new RuntimeException("CURSED: failed to save run_state.json (atomic write).", e);
         }
 
+        // 1b) Curse state: changed owners only (see CurseStateFileIO)
+        try {
+            CurseStateFileIO.save(server, state);
+        } catch (IOException e) {
+            throw new RuntimeException("CURSED: failed to save curse_state.json.", e);
+        }
+
+        // 1c) Score ledger: entries appended since the last save (see ScoreLedgerFileIO)
+        try {
+            ScoreLedgerFileIO.save(server, state);
+        } catch (IOException e) {
+            throw new RuntimeException("CURSED: failed to save score_ledger.jsonl.", e);
+        }
+
         // 2) Keep existing behavior (authoritative in-memory source for the rest of the codebase)
         CursedSavedData data = getOrCreate(server);
         data.set(state);
@@ -0,0 +1,173 @@
+package obviouslymisfit.cursed.teams;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+
+import obviouslymisfit.cursed.state.GameState;
+import obviouslymisfit.cursed.state.PlayerTeamIndex;
+import obviouslymisfit.cursed.state.persistence.StateStorage;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Reverse team index: team index -> online ServerPlayer members (runtime only, never persisted).
+ *
+ * Why this exists:
+ * - "All online members of team N" is needed by TEAM_GATHER sums, cohesion checks and team-scoped messages.
+ *   Without a reverse index, every such query scans the whole player list and looks each player up.
+ *
+ * Rosters are copy-on-write arrays: a membership change replaces one team's array, so readers can iterate
+ * the array they got even if a player joins, leaves or is reassigned mid-iteration (e.g. a death
+ * handler that triggers a broadcast). Membership changes are rare compared to reads.
+ *
+ * Sync points (all on the server thread):
+ *  - onJoin / onLeave          connection events
+ *  - onRespawn                 respawn after death or leaving the End: vanilla replaces the ServerPlayer entity,
+ *                              so the roster must hold the new one (the old one is removed, its position,
+ *                              dimension and inventory frozen)
+ *  - onAssigned / onUnassigned team assignment commands
+ *  - rebuild                   state load, team reconfiguration
+ *
+ * The authoritative assignment is GameState.playerTeams; this class only mirrors it for online players.
+ */
+public final class TeamRosters {
+
+    private static final ServerPlayer[] NONE = new ServerPlayer[0];
+
+    private static ServerPlayer[][] rosters = new ServerPlayer[0][];
+
+    private TeamRosters() {}
+
+    /**
+     * Online members of a team. Callers must not mutate the returned array.
+     */
+    public static ServerPlayer[] members(int teamIdx) {
+        ServerPlayer[][] current = rosters;
+        if (teamIdx < 0 || teamIdx >= current.length) return NONE;
+        return current[teamIdx];
+    }
+
+    public static int memberCount(int teamIdx) {
+        return members(teamIdx).length;
+    }
+
+    /**
+     * Rebuilds every roster from the online player list and the authoritative assignments.
+     */
+    public static void rebuild(MinecraftServer server) {
+        GameState state = StateStorage.get(server);
+        int teamCount = Math.max(0, state.teamCount);
+
+        ServerPlayer[][] next = new ServerPlayer[teamCount][];
+        Arrays.fill(next, NONE);
+
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            int teamIdx = state.playerTeams.get(player.getUUID());
+            if (teamIdx >= 0 && teamIdx < teamCount) {
+                next[teamIdx] = append(next[teamIdx], player);
+            }
+        }
+
+        rosters = next;
+    }
+
+    /**
+     * Connection JOIN: add the player to their team's roster (if assigned).
+     */
+    public static void onJoin(MinecraftServer server, ServerPlayer player) {
+        GameState state = StateStorage.get(server);
+        ensureTeamCount(state.teamCount);
+
+        int teamIdx = state.playerTeams.get(player.getUUID());
+        if (teamIdx >= 0 && teamIdx < rosters.length) {
+            // Remove first in case a stale reference survived (e.g. reconnect before DISCONNECT was processed).
+            rosters[teamIdx] = append(without(rosters[teamIdx], player.getUUID()), player);
+        }
+    }
+
+    /**
+     * Connection DISCONNECT: drop the player from whichever roster holds them.
+     */
+    public static void onLeave(ServerPlayer player) {
+        removeEverywhere(player.getUUID());
+    }
+
+    /**
+     * ServerPlayerEvents.AFTER_RESPAWN: swaps the new player entity in for the old one, same roster slot.
+     */
+    public static void onRespawn(ServerPlayer oldPlayer, ServerPlayer newPlayer) {
+        UUID playerId = newPlayer.getUUID();
+        for (int t = 0; t < rosters.length; t++) {
+            ServerPlayer[] roster = rosters[t];
+            for (int i = 0; i < roster.length; i++) {
+                if (roster[i] == oldPlayer || roster[i].getUUID().equals(playerId)) {
+                    ServerPlayer[] next = roster.clone();
+                    next[i] = newPlayer;
+                    rosters[t] = next;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Assignment changed (command or API). Moves the player between rosters if they are online.
+     */
+    public static void onAssigned(MinecraftServer server, UUID playerId, int newTeamIdx) {
+        GameState state = StateStorage.get(server);
+        ensureTeamCount(state.teamCount);
+
+        removeEverywhere(playerId);
+
+        ServerPlayer online = server.getPlayerList().getPlayer(playerId);
+        if (online != null && newTeamIdx >= 0 && newTeamIdx < rosters.length) {
+            rosters[newTeamIdx] = append(rosters[newTeamIdx], online);
+        }
+    }
+
+    public static void onUnassigned(UUID playerId) {
+        removeEverywhere(playerId);
+    }
+
+    /**
+     * Drops every roster (server stop). Next rebuild starts from scratch.
+     */
+    public static void clear() {
+        rosters = new ServerPlayer[0][];
+    }
+
+    private static void ensureTeamCount(int teamCount) {
+        teamCount = Math.max(0, teamCount);
+        if (rosters.length == teamCount) return;
+
+        ServerPlayer[][] next = Arrays.copyOf(rosters, teamCount);
+        for (int i = rosters.length; i < teamCount; i++) next[i] = NONE;
+        rosters = next;
+    }
+
+    private static void removeEverywhere(UUID playerId) {
+        for (int t = 0; t < rosters.length; t++) {
+            rosters[t] = without(rosters[t], playerId);
+        }
+    }
+
+    private static ServerPlayer[] append(ServerPlayer[] roster, ServerPlayer player) {
+        ServerPlayer[] next = Arrays.copyOf(roster, roster.length + 1);
+        next[roster.length] = player;
+        return next;
+    }
+
+    private static ServerPlayer[] without(ServerPlayer[] roster, UUID playerId) {
+        for (int i = 0; i < roster.length; i++) {
+            if (roster[i].getUUID().equals(playerId)) {
+                if (roster.length == 1) return NONE;
+                ServerPlayer[] next = new ServerPlayer[roster.length - 1];
+                System.arraycopy(roster, 0, next, 0, i);
+                System.arraycopy(roster, i + 1, next, i, roster.length - i - 1);
+                return next;
+            }
+        }
+        return roster;
+    }
+}